@@ -58,12 +58,15 @@ object TestLibs {
 
         const val junit5 = "5.7.0"
         const val jsonAssert = "1.5.0"
+        const val jmh = "1.27"
     }
 
     const val junit5Api = "org.junit.jupiter:junit-jupiter-api:${Version.junit5}"
     const val junit5Engine = "org.junit.jupiter:junit-jupiter-engine:${Version.junit5}"
     const val junit5Vintage = "org.junit.vintage:junit-vintage-engine:${Version.junit5}"
     const val jsonAssert = "org.skyscreamer:jsonassert:${Version.jsonAssert}"
+    const val jmhCore = "org.openjdk.jmh:jmh-core:${Version.jmh}"
+    const val jmhGenerator = "org.openjdk.jmh:jmh-generator-annprocess:${Version.jmh}"
 }
 
 object VertxLibs {
@@ -66,3 +66,26 @@ sourceSets {
     }
 }
 
+
+val jmh: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations.getByName(jmh.implementationConfigurationName) {
+    extendsFrom(configurations.implementation.get())
+}
+
+dependencies {
+    "jmhImplementation"(TestLibs.jmhCore)
+    "jmhImplementation"(VertxLibs.rx2)
+    "jmhAnnotationProcessor"(TestLibs.jmhGenerator)
+}
+
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Run JMH benchmarks. Filter by -Pjmh.includes=<regex>"
+    classpath = jmh.runtimeClasspath
+    main = "org.openjdk.jmh.Main"
+    args = listOfNotNull(project.findProperty("jmh.includes") as String?)
+}
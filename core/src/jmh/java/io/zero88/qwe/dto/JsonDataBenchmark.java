@@ -0,0 +1,126 @@
+package io.zero88.qwe.dto;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.zero88.jpa.Sortable.Order;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.zero88.qwe.dto.jpa.Pagination;
+import io.zero88.qwe.dto.jpa.Sort;
+import io.zero88.qwe.dto.msg.RequestData;
+import io.zero88.qwe.event.EventAction;
+import io.zero88.qwe.event.EventMessage;
+import io.zero88.qwe.exceptions.ErrorCode;
+
+/**
+ * Compares the streaming {@link JsonData#toBuffer()} and {@link JsonData#from(Object, Class)} from buffer with the
+ * legacy {@code JsonObject} round-trip
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonDataBenchmark {
+
+    private EventMessage message;
+    private RequestData request;
+    private ErrorMessage error;
+    private Buffer messageWire;
+    private Buffer requestWire;
+    private Buffer errorWire;
+
+    @Setup
+    public void setup() {
+        final JsonArray items = new JsonArray();
+        for (int i = 0; i < 20; i++) {
+            items.add(new JsonObject().put("id", i).put("name", "item-" + i).put("enabled", i % 2 == 0));
+        }
+        request = RequestData.builder()
+                             .headers(new JsonObject().put("x-request-id", "abc"))
+                             .body(new JsonObject().put("items", items))
+                             .filter(new JsonObject().put("lang", "en"))
+                             .pagination(Pagination.builder().build())
+                             .sort(Sort.builder().item(Order.byASC("name")).item(Order.byDESC("id")).build())
+                             .build();
+        message = EventMessage.initial(EventAction.CREATE, request);
+        error = ErrorMessage.parse(ErrorCode.INVALID_ARGUMENT, "Invalid data format");
+        messageWire = message.toBuffer();
+        requestWire = request.toBuffer();
+        errorWire = error.toBuffer();
+    }
+
+    @Benchmark
+    public Buffer eventMessageJsonEncode() {
+        return message.toJson().toBuffer();
+    }
+
+    @Benchmark
+    public Buffer eventMessageStreamEncode() {
+        return message.toBuffer();
+    }
+
+    @Benchmark
+    public EventMessage eventMessageJsonDecode() {
+        return EventMessage.tryParse(new JsonObject(messageWire));
+    }
+
+    @Benchmark
+    public EventMessage eventMessageStreamDecode() {
+        return EventMessage.tryParse(messageWire);
+    }
+
+    @Benchmark
+    public Buffer requestDataJsonEncode() {
+        return request.toJson().toBuffer();
+    }
+
+    @Benchmark
+    public Buffer requestDataStreamEncode() {
+        return request.toBuffer();
+    }
+
+    @Benchmark
+    public RequestData requestDataJsonDecode() {
+        return JsonData.from(new JsonObject(requestWire), RequestData.class);
+    }
+
+    @Benchmark
+    public RequestData requestDataStreamDecode() {
+        return JsonData.from(requestWire, RequestData.class);
+    }
+
+    @Benchmark
+    public Buffer errorMessageJsonEncode() {
+        return error.toJson().toBuffer();
+    }
+
+    @Benchmark
+    public Buffer errorMessageStreamEncode() {
+        return error.toBuffer();
+    }
+
+    @Benchmark
+    public ErrorMessage errorMessageJsonDecode() {
+        return JsonData.from(new JsonObject(errorWire), ErrorMessage.class);
+    }
+
+    @Benchmark
+    public ErrorMessage errorMessageStreamDecode() {
+        return JsonData.from(errorWire, ErrorMessage.class);
+    }
+
+}
@@ -0,0 +1,89 @@
+package io.zero88.qwe.event;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.zero88.qwe.SharedDataLocalProxy;
+
+/**
+ * Measures request/response latency over the local event bus per {@link ExecutionMode}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventBusRequestBenchmark {
+
+    private static final String ADDRESS = "benchmark.execution.mode";
+
+    @Param({"EVENT_LOOP", "WORKER", "ORDERED_WORKER"})
+    public String mode;
+
+    private Vertx vertx;
+    private EventBusClient client;
+    private EventMessage message;
+
+    @Setup
+    public void setup() {
+        vertx = Vertx.vertx();
+        client = EventBusClient.create(SharedDataLocalProxy.create(vertx, EventBusRequestBenchmark.class.getName()));
+        client.register(ADDRESS, new Listener());
+        message = EventMessage.initial(EventAction.parse(mode), new JsonObject().put("id", 1));
+    }
+
+    @TearDown
+    public void tearDown() {
+        vertx.close();
+    }
+
+    @Benchmark
+    public EventMessage request() {
+        final CompletableFuture<EventMessage> result = new CompletableFuture<>();
+        client.request(ADDRESS, message).onComplete(ar -> {
+            if (ar.succeeded()) {
+                result.complete(ar.result());
+            } else {
+                result.completeExceptionally(ar.cause());
+            }
+        });
+        return result.join();
+    }
+
+    public static class Listener implements EventListener {
+
+        @EBContract(action = "EVENT_LOOP", mode = ExecutionMode.EVENT_LOOP)
+        public Future<JsonObject> eventLoop(@EBParam("id") int id) {
+            return Future.succeededFuture(new JsonObject().put("id", id));
+        }
+
+        @EBContract(action = "WORKER", mode = ExecutionMode.WORKER)
+        public Future<JsonObject> worker(@EBParam("id") int id) {
+            return Future.succeededFuture(new JsonObject().put("id", id));
+        }
+
+        @EBContract(action = "ORDERED_WORKER", mode = ExecutionMode.ORDERED_WORKER)
+        public Future<JsonObject> orderedWorker(@EBParam("id") int id) {
+            return Future.succeededFuture(new JsonObject().put("id", id));
+        }
+
+    }
+
+}
@@ -0,0 +1,84 @@
+package io.zero88.qwe.event;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.zero88.qwe.dto.msg.RequestData;
+
+/**
+ * Compares {@link EventMessageCodec} with the legacy json round-trip in local and clustered delivery
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventMessageCodecBenchmark {
+
+    private EventMessageCodec codec;
+    private EventMessage message;
+    private Buffer wire;
+    private Buffer jsonWire;
+
+    @Setup
+    public void setup() {
+        codec = new EventMessageCodec();
+        final JsonArray items = new JsonArray();
+        for (int i = 0; i < 20; i++) {
+            items.add(new JsonObject().put("id", i).put("name", "item-" + i).put("enabled", i % 2 == 0));
+        }
+        message = EventMessage.initial(EventAction.CREATE, RequestData.builder()
+                                                                      .body(new JsonObject().put("items", items))
+                                                                      .build());
+        wire = Buffer.buffer();
+        codec.encodeToWire(wire, message);
+        jsonWire = message.toJson().toBuffer();
+    }
+
+    @Benchmark
+    public EventMessage localJson() {
+        return EventMessage.tryParse(message.toJson());
+    }
+
+    @Benchmark
+    public EventMessage localCodec() {
+        return codec.transform(message);
+    }
+
+    @Benchmark
+    public Buffer clusteredJsonEncode() {
+        return message.toJson().toBuffer();
+    }
+
+    @Benchmark
+    public Buffer clusteredCodecEncode() {
+        final Buffer buffer = Buffer.buffer();
+        codec.encodeToWire(buffer, message);
+        return buffer;
+    }
+
+    @Benchmark
+    public EventMessage clusteredJsonDecode() {
+        return EventMessage.tryParse(new JsonObject(jsonWire));
+    }
+
+    @Benchmark
+    public EventMessage clusteredCodecDecode() {
+        return codec.decodeFromWire(0, wire);
+    }
+
+}
@@ -0,0 +1,85 @@
+package io.zero88.qwe.event.refl;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.zero88.repl.ReflectionMethod;
+
+/**
+ * Compares the legacy {@code Method.invoke} path with the {@code MethodHandle} invoker at 0, 1 and 4 parameters
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MethodInvokerBenchmark {
+
+    @Param({"0", "1", "4"})
+    public int paramCount;
+
+    private Listener listener;
+    private Method method;
+    private Object[] args;
+    private MethodInvoker handleInvoker;
+    private MethodInvoker reflectionInvoker;
+
+    @Setup
+    public void setup() throws Exception {
+        listener = new Listener();
+        switch (paramCount) {
+            case 0:
+                method = Listener.class.getMethod("zero");
+                args = new Object[] {};
+                break;
+            case 1:
+                method = Listener.class.getMethod("one", String.class);
+                args = new Object[] {"1"};
+                break;
+            default:
+                method = Listener.class.getMethod("four", String.class, int.class, long.class, Object.class);
+                args = new Object[] {"1", 2, 3L, listener};
+        }
+        handleInvoker = MethodHandleInvoker.create(method);
+        reflectionInvoker = new ReflectionInvoker(method);
+    }
+
+    @Benchmark
+    public Object reflectionMethod() {
+        return ReflectionMethod.execute(listener, method, args);
+    }
+
+    @Benchmark
+    public Object reflectionInvoker() throws Throwable {
+        return reflectionInvoker.invoke(listener, args);
+    }
+
+    @Benchmark
+    public Object methodHandleInvoker() throws Throwable {
+        return handleInvoker.invoke(listener, args);
+    }
+
+    public static class Listener {
+
+        public String zero() { return "0"; }
+
+        public String one(String s) { return s; }
+
+        public String four(String s, int i, long l, Object o) { return s; }
+
+    }
+
+}
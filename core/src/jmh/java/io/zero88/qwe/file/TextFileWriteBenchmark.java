@@ -0,0 +1,100 @@
+package io.zero88.qwe.file;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Compares the atomic write-temp-then-rename with the legacy delete-touch-write sequence of {@link
+ * TextFileOperatorImpl}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TextFileWriteBenchmark {
+
+    @Param({"1", "64", "1024"})
+    public int sizeInKB;
+
+    private Vertx vertx;
+    private TextFileOperator operator;
+    private Path dir;
+    private Buffer data;
+    private FileOption legacy;
+    private FileOption atomic;
+    private FileOption atomicFsync;
+
+    @Setup
+    public void setup() throws IOException {
+        vertx = Vertx.vertx();
+        operator = TextFileOperatorImpl.builder().vertx(vertx).build();
+        dir = Files.createTempDirectory("qwe-write-bench");
+        final JsonObject json = new JsonObject();
+        for (int i = 0, size = 2; size < sizeInKB * 1024; i++) {
+            final String key = "key-" + i;
+            final String value = "value-" + i;
+            json.put(key, value);
+            size += key.length() + value.length() + 6;
+        }
+        data = json.toBuffer();
+        legacy = FileOption.create();
+        atomic = FileOption.builder().atomicWrite(true).build();
+        atomicFsync = FileOption.builder().atomicWrite(true).fsync(true).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        vertx.fileSystem().deleteRecursiveBlocking(dir.toString(), true);
+        vertx.close();
+    }
+
+    @Benchmark
+    public Path deleteTouchWrite() {
+        return write(dir.resolve("legacy.json"), legacy);
+    }
+
+    @Benchmark
+    public Path atomicRename() {
+        return write(dir.resolve("atomic.json"), atomic);
+    }
+
+    @Benchmark
+    public Path atomicRenameWithFsync() {
+        return write(dir.resolve("atomic-fsync.json"), atomicFsync);
+    }
+
+    private Path write(Path path, FileOption option) {
+        final CompletableFuture<Path> result = new CompletableFuture<>();
+        operator.write(path, option, data).onComplete(ar -> {
+            if (ar.succeeded()) {
+                result.complete(ar.result());
+            } else {
+                result.completeExceptionally(ar.cause());
+            }
+        });
+        return result.join();
+    }
+
+}
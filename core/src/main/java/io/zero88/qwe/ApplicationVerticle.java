@@ -41,7 +41,11 @@ public abstract class ApplicationVerticle extends AbstractVerticle
         logger().info("Start Application[{}]...", appName());
         this.appConfig = computeConfig(config());
         this.addData(SharedDataLocalProxy.EVENTBUS_DELIVERY_OPTION_KEY,
-                     new EventBusDeliveryOption(this.appConfig.getDeliveryOptions()));
+                     new EventBusDeliveryOption(this.appConfig.getDeliveryOptions(),
+                                                this.appConfig.getAddressLimits(),
+                                                this.appConfig.getCoalesceActions(),
+                                                this.appConfig.getResponseCaches()));
+        this.appConfig.getMetrics().install(this);
         this.addData(SharedDataLocalProxy.PUBLIC_IPV4_KEY, NetworkUtils.getPublicIpv4());
         this.onStart();
     }
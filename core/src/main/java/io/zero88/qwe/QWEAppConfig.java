@@ -2,14 +2,26 @@ package io.zero88.qwe;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import io.github.zero88.utils.FileUtils;
 import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.zero88.qwe.IOtherConfig.HasOtherConfig;
+import io.zero88.qwe.dto.JsonData;
+import io.zero88.qwe.event.AddressLimitOptions;
+import io.zero88.qwe.event.EventAction;
+import io.zero88.qwe.event.EventBusDeliveryOption;
+import io.zero88.qwe.event.ResponseCacheOptions;
+import io.zero88.qwe.event.metrics.EventBusMetricsOptions;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
@@ -29,6 +41,30 @@ public final class QWEAppConfig extends HasOtherConfig<QWEAppConfig> implements
 
     public static final String NAME = "__app__";
     public static final String DELIVERY_OPTIONS = "__delivery__";
+    /**
+     * The key in {@link #DELIVERY_OPTIONS} of the limit options per EventBus address
+     *
+     * @see AddressLimitOptions
+     */
+    public static final String ADDRESS_LIMITS = "addressLimits";
+    /**
+     * The key in {@link #DELIVERY_OPTIONS} of the event actions that identical in-flight requests are coalesced
+     *
+     * @see EventBusDeliveryOption#isCoalesced(EventAction)
+     */
+    public static final String COALESCE_ACTIONS = "coalesceActions";
+    /**
+     * The key in {@link #DELIVERY_OPTIONS} of the response cache options per EventBus address
+     *
+     * @see ResponseCacheOptions
+     */
+    public static final String RESPONSE_CACHES = "responseCaches";
+    /**
+     * The key in {@link #DELIVERY_OPTIONS} of the EventBus metrics options
+     *
+     * @see EventBusMetricsOptions
+     */
+    public static final String METRICS = "metrics";
 
     public static final String DATA_DIR = "dataDir";
     public static final Path DEFAULT_DATADIR = FileUtils.defaultDatadir(".playio");
@@ -45,10 +81,40 @@ public final class QWEAppConfig extends HasOtherConfig<QWEAppConfig> implements
     @Getter
     @JsonIgnore
     private final DeliveryOptions deliveryOptions;
+    /**
+     * EventBus limit options per address
+     *
+     * @see AddressLimitOptions#ANY_ADDRESS
+     */
+    @Getter
+    @JsonIgnore
+    private final Map<String, AddressLimitOptions> addressLimits;
+    /**
+     * EventBus actions that identical in-flight requests are coalesced
+     */
+    @Getter
+    @JsonIgnore
+    private final Set<EventAction> coalesceActions;
+    /**
+     * EventBus response cache options per address
+     */
+    @Getter
+    @JsonIgnore
+    private final Map<String, ResponseCacheOptions> responseCaches;
+    /**
+     * EventBus metrics options
+     */
+    @Getter
+    @JsonIgnore
+    private final EventBusMetricsOptions metrics;
 
     public QWEAppConfig() {
         this.dataDir = DEFAULT_DATADIR;
         this.deliveryOptions = new DeliveryOptions();
+        this.addressLimits = new HashMap<>();
+        this.coalesceActions = new HashSet<>();
+        this.responseCaches = new HashMap<>();
+        this.metrics = EventBusMetricsOptions.disabled();
     }
 
     @JsonCreator
@@ -57,12 +123,39 @@ public final class QWEAppConfig extends HasOtherConfig<QWEAppConfig> implements
         this.dataDir = Optional.ofNullable(m.remove(QWEAppConfig.DATA_DIR))
                                .map(o -> Paths.get(o.toString()))
                                .orElse(DEFAULT_DATADIR);
-        this.deliveryOptions = Optional.ofNullable(m.remove(QWEAppConfig.DELIVERY_OPTIONS))
-                                       .map(o -> new DeliveryOptions(JsonObject.mapFrom(o)))
-                                       .orElseGet(DeliveryOptions::new);
+        final JsonObject delivery = Optional.ofNullable(m.remove(QWEAppConfig.DELIVERY_OPTIONS))
+                                            .map(JsonObject::mapFrom)
+                                            .orElseGet(JsonObject::new);
+        this.addressLimits = parseByAddress(delivery.remove(ADDRESS_LIMITS), AddressLimitOptions.class);
+        this.responseCaches = parseByAddress(delivery.remove(RESPONSE_CACHES), ResponseCacheOptions.class);
+        this.coalesceActions = parseActions(delivery.remove(COALESCE_ACTIONS));
+        this.metrics = Optional.ofNullable(delivery.remove(METRICS))
+                               .map(o -> JsonData.from(o, EventBusMetricsOptions.class))
+                               .orElseGet(EventBusMetricsOptions::disabled);
+        this.deliveryOptions = new DeliveryOptions(delivery);
         this.other.putAll(m);
     }
 
+    private static <T extends JsonData> Map<String, T> parseByAddress(Object byAddress, Class<T> clazz) {
+        final Map<String, T> map = new HashMap<>();
+        if (Objects.nonNull(byAddress)) {
+            JsonObject.mapFrom(byAddress).forEach(e -> map.put(e.getKey(), JsonData.from(e.getValue(), clazz)));
+        }
+        return map;
+    }
+
+    private static Set<EventAction> parseActions(Object actions) {
+        if (actions instanceof Collection) {
+            return ((Collection<?>) actions).stream()
+                                            .map(a -> EventAction.parse(Objects.toString(a)))
+                                            .collect(Collectors.toSet());
+        }
+        if (actions instanceof JsonArray) {
+            return parseActions(((JsonArray) actions).getList());
+        }
+        return new HashSet<>();
+    }
+
     @Override
     public String key() { return NAME; }
 
@@ -86,7 +179,26 @@ public final class QWEAppConfig extends HasOtherConfig<QWEAppConfig> implements
 
     @Override
     public JsonObject toJson(ObjectMapper mapper) {
-        return super.toJson(mapper).put(DELIVERY_OPTIONS, this.deliveryOptions.toJson());
+        final JsonObject delivery = this.deliveryOptions.toJson();
+        if (!addressLimits.isEmpty()) {
+            final JsonObject limits = new JsonObject();
+            addressLimits.forEach((address, limit) -> limits.put(address, limit.toJson()));
+            delivery.put(ADDRESS_LIMITS, limits);
+        }
+        if (!responseCaches.isEmpty()) {
+            final JsonObject caches = new JsonObject();
+            responseCaches.forEach((address, cache) -> caches.put(address, cache.toJson()));
+            delivery.put(RESPONSE_CACHES, caches);
+        }
+        if (!coalesceActions.isEmpty()) {
+            delivery.put(COALESCE_ACTIONS, coalesceActions.stream()
+                                                          .map(EventAction::action)
+                                                          .collect(JsonArray::new, JsonArray::add, JsonArray::addAll));
+        }
+        if (metrics.isEnabled()) {
+            delivery.put(METRICS, metrics.toJson());
+        }
+        return super.toJson(mapper).put(DELIVERY_OPTIONS, delivery);
     }
 
 }
@@ -17,6 +17,12 @@ public interface SharedDataLocalProxy extends HasSharedKey {
      * @see EventBusClient
      */
     String EVENTBUS_DELIVERY_OPTION_KEY = "EVENTBUS_OPTION";
+    /**
+     * Data key for EventBus metrics
+     *
+     * @see io.zero88.qwe.event.metrics.EventBusMetrics
+     */
+    String EVENTBUS_METRICS_KEY = "EVENTBUS_METRICS";
     String PUBLIC_IPV4_KEY = "PUBLIC_IPV4";
 
     Vertx getVertx();
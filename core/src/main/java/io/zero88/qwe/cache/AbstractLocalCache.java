@@ -1,10 +1,7 @@
 package io.zero88.qwe.cache;
 
-import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 
 import org.slf4j.Logger;
@@ -22,12 +19,20 @@ import lombok.experimental.Accessors;
 public abstract class AbstractLocalCache<K, V, C extends AbstractLocalCache> implements LocalCache<K, V> {
 
     protected final Logger logger = LoggerFactory.getLogger(this.getClass());
-    private final ConcurrentMap<K, V> cache = new ConcurrentHashMap<>();
+    private final BoundedLocalCache<K, V> cache;
     private Function<K, V> discover;
 
+    protected AbstractLocalCache() {
+        this(CacheOptions.unbounded());
+    }
+
+    protected AbstractLocalCache(@NonNull CacheOptions options) {
+        this.cache = new BoundedLocalCache<>(options);
+    }
+
     @Override
     public V get(@NonNull K key) {
-        V val = cache.get(key);
+        V val = cache.getIfPresent(key);
         if (Objects.isNull(discover)) {
             return val;
         }
@@ -42,7 +47,8 @@ public abstract class AbstractLocalCache<K, V, C extends AbstractLocalCache> imp
             logger.debug("Find {} by {}:{} then put into cache", valueLabel(), keyLabel(),
                          key instanceof JsonData ? ((JsonData) key).toJson() : key);
         }
-        return cache.computeIfAbsent(key, discover);
+        final V found = discover.apply(key);
+        return Objects.isNull(found) ? null : cache.putIfAbsent(key, found);
     }
 
     @Override
@@ -52,7 +58,7 @@ public abstract class AbstractLocalCache<K, V, C extends AbstractLocalCache> imp
 
     @Override
     public Map<K, V> all() {
-        return Collections.unmodifiableMap(cache);
+        return cache.all();
     }
 
     @Override
@@ -62,6 +68,13 @@ public abstract class AbstractLocalCache<K, V, C extends AbstractLocalCache> imp
         return (C) this;
     }
 
+    /**
+     * @return the cache statistics
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
     @NonNull
     protected abstract String keyLabel();
 
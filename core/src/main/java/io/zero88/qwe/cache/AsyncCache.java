@@ -0,0 +1,33 @@
+package io.zero88.qwe.cache;
+
+import java.util.function.Function;
+
+import io.vertx.codegen.annotations.Nullable;
+import io.vertx.core.Future;
+
+import lombok.NonNull;
+
+/**
+ * A cache that reads and writes asynchronously, e.g: a cluster-wide cache
+ *
+ * @param <K> Type of key
+ * @param <V> Type of value
+ * @see ClusterNearCache
+ */
+public interface AsyncCache<K, V> extends Cache {
+
+    Future<@Nullable V> get(@NonNull K key);
+
+    Future<Void> put(@NonNull K key, @NonNull V value);
+
+    Future<@Nullable V> remove(@NonNull K key);
+
+    /**
+     * Register a non-blocking loader that is called when a key is absent
+     *
+     * @param loader loader
+     * @return a reference to this for fluent API
+     */
+    AsyncCache<K, V> register(Function<K, Future<V>> loader);
+
+}
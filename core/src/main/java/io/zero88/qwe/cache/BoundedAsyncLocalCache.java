@@ -0,0 +1,160 @@
+package io.zero88.qwe.cache;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+import lombok.NonNull;
+
+/**
+ * An {@link AsyncLocalCache} that loads values by a non-blocking loader.
+ * <p>
+ * The concurrent loads of the same key are de-duplicated, then every caller receives the same result. A failed or
+ * {@code null} load is not cached. When {@link CacheOptions#getRefreshAfterWrite()} is set, an old entry is reloaded
+ * in background on read while the current value is still served; a failed reload keeps the current value.
+ * <p>
+ * A {@link #put(Object, Object)} or {@link #remove(Object)} detaches the in-flight load of the same key, then the
+ * detached load still completes its callers but its value is never stored, so a load that is started before an
+ * invalidation never brings a stale value back.
+ * <p>
+ * The completed values are kept in a {@link BoundedLocalCache} by the same {@link CacheOptions}.
+ *
+ * @param <K> Type of key
+ * @param <V> Type of value
+ */
+public class BoundedAsyncLocalCache<K, V> implements AsyncLocalCache<K, V> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BoundedAsyncLocalCache.class);
+
+    private final BoundedLocalCache<K, Loaded<V>> values;
+    private final Map<K, Future<V>> loading = new ConcurrentHashMap<>();
+    private final LongSupplier ticker;
+    private final long refreshAfterWriteNanos;
+    private volatile Function<K, Future<V>> loader;
+
+    public BoundedAsyncLocalCache(@NonNull CacheOptions options) {
+        this(options, System::nanoTime);
+    }
+
+    BoundedAsyncLocalCache(@NonNull CacheOptions options, @NonNull LongSupplier ticker) {
+        this.values = new BoundedLocalCache<>(options, ticker);
+        this.ticker = ticker;
+        this.refreshAfterWriteNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, options.getRefreshAfterWrite()));
+    }
+
+    @Override
+    public Future<V> get(@NonNull K key) {
+        final Loaded<V> loaded = values.getIfPresent(key);
+        if (Objects.isNull(loaded)) {
+            return load(key);
+        }
+        if (refreshAfterWriteNanos > 0 && ticker.getAsLong() - loaded.loadedAt >= refreshAfterWriteNanos) {
+            load(key).onFailure(t -> LOGGER.debug("Failed to refresh cache entry [{}]", key, t));
+        }
+        return Future.succeededFuture(loaded.value);
+    }
+
+    /**
+     * Put a value
+     *
+     * @param key   key
+     * @param value value, {@code null} means remove
+     * @return a reference to this for fluent API
+     */
+    public BoundedAsyncLocalCache<K, V> put(@NonNull K key, V value) {
+        synchronized (this) {
+            loading.remove(key);
+            values.add(key, Objects.isNull(value) ? null : new Loaded<>(value, ticker.getAsLong()));
+        }
+        return this;
+    }
+
+    @Override
+    public Future<V> remove(@NonNull K key) {
+        final Loaded<V> removed;
+        synchronized (this) {
+            loading.remove(key);
+            removed = values.remove(key);
+        }
+        return Future.succeededFuture(Objects.isNull(removed) ? null : removed.value);
+    }
+
+    @Override
+    public Map<K, Future<V>> all() {
+        return Collections.unmodifiableMap(values.all()
+                                                 .entrySet()
+                                                 .stream()
+                                                 .collect(Collectors.toMap(Map.Entry::getKey,
+                                                                           e -> Future.succeededFuture(
+                                                                               e.getValue().value))));
+    }
+
+    @Override
+    public BoundedAsyncLocalCache<K, V> register(Function<K, Future<V>> loader) {
+        this.loader = loader;
+        return this;
+    }
+
+    /**
+     * @return the cache statistics
+     */
+    public CacheStats stats() {
+        return values.stats();
+    }
+
+    private Future<V> load(K key) {
+        final Function<K, Future<V>> fn = loader;
+        if (Objects.isNull(fn)) {
+            return Future.succeededFuture();
+        }
+        final Promise<V> promise = Promise.promise();
+        final Future<V> inFlight = loading.putIfAbsent(key, promise.future());
+        if (Objects.nonNull(inFlight)) {
+            return inFlight;
+        }
+        Future<V> future;
+        try {
+            future = Objects.requireNonNull(fn.apply(key), "Cache loader must return a future");
+        } catch (RuntimeException e) {
+            future = Future.failedFuture(e);
+        }
+        future.onComplete(ar -> {
+            store(key, promise.future(), ar.succeeded() ? ar.result() : null);
+            promise.handle(ar);
+        });
+        return promise.future();
+    }
+
+    /**
+     * Store the loaded value if its load is not detached by a put or a remove of the same key
+     */
+    private synchronized void store(K key, Future<V> load, V value) {
+        if (loading.remove(key, load) && Objects.nonNull(value)) {
+            values.add(key, new Loaded<>(value, ticker.getAsLong()));
+        }
+    }
+
+    private static final class Loaded<V> {
+
+        private final V value;
+        private final long loadedAt;
+
+        private Loaded(V value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+
+    }
+
+}
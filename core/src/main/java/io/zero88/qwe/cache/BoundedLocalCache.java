@@ -0,0 +1,436 @@
+package io.zero88.qwe.cache;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import io.zero88.qwe.cache.CacheOptions.EvictionPolicy;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+
+/**
+ * A {@link LocalDataCache} with a maximum size, expiration and statistics.
+ * <p>
+ * With {@link EvictionPolicy#LRU}, the least recently used entry is evicted. With {@link EvictionPolicy#W_TINY_LFU},
+ * a new entry is kept in an LRU window of {@code 1%} of maximum size. An entry that leaves the window competes with
+ * the victim of the main space, that is a segmented LRU with probation and protected segments, then the one is used
+ * less frequently is evicted. The frequency is estimated by a count-min sketch.
+ * <p>
+ * An expired entry is removed lazily when it is read, or by {@link #cleanUp()}. All operations are guarded by one
+ * lock, the discover function is called outside the lock then the first loaded value wins. If the cache is neither
+ * bounded nor expired, there is no access order to keep, then entries are kept in a lock-free {@link
+ * ConcurrentHashMap} instead.
+ *
+ * @param <K> Type of key
+ * @param <V> Type of value
+ * @see CacheOptions
+ */
+public class BoundedLocalCache<K, V> implements LocalDataCache<K, V> {
+
+    @Getter
+    @Accessors(fluent = true)
+    private final CacheOptions options;
+    private final LongSupplier ticker;
+    private final long expireAfterWriteNanos;
+    private final long expireAfterAccessNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<K, Node<K, V>> data = new HashMap<>();
+    private final AccessOrder<K, V> window = new AccessOrder<>();
+    private final AccessOrder<K, V> probation = new AccessOrder<>();
+    private final AccessOrder<K, V> protect = new AccessOrder<>();
+    private final FrequencySketch sketch;
+    private final long windowMax;
+    private final long protectedMax;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    /**
+     * The lock-free storage of an unbounded cache without expiration, {@code null} otherwise
+     */
+    private final ConcurrentMap<K, V> unbounded;
+    private volatile Function<K, V> discover;
+
+    public BoundedLocalCache(@NonNull CacheOptions options) {
+        this(options, System::nanoTime);
+    }
+
+    BoundedLocalCache(@NonNull CacheOptions options, @NonNull LongSupplier ticker) {
+        this.options = options;
+        this.ticker = ticker;
+        this.expireAfterWriteNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, options.getExpireAfterWrite()));
+        this.expireAfterAccessNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, options.getExpireAfterAccess()));
+        final long max = options.getMaximumSize();
+        final boolean lfu = options.isBounded() && options.getPolicy() == EvictionPolicy.W_TINY_LFU;
+        this.sketch = lfu ? new FrequencySketch(max) : null;
+        this.windowMax = lfu ? Math.max(1, max / 100) : Long.MAX_VALUE;
+        this.protectedMax = lfu ? (max - windowMax) * 4 / 5 : 0;
+        final boolean expirable = expireAfterWriteNanos > 0 || expireAfterAccessNanos > 0;
+        this.unbounded = options.isBounded() || expirable ? null : new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public V get(@NonNull K key) {
+        final V value = getIfPresent(key);
+        final Function<K, V> loader = discover;
+        if (Objects.nonNull(value) || Objects.isNull(loader)) {
+            return value;
+        }
+        final V loaded = loader.apply(key);
+        return Objects.isNull(loaded) ? null : putIfAbsent(key, loaded);
+    }
+
+    /**
+     * Get the value of given key without discovering
+     *
+     * @param key key
+     * @return the value, or {@code null} if absent or expired
+     */
+    public V getIfPresent(@NonNull K key) {
+        if (Objects.nonNull(unbounded)) {
+            final V value = unbounded.get(key);
+            (Objects.isNull(value) ? misses : hits).increment();
+            return value;
+        }
+        final long now = ticker.getAsLong();
+        lock.lock();
+        try {
+            final Node<K, V> node = data.get(key);
+            if (Objects.nonNull(node) && !isExpired(node, now)) {
+                hits.increment();
+                onAccess(node, now);
+                return node.value;
+            }
+            if (Objects.nonNull(node)) {
+                evict(node);
+            }
+            misses.increment();
+            if (Objects.nonNull(sketch)) {
+                sketch.increment(key);
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Put value if given key is absent or expired
+     *
+     * @param key   key
+     * @param value value
+     * @return the current value
+     */
+    public V putIfAbsent(@NonNull K key, @NonNull V value) {
+        if (Objects.nonNull(unbounded)) {
+            final V current = unbounded.putIfAbsent(key, value);
+            return Objects.isNull(current) ? value : current;
+        }
+        final long now = ticker.getAsLong();
+        lock.lock();
+        try {
+            final Node<K, V> node = data.get(key);
+            if (Objects.nonNull(node) && !isExpired(node, now)) {
+                onAccess(node, now);
+                return node.value;
+            }
+            put(key, value, now);
+            return value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public BoundedLocalCache<K, V> add(@NonNull K key, V value) {
+        if (Objects.isNull(value)) {
+            remove(key);
+            return this;
+        }
+        if (Objects.nonNull(unbounded)) {
+            unbounded.put(key, value);
+            return this;
+        }
+        final long now = ticker.getAsLong();
+        lock.lock();
+        try {
+            put(key, value, now);
+            return this;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public V remove(@NonNull K key) {
+        if (Objects.nonNull(unbounded)) {
+            return unbounded.remove(key);
+        }
+        lock.lock();
+        try {
+            final Node<K, V> node = data.remove(key);
+            if (Objects.isNull(node)) {
+                return null;
+            }
+            unlink(node);
+            return node.value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Map<K, V> all() {
+        if (Objects.nonNull(unbounded)) {
+            return Collections.unmodifiableMap(unbounded);
+        }
+        final long now = ticker.getAsLong();
+        lock.lock();
+        try {
+            final Map<K, V> all = new LinkedHashMap<>();
+            data.forEach((k, node) -> {
+                if (!isExpired(node, now)) {
+                    all.put(k, node.value);
+                }
+            });
+            return Collections.unmodifiableMap(all);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public BoundedLocalCache<K, V> register(Function<K, V> discover) {
+        this.discover = discover;
+        return this;
+    }
+
+    /**
+     * Remove all entries
+     */
+    public void invalidateAll() {
+        if (Objects.nonNull(unbounded)) {
+            unbounded.clear();
+            return;
+        }
+        lock.lock();
+        try {
+            data.clear();
+            window.clear();
+            probation.clear();
+            protect.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove all expired entries
+     */
+    public void cleanUp() {
+        if (expireAfterWriteNanos == 0 && expireAfterAccessNanos == 0) {
+            return;
+        }
+        final long now = ticker.getAsLong();
+        lock.lock();
+        try {
+            data.values().removeIf(node -> {
+                if (!isExpired(node, now)) {
+                    return false;
+                }
+                unlink(node);
+                evictions.increment();
+                return true;
+            });
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of entries, includes the expired entries are not yet cleaned up
+     */
+    public long size() {
+        if (Objects.nonNull(unbounded)) {
+            return unbounded.size();
+        }
+        lock.lock();
+        try {
+            return data.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), size());
+    }
+
+    private boolean isExpired(Node<K, V> node, long now) {
+        return expireAfterWriteNanos > 0 && now - node.writeTime >= expireAfterWriteNanos ||
+               expireAfterAccessNanos > 0 && now - node.accessTime >= expireAfterAccessNanos;
+    }
+
+    private void put(K key, V value, long now) {
+        final Node<K, V> node = data.get(key);
+        if (Objects.nonNull(node)) {
+            node.value = value;
+            node.writeTime = now;
+            onAccess(node, now);
+            return;
+        }
+        final Node<K, V> created = new Node<>(key, value, now);
+        data.put(key, created);
+        window.addLast(created);
+        if (Objects.nonNull(sketch)) {
+            sketch.increment(key);
+        }
+        evictIfNeeded();
+    }
+
+    private void onAccess(Node<K, V> node, long now) {
+        node.accessTime = now;
+        if (Objects.nonNull(sketch)) {
+            sketch.increment(node.key);
+        }
+        if (node.queue == window) {
+            window.moveToLast(node);
+        } else if (node.queue == probation) {
+            probation.remove(node);
+            protect.addLast(node);
+            while (protect.size > protectedMax) {
+                final Node<K, V> demoted = protect.head;
+                protect.remove(demoted);
+                probation.addLast(demoted);
+            }
+        } else {
+            protect.moveToLast(node);
+        }
+    }
+
+    private void evictIfNeeded() {
+        if (!options.isBounded()) {
+            return;
+        }
+        final long max = options.getMaximumSize();
+        if (Objects.isNull(sketch)) {
+            while (data.size() > max) {
+                evict(window.head);
+            }
+            return;
+        }
+        while (window.size > windowMax) {
+            final Node<K, V> candidate = window.head;
+            window.remove(candidate);
+            probation.addLast(candidate);
+        }
+        while (data.size() > max) {
+            final Node<K, V> victim = probation.head;
+            final Node<K, V> candidate = probation.tail;
+            if (Objects.isNull(victim)) {
+                evict(Objects.nonNull(protect.head) ? protect.head : window.head);
+            } else if (victim == candidate) {
+                evict(victim);
+            } else {
+                evict(sketch.frequency(candidate.key) > sketch.frequency(victim.key) ? victim : candidate);
+            }
+        }
+    }
+
+    private void evict(Node<K, V> node) {
+        data.remove(node.key);
+        unlink(node);
+        evictions.increment();
+    }
+
+    private void unlink(Node<K, V> node) {
+        if (Objects.nonNull(node.queue)) {
+            node.queue.remove(node);
+        }
+    }
+
+    private static final class Node<K, V> {
+
+        private final K key;
+        private V value;
+        private long writeTime;
+        private long accessTime;
+        private AccessOrder<K, V> queue;
+        private Node<K, V> prev;
+        private Node<K, V> next;
+
+        private Node(K key, V value, long now) {
+            this.key = key;
+            this.value = value;
+            this.writeTime = now;
+            this.accessTime = now;
+        }
+
+    }
+
+
+    /**
+     * Doubly linked list of nodes in access order, the head is the least recently used
+     */
+    private static final class AccessOrder<K, V> {
+
+        private Node<K, V> head;
+        private Node<K, V> tail;
+        private long size;
+
+        private void addLast(Node<K, V> node) {
+            node.queue = this;
+            node.prev = tail;
+            node.next = null;
+            if (Objects.isNull(tail)) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+            size++;
+        }
+
+        private void remove(Node<K, V> node) {
+            if (Objects.isNull(node.prev)) {
+                head = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (Objects.isNull(node.next)) {
+                tail = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+            node.queue = null;
+            size--;
+        }
+
+        private void moveToLast(Node<K, V> node) {
+            if (tail != node) {
+                remove(node);
+                addLast(node);
+            }
+        }
+
+        private void clear() {
+            head = null;
+            tail = null;
+            size = 0;
+        }
+
+    }
+
+}
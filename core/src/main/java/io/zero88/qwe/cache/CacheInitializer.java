@@ -1,7 +1,10 @@
 package io.zero88.qwe.cache;
 
+import java.util.function.Function;
 import java.util.function.Supplier;
 
+import io.vertx.core.Future;
+
 import io.zero88.qwe.SharedDataLocalProxy;
 
 import lombok.NonNull;
@@ -17,4 +20,25 @@ public interface CacheInitializer {
                                 result -> context.addData(cacheKey, result.result()));
     }
 
+    /**
+     * Add an async cache that loads its values on demand by a non-blocking loader, instead of populating all values
+     * by a blocking call
+     *
+     * @param context  shared data
+     * @param cacheKey cache key in shared data
+     * @param options  cache options
+     * @param loader   non-blocking loader
+     * @param <K>      Type of key
+     * @param <V>      Type of value
+     * @return the async cache
+     * @see BoundedAsyncLocalCache
+     */
+    default <K, V> AsyncLocalCache<K, V> addAsyncCache(@NonNull SharedDataLocalProxy context, @NonNull String cacheKey,
+                                                       @NonNull CacheOptions options,
+                                                       @NonNull Function<K, Future<V>> loader) {
+        final AsyncLocalCache<K, V> cache = new BoundedAsyncLocalCache<K, V>(options).register(loader);
+        context.addData(cacheKey, cache);
+        return cache;
+    }
+
 }
@@ -0,0 +1,77 @@
+package io.zero88.qwe.cache;
+
+import io.zero88.qwe.dto.JsonData;
+
+import lombok.Builder;
+import lombok.Builder.Default;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * Defines the size bound, eviction policy and expiration of a local cache
+ *
+ * @see BoundedLocalCache
+ * @see BoundedAsyncLocalCache
+ */
+@Getter
+@Jacksonized
+@Builder(builderClassName = "Builder")
+public final class CacheOptions implements JsonData {
+
+    /**
+     * Maximum number of entries. {@code 0} means unbounded
+     */
+    @Default
+    private final long maximumSize = 0;
+    /**
+     * The policy that selects the entry is evicted when {@link #maximumSize} is reached
+     */
+    @Default
+    private final EvictionPolicy policy = EvictionPolicy.W_TINY_LFU;
+    /**
+     * An entry is expired after this duration in milliseconds since it is written. {@code 0} means no expiration
+     */
+    @Default
+    private final long expireAfterWrite = 0;
+    /**
+     * An entry is expired after this duration in milliseconds since it is read or written. {@code 0} means no
+     * expiration
+     */
+    @Default
+    private final long expireAfterAccess = 0;
+    /**
+     * An entry is reloaded in background when it is read after this duration in milliseconds since it is written, the
+     * current value is served until the reload is completed. {@code 0} means no refresh. It is used by
+     * {@link AsyncLocalCache} only.
+     *
+     * @see BoundedAsyncLocalCache
+     */
+    @Default
+    private final long refreshAfterWrite = 0;
+
+    public static CacheOptions unbounded() {
+        return CacheOptions.builder().build();
+    }
+
+    public boolean isBounded() {
+        return maximumSize > 0;
+    }
+
+    /**
+     * Defines how to select an entry is evicted
+     */
+    public enum EvictionPolicy {
+
+        /**
+         * Evict the least recently used entry
+         */
+        LRU,
+        /**
+         * Window TinyLFU: a new entry is kept in a small LRU window, then it is admitted to the main space only if it
+         * is used more frequently than the main space victim
+         */
+        W_TINY_LFU
+
+    }
+
+}
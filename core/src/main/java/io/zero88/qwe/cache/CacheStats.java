@@ -0,0 +1,31 @@
+package io.zero88.qwe.cache;
+
+import io.zero88.qwe.dto.JsonData;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * A snapshot of local cache statistics
+ *
+ * @see BoundedLocalCache#stats()
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class CacheStats implements JsonData {
+
+    private final long hitCount;
+    private final long missCount;
+    /**
+     * Number of entries are removed by size bound or expiration
+     */
+    private final long evictionCount;
+    private final long size;
+
+    public double hitRate() {
+        final long total = hitCount + missCount;
+        return total == 0 ? 1d : (double) hitCount / total;
+    }
+
+}
@@ -1,12 +1,20 @@
 package io.zero88.qwe.cache;
 
-import lombok.RequiredArgsConstructor;
+import lombok.NonNull;
 
-@RequiredArgsConstructor
 public final class ClassGraphCache<K, T> extends AbstractLocalCache<K, Class<T>, ClassGraphCache> {
 
     private final String keyLabel;
 
+    public ClassGraphCache(String keyLabel) {
+        this(keyLabel, CacheOptions.unbounded());
+    }
+
+    public ClassGraphCache(String keyLabel, @NonNull CacheOptions options) {
+        super(options);
+        this.keyLabel = keyLabel;
+    }
+
     @Override
     protected String keyLabel() {
         return keyLabel;
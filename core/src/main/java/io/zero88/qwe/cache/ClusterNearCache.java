@@ -0,0 +1,176 @@
+package io.zero88.qwe.cache;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.shareddata.AsyncMap;
+import io.zero88.qwe.SharedDataLocalProxy;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+
+/**
+ * A cluster-wide cache that is backed by {@code Vert.x} {@link AsyncMap} with an in-process near-cache in front.
+ * <p>
+ * A read is served by the near-cache, then by the cluster map, then by the registered loader; the loaded value is
+ * written to the cluster map if absent, so all nodes share the first loaded value. A write on one node updates the
+ * cluster map then publishes the key to {@link #invalidationAddress()}, every other node drops the key from its
+ * near-cache. A near-cache load of the key that is in-flight when the invalidation comes never stores its value.
+ * <p>
+ * The {@link CacheOptions#getExpireAfterWrite()} of the cache options is also the time-to-live of a cluster map entry,
+ * then the cluster map never keeps a value longer than a near-cache does. {@code 0} means the entry never expires.
+ * <p>
+ * In clustered mode, the cluster map value must be cluster-serializable, e.g: {@code String}, {@code JsonObject},
+ * {@code Buffer}, {@code ClusterSerializable} or {@code Serializable}.
+ *
+ * @param <V> Type of value
+ */
+public final class ClusterNearCache<V> implements AsyncCache<String, V> {
+
+    public static final String INVALIDATION_ADDRESS_PREFIX = "qwe.cache.invalidate.";
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClusterNearCache.class);
+    private static final String KEY = "key";
+    private static final String ORIGIN = "origin";
+
+    @Getter
+    @Accessors(fluent = true)
+    private final String name;
+    @Getter
+    @Accessors(fluent = true)
+    private final String invalidationAddress;
+    private final SharedDataLocalProxy sharedData;
+    private final long ttl;
+    private final String origin = UUID.randomUUID().toString();
+    private final BoundedAsyncLocalCache<String, V> near;
+    private final MessageConsumer<JsonObject> invalidator;
+    private Future<AsyncMap<String, V>> clusterMap;
+    private volatile Function<String, Future<V>> loader;
+    private volatile Handler<String> invalidatedHandler;
+
+    /**
+     * @param sharedData  shared data
+     * @param name        the cluster map name, it is shared by all nodes
+     * @param nearOptions the near-cache options, its {@code expireAfterWrite} is the cluster map entry time-to-live
+     */
+    public ClusterNearCache(@NonNull SharedDataLocalProxy sharedData, @NonNull String name,
+                            @NonNull CacheOptions nearOptions) {
+        this.sharedData = sharedData;
+        this.name = name;
+        this.ttl = Math.max(0, nearOptions.getExpireAfterWrite());
+        this.invalidationAddress = INVALIDATION_ADDRESS_PREFIX + name;
+        this.near = new BoundedAsyncLocalCache<String, V>(nearOptions).register(this::loadRemote);
+        this.invalidator = sharedData.getVertx().eventBus().consumer(invalidationAddress, this::onInvalidate);
+    }
+
+    @Override
+    public Future<V> get(@NonNull String key) {
+        return near.get(key);
+    }
+
+    @Override
+    public Future<Void> put(@NonNull String key, @NonNull V value) {
+        return clusterMap().flatMap(map -> ttl > 0 ? map.put(key, value, ttl) : map.put(key, value)).onSuccess(v -> {
+            near.put(key, value);
+            publish(key);
+        });
+    }
+
+    @Override
+    public Future<V> remove(@NonNull String key) {
+        return clusterMap().flatMap(map -> map.remove(key)).onSuccess(v -> {
+            near.remove(key);
+            publish(key);
+        });
+    }
+
+    @Override
+    public ClusterNearCache<V> register(Function<String, Future<V>> loader) {
+        this.loader = loader;
+        return this;
+    }
+
+    /**
+     * @return the near-cache statistics
+     */
+    public CacheStats nearStats() {
+        return near.stats();
+    }
+
+    /**
+     * Stop listening the invalidation from other nodes
+     *
+     * @return a future that is completed when the invalidation listener is unregistered
+     */
+    public Future<Void> close() {
+        return invalidator.unregister();
+    }
+
+    /**
+     * Set a handler that is called after a key is dropped from the near-cache by an invalidation from another node
+     *
+     * @param handler the handler of invalidated key
+     * @return a reference to this for fluent API
+     */
+    ClusterNearCache<V> invalidatedHandler(Handler<String> handler) {
+        this.invalidatedHandler = handler;
+        return this;
+    }
+
+    private synchronized Future<AsyncMap<String, V>> clusterMap() {
+        if (Objects.isNull(clusterMap) || clusterMap.failed()) {
+            clusterMap = sharedData.unwrap().getAsyncMap(name);
+        }
+        return clusterMap;
+    }
+
+    private Future<V> loadRemote(String key) {
+        return clusterMap().flatMap(map -> map.get(key).flatMap(value -> {
+            final Function<String, Future<V>> fn = loader;
+            if (Objects.nonNull(value) || Objects.isNull(fn)) {
+                return Future.succeededFuture(value);
+            }
+            return fn.apply(key).flatMap(loaded -> shareLoaded(map, key, loaded));
+        }));
+    }
+
+    private Future<V> shareLoaded(AsyncMap<String, V> map, String key, V loaded) {
+        if (Objects.isNull(loaded)) {
+            return Future.succeededFuture();
+        }
+        return (ttl > 0 ? map.putIfAbsent(key, loaded, ttl) : map.putIfAbsent(key, loaded)).map(
+            prev -> Objects.isNull(prev) ? loaded : prev);
+    }
+
+    private void publish(String key) {
+        sharedData.getVertx()
+                  .eventBus()
+                  .publish(invalidationAddress, new JsonObject().put(KEY, key).put(ORIGIN, origin));
+    }
+
+    private void onInvalidate(Message<JsonObject> message) {
+        final JsonObject body = message.body();
+        if (Objects.isNull(body) || origin.equals(body.getString(ORIGIN))) {
+            return;
+        }
+        final String key = body.getString(KEY);
+        if (Objects.nonNull(key)) {
+            LOGGER.debug("Invalidate near-cache [{}][{}]", name, key);
+            near.remove(key);
+            final Handler<String> handler = invalidatedHandler;
+            if (Objects.nonNull(handler)) {
+                handler.handle(key);
+            }
+        }
+    }
+
+}
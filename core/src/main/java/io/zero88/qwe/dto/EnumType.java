@@ -3,13 +3,8 @@ package io.zero88.qwe.dto;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Locale;
-import java.util.Objects;
 import java.util.stream.Collectors;
 
-import io.github.zero88.repl.Arguments;
-import io.github.zero88.repl.ReflectionClass;
-import io.github.zero88.repl.ReflectionField;
 import io.github.zero88.utils.Strings;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -71,6 +66,9 @@ public interface EnumType extends JsonData, Serializable {
 
     /**
      * Create enum type by searching {@code given type} in {@code given enum class}
+     * <p>
+     * The constants and their aliases of {@code given enum class} are indexed once. An unknown type is created once
+     * then is reused by next calls, up to a bounded number of unknown types per class.
      *
      * @param type        type
      * @param clazz       class of EnumType
@@ -83,15 +81,7 @@ public interface EnumType extends JsonData, Serializable {
         if (Strings.isBlank(type)) {
             return defaultType;
         }
-        final String t = Strings.optimizeMultipleSpace(type);
-        final String st = uppercase ? t.toUpperCase(Locale.ENGLISH) : t;
-        return ReflectionField.streamConstants(clazz)
-                              .filter(Objects::nonNull)
-                              .filter(et -> et.type().equals(st) ||
-                                            Objects.nonNull(et.alternatives()) && et.alternatives().contains(st))
-                              .findAny()
-                              .orElseGet(
-                                  () -> ReflectionClass.createObject(clazz, new Arguments().put(String.class, st)));
+        return EnumTypeLookup.of(clazz).lookup(type, uppercase);
     }
 
     @JsonProperty(value = "type")
@@ -0,0 +1,111 @@
+package io.zero88.qwe.dto;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import io.github.zero88.repl.Arguments;
+import io.github.zero88.repl.ReflectionClass;
+import io.github.zero88.repl.ReflectionField;
+import io.github.zero88.utils.Strings;
+
+import lombok.NonNull;
+
+/**
+ * Precomputed lookup table of {@link EnumType} constants and their aliases per {@code EnumType} class.
+ * <p>
+ * The table is built once per class. Unknown types are interned in a bounded cache, then a known type is resolved
+ * without allocation.
+ *
+ * @param <E> Type of EnumType
+ * @see EnumType#factory(String, Class, boolean, EnumType)
+ */
+final class EnumTypeLookup<E extends EnumType> {
+
+    /**
+     * Maximum number of unknown types are interned per {@code EnumType} class
+     */
+    static final int MAX_UNKNOWN = 256;
+    private static final Map<Class<?>, EnumTypeLookup<?>> LOOKUPS = new ConcurrentHashMap<>();
+
+    private final Class<E> clazz;
+    private final Map<String, E> constants;
+    private final Map<String, E> unknowns = new ConcurrentHashMap<>();
+    /**
+     * {@code false} if some constants are not yet assigned, i.e: the lookup is built while the {@code EnumType} class
+     * is being initialized
+     */
+    private final boolean complete;
+
+    private EnumTypeLookup(Class<E> clazz) {
+        this.clazz = clazz;
+        final List<E> values = ReflectionField.streamConstants(clazz).collect(Collectors.toList());
+        final Map<String, E> map = new HashMap<>();
+        values.stream().filter(Objects::nonNull).forEach(et -> register(map, et.type(), et));
+        values.stream()
+              .filter(Objects::nonNull)
+              .filter(et -> Objects.nonNull(et.alternatives()))
+              .forEach(et -> et.alternatives().forEach(alias -> register(map, alias, et)));
+        this.constants = Collections.unmodifiableMap(map);
+        this.complete = values.stream().allMatch(Objects::nonNull);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E extends EnumType> EnumTypeLookup<E> of(@NonNull Class<E> clazz) {
+        final EnumTypeLookup<E> lookup = (EnumTypeLookup<E>) LOOKUPS.get(clazz);
+        if (Objects.nonNull(lookup)) {
+            return lookup;
+        }
+        final EnumTypeLookup<E> built = new EnumTypeLookup<>(clazz);
+        if (!built.complete) {
+            return built;
+        }
+        final EnumTypeLookup<E> prev = (EnumTypeLookup<E>) LOOKUPS.putIfAbsent(clazz, built);
+        return Objects.isNull(prev) ? built : prev;
+    }
+
+    private static <E> void register(Map<String, E> map, String key, E value) {
+        // A key that is changed by normalization is never matched by factory
+        if (Objects.nonNull(key) && key.equals(Strings.optimizeMultipleSpace(key))) {
+            map.putIfAbsent(key, value);
+        }
+    }
+
+    /**
+     * Lookup enum type by given non-blank type
+     *
+     * @param type      type
+     * @param uppercase {@code true} if force {@code given type} is uppercase, otherwise keep it as it is
+     * @return the constant if type or alias is matched, otherwise the interned instance of unknown type
+     */
+    E lookup(@NonNull String type, boolean uppercase) {
+        final E constant = constants.get(type);
+        if (Objects.nonNull(constant) && (!uppercase || type.equals(type.toUpperCase(Locale.ENGLISH)))) {
+            return constant;
+        }
+        final String t = Strings.optimizeMultipleSpace(type);
+        final String st = uppercase ? t.toUpperCase(Locale.ENGLISH) : t;
+        final E et = constants.get(st);
+        if (Objects.nonNull(et)) {
+            return et;
+        }
+        final E unknown = unknowns.get(st);
+        if (Objects.nonNull(unknown)) {
+            return unknown;
+        }
+        if (unknowns.size() >= MAX_UNKNOWN) {
+            return create(st);
+        }
+        return unknowns.computeIfAbsent(st, this::create);
+    }
+
+    private E create(String type) {
+        return ReflectionClass.createObject(clazz, new Arguments().put(String.class, type));
+    }
+
+}
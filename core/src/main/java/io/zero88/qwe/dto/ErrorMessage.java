@@ -6,12 +6,14 @@ import java.util.function.Function;
 import io.zero88.qwe.exceptions.QWEException;
 import io.zero88.qwe.exceptions.ErrorCode;
 import io.zero88.qwe.exceptions.QWEExceptionConverter;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.JsonObject;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -80,4 +82,14 @@ public final class ErrorMessage implements Serializable, JsonData {
         }
     }
 
+    @Override
+    public Buffer toBuffer() {
+        return toBuffer(getMapper());
+    }
+
+    @Override
+    public Buffer toBuffer(@NonNull ObjectMapper mapper) {
+        return JsonData.encode(this, mapper);
+    }
+
 }
@@ -1,5 +1,8 @@
 package io.zero88.qwe.dto;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
@@ -8,8 +11,13 @@ import java.util.Set;
 import io.github.zero88.exceptions.HiddenException;
 import io.github.zero88.repl.ReflectionClass;
 import io.github.zero88.utils.DateTimes;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.EncodeException;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.spi.json.JsonCodec;
@@ -188,16 +196,61 @@ public interface JsonData {
         return from(object, clazz, mapper, null);
     }
 
+    /**
+     * Parse given object to {@code json data}
+     * <p>
+     * A {@link Buffer} or a {@link String} is read directly into given data type by Jackson parser, a {@link
+     * JsonObject} is converted from its map, other objects are serialized to {@code JsonObject} beforehand.
+     *
+     * @param object   any non null object
+     * @param clazz    data type class
+     * @param mapper   object mapper
+     * @param errorMsg error message if wrong format
+     * @param <T>      Expected Data Type
+     * @return Expected instance
+     * @throws QWEException if wrong format
+     */
     static <T extends JsonData> T from(@NonNull Object object, @NonNull Class<T> clazz, @NonNull ObjectMapper mapper,
                                        String errorMsg) {
         try {
+            if (object instanceof Buffer) {
+                final ByteBuf buf = ((Buffer) object).getByteBuf();
+                return mapper.readValue((InputStream) new ByteBufInputStream(buf), clazz);
+            }
+            if (object instanceof String) {
+                return mapper.readValue((String) object, clazz);
+            }
+            if (object instanceof JsonObject) {
+                return mapper.convertValue(((JsonObject) object).getMap(), clazz);
+            }
             JsonObject entries = JsonDataSerializer.builder().mapper(mapper).build().apply(object);
             return mapper.convertValue(entries.getMap(), clazz);
-        } catch (IllegalArgumentException | NullPointerException | DecodeException ex) {
+        } catch (IOException | IllegalArgumentException | NullPointerException | DecodeException ex) {
             throw new QWEException(ErrorCode.INVALID_ARGUMENT, errorMsg, new HiddenException(ex));
         }
     }
 
+    /**
+     * Serialize given object to json buffer by streaming through Jackson generator, without an intermediate {@code
+     * JsonObject}
+     *
+     * @param object any non null object
+     * @param mapper object mapper
+     * @return json buffer
+     * @throws EncodeException if failed to serialize
+     * @see #toBuffer(ObjectMapper)
+     */
+    static Buffer encode(@NonNull Object object, @NonNull ObjectMapper mapper) {
+        final ByteBuf buf = Unpooled.buffer();
+        try {
+            mapper.writeValue((OutputStream) new ByteBufOutputStream(buf), object);
+            return Buffer.buffer(buf);
+        } catch (IOException e) {
+            buf.release();
+            throw new EncodeException("Failed to encode as JSON: " + e.getMessage(), e);
+        }
+    }
+
     static FilterProvider ignoreFields(Set<String> ignoreFields) {
         return new SimpleFilterProvider().addFilter(FILTER_PROP_BY_NAME,
                                                     SimpleBeanPropertyFilter.serializeAllExcept(ignoreFields));
@@ -229,6 +282,30 @@ public interface JsonData {
                      .convertValue(this, JsonObject.class);
     }
 
+    /**
+     * Serialize to json buffer
+     *
+     * @return json buffer
+     * @see #toBuffer(ObjectMapper)
+     */
+    default Buffer toBuffer() {
+        return toJson().toBuffer();
+    }
+
+    /**
+     * Serialize to json buffer
+     * <p>
+     * By default, it is encoded from {@link #toJson(ObjectMapper)} then a custom json view is always kept. A data
+     * type that is serialized by Jackson as is can override it by {@link #encode(Object, ObjectMapper)} to skip the
+     * intermediate {@code JsonObject}.
+     *
+     * @param mapper object mapper
+     * @return json buffer
+     */
+    default Buffer toBuffer(@NonNull ObjectMapper mapper) {
+        return toJson(mapper).toBuffer();
+    }
+
     @JsonIgnore
     default ObjectMapper getMapper() { return MAPPER; }
 
@@ -16,6 +16,7 @@ import io.github.zero88.utils.Strings;
 import io.vertx.core.json.JsonObject;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
 
 import lombok.Builder;
@@ -87,8 +88,12 @@ public final class Sort implements Sortable, JsonData {
 
     @Override
     public JsonObject toJson() {
-        return JsonData.MAPPER.convertValue(
-            orders().stream().collect(Collectors.toMap(Order::property, Order::direction)), JsonObject.class);
+        return JsonData.MAPPER.convertValue(toMap(), JsonObject.class);
+    }
+
+    @JsonValue
+    private Map<String, Direction> toMap() {
+        return orders().stream().collect(Collectors.toMap(Order::property, Order::direction));
     }
 
     @JsonPOJOBuilder(withPrefix = "")
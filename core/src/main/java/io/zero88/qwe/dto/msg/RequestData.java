@@ -2,6 +2,7 @@ package io.zero88.qwe.dto.msg;
 
 import java.util.Objects;
 
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
 import io.zero88.qwe.dto.JsonData;
 import io.zero88.qwe.dto.jpa.Pagination;
@@ -9,6 +10,7 @@ import io.zero88.qwe.dto.jpa.Sort;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.Getter;
 import lombok.NonNull;
@@ -50,11 +52,13 @@ public final class RequestData extends AbstractDTO<RequestData> {
     }
 
     @Override
-    public JsonObject toJson() {
-        if (Objects.isNull(sort) || sort.isEmpty()) {
-            return JsonData.MAPPER.convertValue(this, JsonObject.class);
-        }
-        return JsonData.MAPPER.convertValue(this, JsonObject.class).put("sort", sort.toJson());
+    public Buffer toBuffer() {
+        return toBuffer(getMapper());
+    }
+
+    @Override
+    public Buffer toBuffer(@NonNull ObjectMapper mapper) {
+        return JsonData.encode(this, mapper);
     }
 
     @Override
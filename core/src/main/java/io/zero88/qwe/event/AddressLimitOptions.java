@@ -0,0 +1,75 @@
+package io.zero88.qwe.event;
+
+import io.vertx.core.shareddata.Shareable;
+import io.zero88.qwe.dto.JsonData;
+
+import lombok.Builder;
+import lombok.Builder.Default;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * Limits the number of concurrent requests that a registered {@code EventBus} address handles
+ *
+ * @see AddressLimiter
+ * @see EventBusDeliveryOption
+ */
+@Getter
+@Jacksonized
+@Builder(builderClassName = "Builder")
+public final class AddressLimitOptions implements JsonData, Shareable {
+
+    /**
+     * The key of the limit options that is applied to every address without its own options
+     */
+    public static final String ANY_ADDRESS = "*";
+
+    /**
+     * Maximum number of requests are executed at the same time. {@code 0} means unbounded
+     */
+    @Default
+    private final int maxInFlight = 0;
+    /**
+     * Maximum number of requests are waiting when {@link #maxInFlight} is reached. {@code 0} means no queue
+     */
+    @Default
+    private final int maxQueued = 0;
+    /**
+     * The policy when both {@link #maxInFlight} and {@link #maxQueued} are reached
+     */
+    @Default
+    private final OverflowPolicy policy = OverflowPolicy.REJECT;
+    /**
+     * Maximum number of concurrent executions per registered listener of the methods that run in virtual thread.
+     * {@code 0} means fallback to {@link EventListener#maxVirtualThreadConcurrency()}
+     *
+     * @see ExecutionMode#VIRTUAL_THREAD
+     */
+    @Default
+    private final int maxVirtualThreads = 0;
+
+    public static AddressLimitOptions unbounded() {
+        return AddressLimitOptions.builder().build();
+    }
+
+    public boolean isUnbounded() {
+        return maxInFlight <= 0;
+    }
+
+    /**
+     * Defines how to handle a new request when an address is overloaded
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * Reply the new request with {@code SERVICE_UNAVAILABLE} error
+         */
+        REJECT,
+        /**
+         * Reply the oldest queued request with {@code SERVICE_UNAVAILABLE} error then queue the new request
+         */
+        SHED
+
+    }
+
+}
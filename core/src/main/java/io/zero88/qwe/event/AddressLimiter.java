@@ -0,0 +1,232 @@
+package io.zero88.qwe.event;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.shareddata.Shareable;
+import io.zero88.qwe.SharedDataLocalProxy;
+import io.zero88.qwe.event.AddressLimitOptions.OverflowPolicy;
+import io.zero88.qwe.event.metrics.EventBusMetrics;
+import io.zero88.qwe.exceptions.QWEException;
+import io.zero88.qwe.exceptions.ServiceUnavailable;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+
+/**
+ * Enforces {@link AddressLimitOptions} on the incoming requests of one registered {@code EventBus} address.
+ * <p>
+ * An overflow request is replied by {@link EventMessage#replyError(EventAction, Throwable)} with {@link
+ * ServiceUnavailable} and is not executed. The queued and rejected requests are counted by {@link EventBusMetrics}.
+ * <p>
+ * One limiter is shared by every registration of the same address from the same shared data, then the limit applies
+ * per address. A queued request is executed by the handler and on the context of its own registration.
+ *
+ * @see EventBusClient#register(String, boolean, EventListener)
+ * @see EventBusClient#limiter(String)
+ */
+@Accessors(fluent = true)
+public final class AddressLimiter implements Shareable {
+
+    @Getter
+    private final String address;
+    @Getter
+    private final AddressLimitOptions options;
+    private final SharedDataLocalProxy sharedData;
+    private final Deque<Pending> queue = new ArrayDeque<>();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong shed = new AtomicLong();
+    private int inFlight;
+
+    AddressLimiter(@NonNull SharedDataLocalProxy sharedData, @NonNull String address,
+                   @NonNull AddressLimitOptions options) {
+        this.sharedData = sharedData;
+        this.address = address;
+        this.options = options;
+    }
+
+    static String dataKey(@NonNull String address) {
+        return "EVENTBUS_LIMITER_" + address;
+    }
+
+    /**
+     * Lookup the limiter of given address or share a new one
+     *
+     * @param sharedData shared data proxy
+     * @param address    EventBus address
+     * @param options    the limit options supplier, it is called only if the address has no limiter yet
+     * @return the limiter that is shared by every registration of given address
+     */
+    static AddressLimiter lookup(@NonNull SharedDataLocalProxy sharedData, @NonNull String address,
+                                 @NonNull Supplier<AddressLimitOptions> options) {
+        final String key = dataKey(address);
+        final AddressLimiter limiter = sharedData.getData(key);
+        if (Objects.nonNull(limiter)) {
+            return limiter;
+        }
+        final AddressLimiter created = new AddressLimiter(sharedData, address, options.get());
+        final Object prev = sharedData.localData().putIfAbsent(key, created);
+        return prev instanceof AddressLimiter ? (AddressLimiter) prev : created;
+    }
+
+    /**
+     * @return the number of requests are executing
+     */
+    public synchronized int inFlight() {
+        return inFlight;
+    }
+
+    /**
+     * @return the number of requests are waiting
+     */
+    public synchronized int queueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * @return the total number of requests are rejected by {@link OverflowPolicy#REJECT}, or when no queue
+     */
+    public long rejectedCount() {
+        return rejected.get();
+    }
+
+    /**
+     * @return the total number of queued requests are dropped by {@link OverflowPolicy#SHED}
+     */
+    public long shedCount() {
+        return shed.get();
+    }
+
+    /**
+     * Execute the incoming request, or queue it if the address is busy, or reply overflow error
+     *
+     * @param msg     the incoming request
+     * @param handler the request handler, returns a future that completes when the request is done
+     */
+    void submit(@NonNull Message<Object> msg, @NonNull Function<Message<Object>, Future<Void>> handler) {
+        if (options.isUnbounded()) {
+            handler.apply(msg);
+            return;
+        }
+        final Pending pending = new Pending(msg, handler, Vertx.currentContext());
+        Pending overflow = null;
+        boolean queued = false;
+        synchronized (this) {
+            if (inFlight < options.getMaxInFlight()) {
+                inFlight++;
+            } else if (queue.size() < options.getMaxQueued()) {
+                queue.addLast(pending);
+                queued = true;
+            } else if (options.getPolicy() == OverflowPolicy.SHED && !queue.isEmpty()) {
+                overflow = queue.pollFirst();
+                queue.addLast(pending);
+                queued = true;
+                shed.incrementAndGet();
+            } else {
+                overflow = pending;
+                rejected.incrementAndGet();
+            }
+        }
+        if (!queued && overflow == null) {
+            run(pending);
+            return;
+        }
+        final EventBusMetrics metrics = EventBusMetrics.lookup(sharedData);
+        if (queued) {
+            metrics.requestQueued(address);
+        }
+        if (overflow != null) {
+            metrics.requestRejected(address);
+            replyOverflow(overflow.msg);
+        }
+    }
+
+    private void run(Pending pending) {
+        Pending current = pending;
+        while (current != null) {
+            Future<Void> future;
+            try {
+                future = current.handler.apply(current.msg);
+            } catch (RuntimeException e) {
+                future = Future.failedFuture(e);
+            }
+            if (!future.isComplete()) {
+                future.onComplete(ignore -> {
+                    final Pending next = release();
+                    if (next != null) {
+                        next.runOnContext(this::run);
+                    }
+                });
+                return;
+            }
+            final Pending next = release();
+            if (next != null && !next.isOnCurrentContext()) {
+                next.runOnContext(this::run);
+                return;
+            }
+            current = next;
+        }
+    }
+
+    /**
+     * Release the in-flight slot or hand it over to the oldest queued request
+     *
+     * @return the next request, or {@code null} if no queued request
+     */
+    private synchronized Pending release() {
+        final Pending next = queue.pollFirst();
+        if (next == null) {
+            inFlight--;
+        }
+        return next;
+    }
+
+    private void replyOverflow(Message<Object> msg) {
+        EventAction action;
+        try {
+            action = EventMessage.convert(msg).getAction();
+        } catch (QWEException e) {
+            action = EventAction.UNKNOWN;
+        }
+        final EventMessage reply = EventMessage.replyError(action, new ServiceUnavailable(
+            "EventBus address [" + address + "] is overloaded"));
+        msg.reply(msg.body() instanceof EventMessage ? reply : reply.toJson());
+    }
+
+    private static final class Pending {
+
+        private final Message<Object> msg;
+        private final Function<Message<Object>, Future<Void>> handler;
+        private final Context context;
+
+        private Pending(Message<Object> msg, Function<Message<Object>, Future<Void>> handler, Context context) {
+            this.msg = msg;
+            this.handler = handler;
+            this.context = context;
+        }
+
+        private boolean isOnCurrentContext() {
+            return Objects.isNull(context) || context == Vertx.currentContext();
+        }
+
+        private void runOnContext(Consumer<Pending> action) {
+            if (isOnCurrentContext()) {
+                action.accept(this);
+            } else {
+                context.runOnContext(ignore -> action.accept(this));
+            }
+        }
+
+    }
+
+}
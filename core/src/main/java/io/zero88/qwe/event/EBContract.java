@@ -26,4 +26,12 @@ public @interface EBContract {
      */
     String[] action();
 
+    /**
+     * Declares how the annotated method is executed
+     *
+     * @return the execution mode. Default: {@link ExecutionMode#AUTO}
+     * @see ExecutionMode
+     */
+    ExecutionMode mode() default ExecutionMode.AUTO;
+
 }
@@ -45,6 +45,12 @@ public final class EventAction extends AbstractEnumType implements EnumType, Ser
     public static final EventAction BATCH_UPDATE = new EventAction("BATCH_UPDATE");
     public static final EventAction BATCH_PATCH = new EventAction("BATCH_PATCH");
     public static final EventAction BATCH_DELETE = new EventAction("BATCH_DELETE");
+    /**
+     * The envelope action of many event messages are sent together
+     *
+     * @see EventBusClient#requestBatch(String, java.util.List)
+     */
+    public static final EventAction BATCH = new EventAction("BATCH");
 
     public static EventAction parse(String action) {
         return EnumType.factory(action, EventAction.class, true, UNKNOWN);
@@ -0,0 +1,108 @@
+package io.zero88.qwe.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.zero88.qwe.dto.ErrorMessage;
+import io.zero88.qwe.exceptions.ErrorCode;
+import io.zero88.qwe.exceptions.QWEException;
+
+import lombok.NonNull;
+
+/**
+ * Packs many event messages to one {@link EventAction#BATCH} envelope and unpacks it.
+ * <p>
+ * The envelope data is {@code {"items": [event message json, ...]}}. The batched reply has the same shape, each item
+ * is a reply event message with its own {@link EventStatus} and {@code error}, in the same order of the request.
+ *
+ * @see EventBusClient#requestBatch(String, List)
+ */
+final class EventBatch {
+
+    static final String ITEMS_KEY = "items";
+
+    private EventBatch() { }
+
+    static boolean isBatch(@NonNull EventMessage message) {
+        return EventAction.BATCH.equals(message.getAction());
+    }
+
+    static EventMessage pack(@NonNull List<EventMessage> items) {
+        return EventMessage.initial(EventAction.BATCH, toData(items));
+    }
+
+    static EventMessage reply(@NonNull List<EventMessage> replies) {
+        return EventMessage.replySuccess(EventAction.BATCH, toData(replies));
+    }
+
+    /**
+     * Unpack batch message to its items
+     *
+     * @param message batch message
+     * @return the event message items
+     * @throws IllegalArgumentException if an item is not an event message
+     */
+    static List<EventMessage> unpack(@NonNull EventMessage message) {
+        final JsonObject data = message.dataView();
+        final JsonArray items = Objects.isNull(data) ? null : data.getJsonArray(ITEMS_KEY);
+        if (Objects.isNull(items)) {
+            return Collections.emptyList();
+        }
+        final List<EventMessage> messages = new ArrayList<>(items.size());
+        for (Object item : items) {
+            try {
+                messages.add(EventMessage.tryParse(item));
+            } catch (QWEException e) {
+                throw new IllegalArgumentException("Invalid batch item format", e);
+            }
+        }
+        return messages;
+    }
+
+    /**
+     * Unpack batched reply to the reply per request item.
+     * <p>
+     * If the batched reply is error, e.g: no listener or timeout, then every item is replied with the same error. If
+     * the batched reply is malformed or its item count does not match the request items, the replies cannot be paired
+     * with the requests, then every item is replied with {@link ErrorCode#SERVICE_ERROR}.
+     *
+     * @param requests the request items
+     * @param reply    the batched reply
+     * @return the reply items, one per request item in the same order
+     */
+    static List<EventMessage> unpackReply(@NonNull List<EventMessage> requests, @NonNull EventMessage reply) {
+        if (reply.isError()) {
+            return replyError(requests, reply.getError());
+        }
+        final List<EventMessage> replies;
+        try {
+            replies = unpack(reply);
+        } catch (IllegalArgumentException e) {
+            return replyError(requests, ErrorMessage.parse(ErrorCode.SERVICE_ERROR, e.getMessage()));
+        }
+        if (replies.size() != requests.size()) {
+            return replyError(requests, ErrorMessage.parse(ErrorCode.SERVICE_ERROR,
+                                                           "Batched reply has [" + replies.size() + "] item(s) but [" +
+                                                           requests.size() + "] request item(s)"));
+        }
+        return replies;
+    }
+
+    private static List<EventMessage> replyError(List<EventMessage> requests, ErrorMessage error) {
+        return requests.stream()
+                       .map(req -> EventMessage.replyError(req.getAction(), error))
+                       .collect(Collectors.toList());
+    }
+
+    private static JsonObject toData(List<EventMessage> items) {
+        return new JsonObject().put(ITEMS_KEY, items.stream()
+                                                    .map(EventMessage::toJson)
+                                                    .collect(JsonArray::new, JsonArray::add, JsonArray::addAll));
+    }
+
+}
@@ -1,5 +1,7 @@
 package io.zero88.qwe.event;
 
+import java.util.List;
+
 import io.vertx.codegen.annotations.Fluent;
 import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.VertxGen;
@@ -9,6 +11,7 @@ import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.DeliveryOptions;
 import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.streams.ReadStream;
 import io.zero88.qwe.HasSharedData;
 import io.zero88.qwe.SharedDataLocalProxy;
 import io.zero88.qwe.transport.Transporter;
@@ -82,12 +85,16 @@ public interface EventBusClient extends Transporter, HasSharedData {
 
     /**
      * Send message to specific address then wait and handle response
+     * <p>
+     * If the message action is coalesced, an identical in-flight request, i.e: same address, action and data, is
+     * joined instead of dispatching a new one.
      *
      * @param address Address
      * @param message Event message
      * @param options Delivery options
      * @return future message
      * @see EventPattern#REQUEST_RESPONSE
+     * @see EventBusDeliveryOption#isCoalesced(EventAction)
      */
     @GenIgnore(GenIgnore.PERMITTED_TYPE)
     Future<EventMessage> request(@NonNull String address, @NonNull EventMessage message, DeliveryOptions options);
@@ -104,6 +111,69 @@ public interface EventBusClient extends Transporter, HasSharedData {
         return this;
     }
 
+    /**
+     * Send message to specific address then handle the response as a stream of messages
+     * <p>
+     * The listener writes its output to a per-request reply address chunk by chunk. A chunk is acknowledged when it
+     * is delivered to the stream handler, so pausing the stream also holds back the listener. A listener method that
+     * returns a {@code ReadStream} or a {@code Flowable} emits one chunk per item, other methods emit their output as
+     * one chunk.
+     *
+     * @param address Address
+     * @param message Event message
+     * @return a stream of reply messages. The stream ends after the last chunk. If the request is failed, an error
+     *     message is emitted then the stream ends
+     * @see EventPattern#REQUEST_RESPONSE
+     */
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    default ReadStream<EventMessage> requestStream(@NonNull String address, @NonNull EventMessage message) {
+        return requestStream(address, message, null);
+    }
+
+    /**
+     * Same as {@link #requestStream(String, EventMessage)} but with delivery options
+     *
+     * @param address Address
+     * @param message Event message
+     * @param options Delivery options
+     * @return a stream of reply messages
+     * @see #requestStream(String, EventMessage)
+     */
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    ReadStream<EventMessage> requestStream(@NonNull String address, @NonNull EventMessage message,
+                                           DeliveryOptions options);
+
+    /**
+     * Send many messages to specific address in one envelope then wait and handle the batched response
+     * <p>
+     * It pays one message, one reply consumer and one timeout for the whole batch instead of per message. The
+     * listener executes the items with their own action, e.g: {@link EventAction#BATCH_CREATE}, then replies once.
+     *
+     * @param address  Address
+     * @param messages Event messages
+     * @return future of the reply messages, in the same order of the given messages. Each reply has its own status
+     *     and error
+     * @see EventAction#BATCH
+     * @see EventPattern#REQUEST_RESPONSE
+     */
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    default Future<List<EventMessage>> requestBatch(@NonNull String address, @NonNull List<EventMessage> messages) {
+        return requestBatch(address, messages, null);
+    }
+
+    /**
+     * Same as {@link #requestBatch(String, List)} but with delivery options
+     *
+     * @param address  Address
+     * @param messages Event messages
+     * @param options  Delivery options
+     * @return future of the reply messages, in the same order of the given messages
+     * @see #requestBatch(String, List)
+     */
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    Future<List<EventMessage>> requestBatch(@NonNull String address, @NonNull List<EventMessage> messages,
+                                            DeliveryOptions options);
+
     /**
      * Publish message to specific address
      *
@@ -166,18 +236,34 @@ public interface EventBusClient extends Transporter, HasSharedData {
 
     /**
      * Register event listener
+     * <p>
+     * The concurrent requests of the address are bounded by the {@link AddressLimitOptions} in {@link
+     * EventBusDeliveryOption}. The limit is shared by every registration of the same address.
      *
      * @param address  Event bus address
      * @param local    If {@code true}, only register for local event address
      * @param listener listener to handle the received message
      * @return a reference to this, so the API can be used fluently
      * @see EventListener
+     * @see #limiter(String)
      * @see #register(String, EventListener)
      */
     @Fluent
     @GenIgnore(GenIgnore.PERMITTED_TYPE)
     EventBusClient register(String address, boolean local, @NonNull EventListener listener);
 
+    /**
+     * Get the limiter of a registered address
+     *
+     * @param address Event bus address
+     * @return the address limiter, or {@code null} if the address is not registered
+     * @see AddressLimitOptions
+     */
+    @GenIgnore
+    default AddressLimiter limiter(@NonNull String address) {
+        return sharedData().getData(AddressLimiter.dataKey(address));
+    }
+
     @Override
     default Vertx getVertx() {
         return sharedData().getVertx();
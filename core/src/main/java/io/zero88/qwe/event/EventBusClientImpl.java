@@ -1,7 +1,11 @@
 package io.zero88.qwe.event;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,43 +13,166 @@ import org.slf4j.LoggerFactory;
 import io.github.zero88.utils.Strings;
 import io.vertx.core.Future;
 import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.streams.ReadStream;
 import io.zero88.qwe.SharedDataLocalProxy;
+import io.zero88.qwe.event.metrics.EventBusMetrics;
+import io.zero88.qwe.event.metrics.EventBusMetrics.Side;
+import io.zero88.qwe.event.refl.EventDispatchTable;
 
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.experimental.Accessors;
 
-@RequiredArgsConstructor
 final class EventBusClientImpl implements EventBusClient {
 
     static final Logger LOGGER = LoggerFactory.getLogger(EventBusClient.class);
 
     @Getter
-    @NonNull
     @Accessors(fluent = true)
     private final SharedDataLocalProxy sharedData;
-    private final Class<EventReplyHandler> replyHandlerClass;
+    private final EventReplyHandler replyHandler;
+    private final EventRequestCoalescer coalescer;
+    private final EventResponseCache.Registry responseCaches;
+
+    EventBusClientImpl(@NonNull SharedDataLocalProxy sharedData, Class<EventReplyHandler> replyHandlerClass) {
+        this.sharedData = sharedData;
+        this.replyHandler = EventReplyHandler.create(replyHandlerClass);
+        this.coalescer = EventRequestCoalescer.lookup(sharedData);
+        this.responseCaches = EventResponseCache.Registry.lookup(sharedData);
+        EventMessageCodec.register(unwrap());
+    }
 
     @Override
     public EventBusClient send(@NonNull String address, @NonNull EventMessage message, DeliveryOptions options) {
-        unwrap().send(address, message.toJson(), getOpts(options));
+        final DeliveryOptions opts = getOpts(options);
+        unwrap().send(address, encode(message, opts), opts);
         return this;
     }
 
     @Override
     public Future<EventMessage> request(@NonNull String address, @NonNull EventMessage message,
                                         DeliveryOptions options) {
-        EventReplyHandler replyHandler = EventReplyHandler.create(replyHandlerClass)
-                                                          .loadContext(address, message.getAction());
-        return unwrap().request(address, message.toJson(), getOpts(options))
-                       .map(replyHandler::to)
-                       .otherwise(replyHandler::otherwise);
+        final EventBusDeliveryOption option = getOption();
+        final DeliveryOptions opts = getOpts(options, option);
+        final EventAction action = message.getAction();
+        final EventBusMetrics metrics = metrics();
+        final long start = System.nanoTime();
+        metrics.requestBegin(Side.CLIENT, address, action);
+        final Future<EventMessage> reply;
+        try {
+            reply = request(address, message, opts, option, metrics);
+        } catch (RuntimeException e) {
+            metrics.requestEnd(Side.CLIENT, address, action, System.nanoTime() - start,
+                               EventMessage.replyError(action, e));
+            throw e;
+        }
+        return reply.onComplete(ar -> metrics.requestEnd(Side.CLIENT, address, action, System.nanoTime() - start,
+                                                         ar.succeeded()
+                                                         ? ar.result()
+                                                         : EventMessage.replyError(action, ar.cause())));
+    }
+
+    private Future<EventMessage> request(String address, EventMessage message, DeliveryOptions opts,
+                                         EventBusDeliveryOption option, EventBusMetrics metrics) {
+        final ResponseCacheOptions cacheOpts = Objects.isNull(option) ? null : option.responseCache(address);
+        final EventAction action = message.getAction();
+        if (Objects.nonNull(cacheOpts) && cacheOpts.isCacheable(action) && hasNoHeader(opts)) {
+            return cached(address, message, opts, option, responseCaches.get(address, cacheOpts), metrics);
+        }
+        if (Objects.nonNull(cacheOpts) && cacheOpts.isInvalidatedBy(action)) {
+            responseCaches.invalidate(address);
+            return coalesceOrDispatch(address, message, opts, option, null).onComplete(
+                ar -> responseCaches.invalidate(address));
+        }
+        return coalesceOrDispatch(address, message, opts, option, null);
+    }
+
+    private Future<EventMessage> cached(String address, EventMessage message, DeliveryOptions opts,
+                                        EventBusDeliveryOption option, EventResponseCache cache,
+                                        EventBusMetrics metrics) {
+        final EventRequestKey key = EventRequestKey.of(address, message);
+        final EventMessage hit = cache.get(key);
+        if (Objects.nonNull(hit)) {
+            metrics.cacheHit(address, key.action());
+            return Future.succeededFuture(hit);
+        }
+        metrics.cacheMiss(address, key.action());
+        // The generation is captured by the dispatch that really runs, a request that joins an in-flight dispatch of
+        // an older generation never caches its reply
+        return coalesceOrDispatch(address, message, opts, option, key, () -> {
+            final long generation = cache.generation();
+            return dispatch(address, message.getAction(), message, opts).onSuccess(r -> cache.add(key, r, generation));
+        });
+    }
+
+    private Future<EventMessage> coalesceOrDispatch(String address, EventMessage message, DeliveryOptions opts,
+                                                    EventBusDeliveryOption option, EventRequestKey key) {
+        return coalesceOrDispatch(address, message, opts, option, key,
+                                  () -> dispatch(address, message.getAction(), message, opts));
+    }
+
+    private Future<EventMessage> coalesceOrDispatch(String address, EventMessage message, DeliveryOptions opts,
+                                                    EventBusDeliveryOption option, EventRequestKey key,
+                                                    Supplier<Future<EventMessage>> dispatcher) {
+        if (!isCoalesced(option, message.getAction(), opts)) {
+            return dispatcher.get();
+        }
+        return coalescer.coalesce(Objects.isNull(key) ? EventRequestKey.of(address, message) : key, dispatcher);
+    }
+
+    private Future<EventMessage> dispatch(String address, EventAction action, EventMessage message,
+                                          DeliveryOptions opts) {
+        return unwrap().request(address, encode(message, opts), opts)
+                       .map(reply -> replyHandler.to(address, action, reply))
+                       .otherwise(t -> replyHandler.otherwise(address, action, t));
+    }
+
+    private boolean isCoalesced(EventBusDeliveryOption option, EventAction action, DeliveryOptions opts) {
+        return Objects.nonNull(option) && option.isCoalesced(action) && hasNoHeader(opts);
+    }
+
+    private static boolean hasNoHeader(DeliveryOptions opts) {
+        // A request with custom headers might be routed or authorized differently, then it is never merged or cached
+        return Objects.isNull(opts.getHeaders()) || opts.getHeaders().isEmpty();
+    }
+
+    @Override
+    public ReadStream<EventMessage> requestStream(@NonNull String address, @NonNull EventMessage message,
+                                                  DeliveryOptions options) {
+        final EventAction action = message.getAction();
+        final String replyAddress = address + ".stream." + UUID.randomUUID();
+        final MessageConsumer<Object> consumer = unwrap().consumer(replyAddress);
+        final DeliveryOptions opts = new DeliveryOptions(getOpts(options)).addHeader(EventStreamWriter.ADDRESS_HEADER,
+                                                                                     replyAddress);
+        final EventStreamReader reader = new EventStreamReader(getVertx(), consumer, opts.getSendTimeout());
+        consumer.completionHandler(ar -> {
+            if (ar.failed()) {
+                reader.onReply(replyHandler.otherwise(address, action, ar.cause()));
+                return;
+            }
+            unwrap().request(address, encode(message, opts), opts)
+                    .map(reply -> replyHandler.to(address, action, reply))
+                    .otherwise(t -> replyHandler.otherwise(address, action, t))
+                    .onSuccess(reader::onReply);
+        });
+        return reader;
+    }
+
+    @Override
+    public Future<List<EventMessage>> requestBatch(@NonNull String address, @NonNull List<EventMessage> messages,
+                                                   DeliveryOptions options) {
+        if (messages.isEmpty()) {
+            return Future.succeededFuture(Collections.emptyList());
+        }
+        return request(address, EventBatch.pack(messages), options).map(
+            reply -> EventBatch.unpackReply(messages, reply));
     }
 
     @Override
     public EventBusClient publish(@NonNull String address, @NonNull EventMessage message, DeliveryOptions options) {
-        unwrap().publish(address, message.toJson(), getOpts(options));
+        final DeliveryOptions opts = getOpts(options);
+        unwrap().publish(address, encode(message, opts), opts);
         return this;
     }
 
@@ -53,20 +180,55 @@ final class EventBusClientImpl implements EventBusClient {
     public EventBusClient register(String address, boolean local, @NonNull EventListener listener) {
         LOGGER.info("Register EventListener [{}][{}][{}]", Strings.requireNotBlank(address),
                     listener.getClass().getName(), local ? "Local" : "Cluster");
+        final EventListenerExecutor executor = EventListenerExecutor.create(listener, sharedData);
+        final EventDispatchTable table = executor.dispatchTable();
+        if (table.actions().isEmpty()) {
+            LOGGER.warn("EventListener [{}][{}] has no supported action", address, table.listenerClass());
+        }
+        table.conflicts()
+             .forEach((action, error) -> LOGGER.warn("EventListener [{}][{}][{}] {}", address, table.listenerClass(),
+                                                     action, error));
+        final AddressLimiter limiter = AddressLimiter.lookup(sharedData, address, () -> getLimit(address));
         if (local) {
-            unwrap().localConsumer(address, msg -> listener.handle(sharedData, msg));
+            unwrap().localConsumer(address, msg -> limiter.submit(msg, m -> listener.handle(executor, m)));
         } else {
-            unwrap().consumer(address, msg -> listener.handle(sharedData, msg));
+            unwrap().consumer(address, msg -> limiter.submit(msg, m -> listener.handle(executor, m)));
         }
         return this;
     }
 
+    /**
+     * Without {@link EventMessageCodec}, the message is sent as {@code JsonObject} that any consumer or event bus bridge
+     * can read. Enable the codec to send the data buffer without decoding it
+     */
+    Object encode(EventMessage message, DeliveryOptions opts) {
+        return EventMessageCodec.isEnabled(opts.getCodecName()) ? message : message.toJson();
+    }
+
+    AddressLimitOptions getLimit(String address) {
+        return Optional.ofNullable(getOption()).map(o -> o.limit(address)).orElseGet(AddressLimitOptions::unbounded);
+    }
+
     DeliveryOptions getOpts(DeliveryOptions opts) {
+        return Objects.nonNull(opts) ? opts : getOpts(null, getOption());
+    }
+
+    private DeliveryOptions getOpts(DeliveryOptions opts, EventBusDeliveryOption option) {
         if (Objects.nonNull(opts)) {
             return opts;
         }
-        final EventBusDeliveryOption option = sharedData.getData(SharedDataLocalProxy.EVENTBUS_DELIVERY_OPTION_KEY);
         return Optional.ofNullable(option).map(EventBusDeliveryOption::get).orElseGet(DeliveryOptions::new);
     }
 
+    /**
+     * The metrics is looked up per request, then a registry that is shared after this client is created is used
+     */
+    private EventBusMetrics metrics() {
+        return EventBusMetrics.lookup(sharedData);
+    }
+
+    private EventBusDeliveryOption getOption() {
+        return sharedData.getData(SharedDataLocalProxy.EVENTBUS_DELIVERY_OPTION_KEY);
+    }
+
 }
@@ -1,20 +1,64 @@
 package io.zero88.qwe.event;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.function.Supplier;
 
 import io.vertx.core.eventbus.DeliveryOptions;
 import io.vertx.core.shareddata.Shareable;
 
-import lombok.RequiredArgsConstructor;
+import lombok.NonNull;
 
-@RequiredArgsConstructor
 public final class EventBusDeliveryOption implements Shareable, Supplier<DeliveryOptions> {
 
     private final DeliveryOptions options;
+    private final Map<String, AddressLimitOptions> limits;
+    private final Set<EventAction> coalesceActions;
+    private final Map<String, ResponseCacheOptions> responseCaches;
+
+    public EventBusDeliveryOption(DeliveryOptions options) {
+        this(options, null);
+    }
+
+    public EventBusDeliveryOption(DeliveryOptions options, Map<String, AddressLimitOptions> limits) {
+        this(options, limits, null);
+    }
+
+    public EventBusDeliveryOption(DeliveryOptions options, Map<String, AddressLimitOptions> limits,
+                                  Collection<EventAction> coalesceActions) {
+        this(options, limits, coalesceActions, null);
+    }
+
+    public EventBusDeliveryOption(DeliveryOptions options, Map<String, AddressLimitOptions> limits,
+                                  Collection<EventAction> coalesceActions,
+                                  Map<String, ResponseCacheOptions> responseCaches) {
+        this.options = options;
+        this.limits = immutable(limits);
+        this.coalesceActions = Objects.isNull(coalesceActions)
+                               ? Collections.emptySet()
+                               : Collections.unmodifiableSet(new HashSet<>(coalesceActions));
+        this.responseCaches = immutable(responseCaches);
+    }
+
+    private EventBusDeliveryOption(EventBusDeliveryOption other) {
+        this.options = new DeliveryOptions(other.options);
+        this.limits = other.limits;
+        this.coalesceActions = other.coalesceActions;
+        this.responseCaches = other.responseCaches;
+    }
+
+    private static <T> Map<String, T> immutable(Map<String, T> map) {
+        return Objects.isNull(map) ? Collections.emptyMap() : Collections.unmodifiableMap(new HashMap<>(map));
+    }
 
     @Override
     public Shareable copy() {
-        return new EventBusDeliveryOption(new DeliveryOptions(this.options));
+        return new EventBusDeliveryOption(this);
     }
 
     @Override
@@ -22,4 +66,44 @@ public final class EventBusDeliveryOption implements Shareable, Supplier<Deliver
         return options;
     }
 
+    /**
+     * Get the limit options of given address
+     *
+     * @param address EventBus address
+     * @return the address limit options, fallback to the options of {@link AddressLimitOptions#ANY_ADDRESS}, or
+     *     unbounded
+     */
+    public AddressLimitOptions limit(@NonNull String address) {
+        final AddressLimitOptions limit = limits.get(address);
+        if (Objects.nonNull(limit)) {
+            return limit;
+        }
+        return limits.getOrDefault(AddressLimitOptions.ANY_ADDRESS, AddressLimitOptions.unbounded());
+    }
+
+    /**
+     * Check whether identical in-flight requests of given action are merged into one dispatch. Only idempotent
+     * actions should be coalesced, a mutating action is never merged unless it is configured explicitly.
+     *
+     * @param action event action
+     * @return {@code true} if the request of given action is coalesced
+     * @see EventBusClient#request(String, EventMessage)
+     */
+    public boolean isCoalesced(@NonNull EventAction action) {
+        return coalesceActions.contains(action);
+    }
+
+    /**
+     * Get the response cache options of given address
+     *
+     * @param address EventBus address
+     * @return the response cache options, fallback to the options of {@link AddressLimitOptions#ANY_ADDRESS}, or
+     *     {@code null} if the response of given address is not cached
+     * @see EventBusClient#request(String, EventMessage)
+     */
+    public ResponseCacheOptions responseCache(@NonNull String address) {
+        final ResponseCacheOptions cache = responseCaches.get(address);
+        return Objects.nonNull(cache) ? cache : responseCaches.get(AddressLimitOptions.ANY_ADDRESS);
+    }
+
 }
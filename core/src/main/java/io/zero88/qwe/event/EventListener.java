@@ -1,5 +1,6 @@
 package io.zero88.qwe.event;
 
+import io.vertx.core.Future;
 import io.vertx.core.eventbus.Message;
 import io.zero88.qwe.HasLogger;
 import io.zero88.qwe.SharedDataLocalProxy;
@@ -34,14 +35,37 @@ public interface EventListener extends HasLogger, EventListenerLogSystem {
      */
     default String fallback() { return JsonData.SUCCESS_KEY; }
 
-    default @NonNull void handle(SharedDataLocalProxy sharedData, Message<Object> msg) {
-        new EventListenerExecutorImpl(this, sharedData).execute(msg).onComplete(ar -> {
-            if (ar.succeeded()) {
-                msg.reply(ar.result().toJson());
-            } else {
-                msg.reply(EventMessage.replyError(EventAction.UNKNOWN, ar.cause()).toJson());
-            }
-        });
+    /**
+     * Maximum number of concurrent executions per registered address of the methods that run in virtual thread. It
+     * is used only if the address has no {@link AddressLimitOptions#getMaxVirtualThreads()}
+     *
+     * @return the concurrency limit. Default: {@code 0} means unbounded
+     * @see ExecutionMode#VIRTUAL_THREAD
+     */
+    default int maxVirtualThreadConcurrency() { return 0; }
+
+    /**
+     * Handle an incoming message with a one-time executor
+     *
+     * @param sharedData shared data proxy
+     * @param msg        an incoming message
+     * @see #handle(EventListenerExecutor, Message)
+     */
+    default void handle(SharedDataLocalProxy sharedData, Message<Object> msg) {
+        handle(EventListenerExecutor.create(this, sharedData), msg);
+    }
+
+    /**
+     * Handle an incoming message by the executor that is bound to this listener then reply the result to caller
+     *
+     * @param executor the listener executor
+     * @param msg      an incoming message
+     * @return a future that completes after the result is replied, or after the stream ends if streaming request
+     * @see EventBusClient#register(String, boolean, EventListener)
+     */
+    default Future<Void> handle(@NonNull EventListenerExecutor executor, Message<Object> msg) {
+        final boolean binary = msg.body() instanceof EventMessage;
+        return executor.execute(msg, reply -> msg.reply(binary ? reply : reply.toJson()));
     }
 
 }
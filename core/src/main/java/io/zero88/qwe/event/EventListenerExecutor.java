@@ -1,25 +1,66 @@
 package io.zero88.qwe.event;
 
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.eventbus.Message;
 import io.zero88.qwe.HasSharedData;
+import io.zero88.qwe.SharedDataLocalProxy;
 import io.zero88.qwe.event.refl.EventAnnotationProcessor;
+import io.zero88.qwe.event.refl.EventDispatchTable;
 import io.zero88.qwe.event.refl.EventParameterParser;
 
 import lombok.NonNull;
 
+/**
+ * Represents for an executor that dispatches an {@code EventBus} message to a registered {@code EventListener}.
+ * <p>
+ * One executor is created per registered listener then it is reused for every message.
+ *
+ * @see EventListener
+ * @see EventBusClient#register(String, boolean, EventListener)
+ */
 public interface EventListenerExecutor extends HasSharedData {
 
+    static EventListenerExecutor create(@NonNull EventListener listener, @NonNull SharedDataLocalProxy sharedData) {
+        return new EventListenerExecutorImpl(listener, sharedData);
+    }
+
     @NonNull EventListener listener();
 
     default EventAnnotationProcessor annotationProcessor() {
         return EventAnnotationProcessor.create();
     }
 
+    /**
+     * Get the dispatch table of listener
+     *
+     * @return the dispatch table
+     * @see EventAnnotationProcessor#scan(Class)
+     */
+    default EventDispatchTable dispatchTable() {
+        return annotationProcessor().scan(listener().getClass());
+    }
+
     default EventParameterParser paramParser() {
         return EventParameterParser.create(sharedData(), listener().mapper());
     }
 
     Future<EventMessage> execute(Message message);
 
+    /**
+     * Execute an incoming message then hand its reply to given replier
+     *
+     * @param message an incoming message
+     * @param replier the reply handler
+     * @return a future that completes when the request is done, that may be after the reply, e.g: a streaming request
+     *     is done when its stream ends
+     * @see EventListener#handle(EventListenerExecutor, Message)
+     */
+    default Future<Void> execute(@NonNull Message message, @NonNull Handler<EventMessage> replier) {
+        return execute(message).otherwise(t -> EventMessage.replyError(EventAction.UNKNOWN, t)).map(reply -> {
+            replier.handle(reply);
+            return null;
+        });
+    }
+
 }
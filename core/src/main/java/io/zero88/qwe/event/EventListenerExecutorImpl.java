@@ -1,14 +1,26 @@
 package io.zero88.qwe.event;
 
-import io.github.zero88.exceptions.ReflectionException;
-import io.github.zero88.repl.ReflectionMethod;
-import io.github.zero88.utils.Functions;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.eventbus.Message;
+import io.vertx.core.streams.ReadStream;
 import io.zero88.qwe.SharedDataLocalProxy;
 import io.zero88.qwe.dto.JsonDataSerializer;
-import io.zero88.qwe.event.output.AnyToFuture;
+import io.zero88.qwe.event.metrics.EventBusMetrics;
+import io.zero88.qwe.event.metrics.EventBusMetrics.Side;
+import io.zero88.qwe.event.output.OutputToFuture;
 import io.zero88.qwe.event.output.OutputToFutureServiceLoader;
+import io.zero88.qwe.event.refl.EventDispatchTable;
+import io.zero88.qwe.event.refl.EventParameterParser;
 import io.zero88.qwe.event.refl.MethodMeta;
 import io.zero88.qwe.exceptions.ImplementationError;
 import io.zero88.qwe.exceptions.ServiceNotFoundException;
@@ -16,6 +28,7 @@ import io.zero88.qwe.exceptions.ServiceUnavailable;
 import io.zero88.qwe.exceptions.UnsupportedException;
 
 import lombok.Getter;
+import lombok.NonNull;
 import lombok.experimental.Accessors;
 
 @Accessors(fluent = true)
@@ -27,11 +40,18 @@ class EventListenerExecutorImpl implements EventListenerExecutor {
     private final EventListener listener;
     @Getter
     private final SharedDataLocalProxy sharedData;
+    @Getter
+    private final EventDispatchTable dispatchTable;
+    @Getter
+    private final EventParameterParser paramParser;
     private final JsonDataSerializer serializer;
+    private final Map<String, VirtualThreadExecutor> virtualThreadExecutors = new ConcurrentHashMap<>();
 
     EventListenerExecutorImpl(EventListener listener, SharedDataLocalProxy sharedData) {
         this.listener = listener;
         this.sharedData = sharedData;
+        this.dispatchTable = annotationProcessor().scan(listener.getClass());
+        this.paramParser = EventParameterParser.create(sharedData, listener.mapper());
         this.serializer = JsonDataSerializer.builder()
                                             .mapper(listener.mapper())
                                             .backupKey(listener.fallback())
@@ -41,22 +61,156 @@ class EventListenerExecutorImpl implements EventListenerExecutor {
 
     @Override
     public Future<EventMessage> execute(Message message) {
+        return execute(message, streamWriter(message));
+    }
+
+    @Override
+    public Future<Void> execute(@NonNull Message message, @NonNull Handler<EventMessage> replier) {
+        final EventStreamWriter writer = streamWriter(message);
+        return execute(message, writer).otherwise(t -> EventMessage.replyError(EventAction.UNKNOWN, t))
+                                       .flatMap(reply -> {
+                                           replier.handle(reply);
+                                           // Streaming request is in-flight until its stream ends
+                                           return Objects.isNull(writer) ? Future.<Void>succeededFuture()
+                                                                         : writer.completion();
+                                       });
+    }
+
+    private EventStreamWriter streamWriter(Message message) {
+        final String streamAddr = message.headers().get(EventStreamWriter.ADDRESS_HEADER);
+        return Objects.isNull(streamAddr)
+               ? null
+               : new EventStreamWriter(sharedData.getVertx().eventBus(), streamAddr,
+                                       message.body() instanceof EventMessage, serializer);
+    }
+
+    private Future<EventMessage> execute(Message message, EventStreamWriter writer) {
         final EventMessage msg = EventMessage.convert(message);
         final String addr = message.address();
-        debug("Received message", msg.getAction(), addr);
-        return sharedData.getVertx().executeBlocking(promise -> execute(msg, addr).onComplete(promise));
+        final EventAction action = msg.getAction();
+        // The metrics is looked up per request, then a registry that is shared after this executor is created is used
+        final EventBusMetrics metrics = EventBusMetrics.lookup(sharedData);
+        final long start = System.nanoTime();
+        metrics.requestBegin(Side.LISTENER, addr, action);
+        return execute(msg, addr, writer).onComplete(ar -> metrics.requestEnd(
+            Side.LISTENER, addr, action, System.nanoTime() - start,
+            ar.succeeded() ? ar.result() : EventMessage.replyError(action, ar.cause())));
     }
 
-    private Future<EventMessage> execute(EventMessage msg, String address) {
+    private Future<EventMessage> execute(EventMessage msg, String addr, EventStreamWriter writer) {
+        if (EventBatch.isBatch(msg) && !dispatchTable.actions().contains(EventAction.BATCH.action())) {
+            return executeBatch(msg, addr);
+        }
+        return executeOne(msg, addr, writer);
+    }
+
+    /**
+     * Execute every item of batch message by its own action and execution mode then reply once
+     *
+     * @see EventBatch
+     */
+    private Future<EventMessage> executeBatch(EventMessage batch, String addr) {
+        debug("Received batch", EventAction.BATCH, addr);
+        return safeExecute(EventAction.BATCH, addr, () -> {
+            final List<Future> items = EventBatch.unpack(batch)
+                                                 .stream()
+                                                 .map(item -> executeOne(item, addr, null))
+                                                 .collect(Collectors.toList());
+            return CompositeFuture.join(items).map(cf -> EventBatch.reply(cf.list()));
+        });
+    }
+
+    private Future<EventMessage> executeOne(EventMessage msg, String addr, EventStreamWriter writer) {
+        final EventAction action = msg.getAction();
+        debug("Received message", action, addr);
+        return safeExecute(action, addr, () -> {
+            final MethodMeta methodMeta = dispatchTable.lookup(action);
+            final Supplier<Future<EventMessage>> task = () -> Objects.isNull(writer)
+                                                              ? execute(msg, methodMeta, addr)
+                                                              : stream(msg, methodMeta, addr, writer);
+            return dispatch(methodMeta, addr, () -> safeExecute(action, addr, task));
+        });
+    }
+
+    private Future<EventMessage> dispatch(MethodMeta methodMeta, String address,
+                                          Supplier<Future<EventMessage>> task) {
+        final ExecutionMode mode = executionMode(methodMeta);
+        if (mode == ExecutionMode.EVENT_LOOP) {
+            // The task runs inline, an unexpected error must not escape to the event bus handler
+            try {
+                return task.get();
+            } catch (RuntimeException e) {
+                return Future.failedFuture(e);
+            }
+        }
+        if (mode == ExecutionMode.VIRTUAL_THREAD && VirtualThreadExecutor.isSupported()) {
+            return virtualThreadExecutors.computeIfAbsent(address, this::createVirtualThreadExecutor)
+                                         .execute(sharedData.getVertx().getOrCreateContext(), task);
+        }
+        return sharedData.getVertx()
+                         .executeBlocking(promise -> task.get().onComplete(promise),
+                                          mode == ExecutionMode.ORDERED_WORKER);
+    }
+
+    private VirtualThreadExecutor createVirtualThreadExecutor(String address) {
+        final int limit = Optional.ofNullable(sharedData.<EventBusDeliveryOption>getData(
+                                      SharedDataLocalProxy.EVENTBUS_DELIVERY_OPTION_KEY))
+                                  .map(option -> option.limit(address).getMaxVirtualThreads())
+                                  .orElse(0);
+        return new VirtualThreadExecutor(limit > 0 ? limit : listener.maxVirtualThreadConcurrency());
+    }
+
+    private ExecutionMode executionMode(MethodMeta methodMeta) {
+        return methodMeta.mode() == ExecutionMode.AUTO ? ExecutionMode.ORDERED_WORKER : methodMeta.mode();
+    }
+
+    private Future<EventMessage> execute(EventMessage msg, MethodMeta methodMeta, String address) {
         final EventAction action = msg.getAction();
         debug("Execute", action, address, "...");
+        return this.executeMethod(methodMeta, paramParser.extract(msg, methodMeta))
+                   .map(serializer)
+                   .onSuccess(data -> debug("Succeed when handling", action, address))
+                   .map(data -> EventMessage.replySuccess(action, data));
+    }
+
+    /**
+     * Execute then write the method output to the stream reply address. The request is replied once the method is
+     * invoked, the output is written chunk by chunk afterwards then the request is done when the stream ends.
+     *
+     * @see EventStreamWriter
+     */
+    private Future<EventMessage> stream(EventMessage msg, MethodMeta methodMeta, String address,
+                                        EventStreamWriter writer) {
+        final EventAction action = msg.getAction();
+        debug("Stream", action, address, "...");
+        final Future<Object> invoked = invoke(methodMeta, paramParser.extract(msg, methodMeta));
+        if (invoked.failed()) {
+            return Future.failedFuture(invoked.cause());
+        }
+        final Object response = invoked.result();
+        final OutputToFuture output = LOADER.lookup(methodMeta);
+        final ReadStream<Object> stream = output.toStream(methodMeta, response);
+        if (Objects.nonNull(stream)) {
+            writer.pipe(action, stream);
+        } else {
+            final Future<Object> result = output.transform(methodMeta, response);
+            writer.begin(action);
+            result.onComplete(ar -> {
+                if (ar.succeeded()) {
+                    writer.writeThenEnd(action, ar.result());
+                } else {
+                    writer.end(EventMessage.replyError(action, ar.cause()));
+                }
+            });
+        }
+        return Future.succeededFuture(EventMessage.replySuccess(action, null));
+    }
+
+    private Future<EventMessage> safeExecute(EventAction action, String address,
+                                             Supplier<Future<EventMessage>> supplier) {
         Future<EventMessage> future;
         try {
-            final MethodMeta methodMeta = annotationProcessor().lookup(listener.getClass(), action);
-            future = this.executeMethod(methodMeta, paramParser().extract(msg, methodMeta.params()))
-                         .map(serializer)
-                         .onSuccess(data -> debug("Succeed when handling", action, address))
-                         .map(data -> EventMessage.replySuccess(action, data));
+            future = supplier.get();
         } catch (ImplementationError e) {
             future = Future.failedFuture(new ServiceUnavailable(e));
         } catch (UnsupportedException e) {
@@ -68,16 +222,23 @@ class EventListenerExecutorImpl implements EventListenerExecutor {
     }
 
     private Future<Object> executeMethod(MethodMeta methodMeta, Object[] inputs) {
+        final OutputToFuture output = LOADER.lookup(methodMeta);
+        return invoke(methodMeta, inputs).flatMap(response -> output.transform(methodMeta, response));
+    }
+
+    /**
+     * Invoke the listener method
+     *
+     * @return the completed future of the raw method output, or failed future if the method throws a non fatal error
+     */
+    private Future<Object> invoke(MethodMeta methodMeta, Object[] inputs) {
         try {
-            final Object response = ReflectionMethod.execute(listener, methodMeta.method(), inputs);
-            return LOADER.getHandlers()
-                         .stream()
-                         .filter(h -> Functions.getOrDefault(false, () -> h.verify(methodMeta)))
-                         .findFirst()
-                         .orElseGet(AnyToFuture::new)
-                         .transform(methodMeta, response);
-        } catch (ReflectionException e) {
-            return Future.failedFuture(e.getCause());
+            return Future.succeededFuture(methodMeta.invoker().invoke(listener, inputs));
+        } catch (VirtualMachineError | LinkageError e) {
+            // A fatal error is never turned into an error reply
+            throw e;
+        } catch (Throwable t) {
+            return Future.failedFuture(t);
         }
     }
 
@@ -94,6 +255,9 @@ class EventListenerExecutorImpl implements EventListenerExecutor {
     }
 
     private void debug(String lifecycleMsg, EventAction action, String address, String suffix, Throwable t) {
+        if (!listener.logger().isDebugEnabled()) {
+            return;
+        }
         listener.logger().debug(listener.decor("{} [{}][{}]{}"), lifecycleMsg, address, action, suffix, t);
     }
 
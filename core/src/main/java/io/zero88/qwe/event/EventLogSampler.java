@@ -0,0 +1,25 @@
+package io.zero88.qwe.event;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+
+/**
+ * Samples hot-path event logs, i.e: one of every {@link #SAMPLE_RATE} messages is logged in {@code DEBUG} level.
+ * <p>
+ * The sample rate can be tuned by system property {@link #SAMPLE_RATE_PROPERTY}, {@code 1} means every message is
+ * logged.
+ */
+final class EventLogSampler {
+
+    static final String SAMPLE_RATE_PROPERTY = "qwe.eventbus.log.sampleRate";
+    static final int SAMPLE_RATE = Math.max(1, Integer.getInteger(SAMPLE_RATE_PROPERTY, 100));
+    private static final AtomicLong COUNTER = new AtomicLong();
+
+    private EventLogSampler() { }
+
+    static boolean sample(Logger logger) {
+        return logger.isDebugEnabled() && COUNTER.getAndIncrement() % SAMPLE_RATE == 0;
+    }
+
+}
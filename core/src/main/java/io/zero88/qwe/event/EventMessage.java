@@ -1,6 +1,10 @@
 package io.zero88.qwe.event;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Objects;
 
 import org.jetbrains.annotations.Nullable;
@@ -8,8 +12,11 @@ import org.jetbrains.annotations.Nullable;
 import io.github.zero88.exceptions.ErrorCode;
 import io.github.zero88.repl.ReflectionClass;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.EncodeException;
 import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
@@ -24,6 +31,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.Getter;
@@ -57,6 +65,12 @@ public final class EventMessage implements Serializable, JsonData {
     @Getter
     @JsonProperty
     private final ErrorMessage error;
+    @JsonIgnore
+    @ToString.Exclude
+    private transient volatile JsonObject decoded;
+    @JsonIgnore
+    @ToString.Exclude
+    private transient volatile JsonObject dataView;
 
     @JsonCreator
     private EventMessage(@JsonProperty(value = "status", defaultValue = "INITIAL") EventStatus status,
@@ -78,7 +92,7 @@ public final class EventMessage implements Serializable, JsonData {
             return (Buffer) data;
         }
         if (data instanceof JsonData) {
-            return ((JsonData) data).toJson().toBuffer();
+            return ((JsonData) data).toBuffer();
         }
         if (data instanceof JsonObject) {
             return ((JsonObject) data).toBuffer();
@@ -112,6 +126,11 @@ public final class EventMessage implements Serializable, JsonData {
         this(status, action, prevAction, data, null, null);
     }
 
+    static EventMessage restore(EventStatus status, @NonNull EventAction action, EventAction prevAction, Buffer data,
+                                Class<?> dataClass, ErrorMessage error) {
+        return new EventMessage(status, action, prevAction, data, dataClass, error);
+    }
+
     public static EventMessage error(@NonNull EventAction action, @NonNull Throwable throwable) {
         return new EventMessage(EventStatus.FAILED, action, ErrorMessage.parse(throwable));
     }
@@ -160,11 +179,20 @@ public final class EventMessage implements Serializable, JsonData {
         return new EventMessage(EventStatus.SUCCESS, action, prevAction, data);
     }
 
+    /**
+     * @return a new message that has the same content but does not share the decoded data view with this message
+     * @see #dataView()
+     */
+    EventMessage copy() {
+        return new EventMessage(status, action, prevAction, data, dataClass, error);
+    }
+
     public static EventMessage override(@NonNull EventMessage message, @NonNull EventAction action) {
         if (message.isError()) {
             return error(action, message.getAction(), message.getError());
         }
-        return new EventMessage(message.getStatus(), action, message.getAction(), message.getData());
+        return new EventMessage(message.getStatus(), action, message.getAction(), message.data, message.dataClass,
+                                null);
     }
 
     /**
@@ -201,40 +229,96 @@ public final class EventMessage implements Serializable, JsonData {
         if (Objects.isNull(message)) {
             return EventMessage.initial(EventAction.UNKNOWN);
         }
-        final EventMessage msg = tryParse(message.body());
+        final Object body = message.body();
+        final EventMessage msg = body instanceof EventMessage ? (EventMessage) body : tryParse(body);
         return message.headers().contains("action")
                ? override(msg, EventAction.parse(message.headers().get("action")))
                : msg;
     }
 
+    Buffer data() {
+        return data;
+    }
+
+    Class<?> dataClass() {
+        return dataClass;
+    }
+
     /**
      * Get raw message data
      *
-     * @return the raw message data
+     * @return a copy of the raw message data
      */
     public @Nullable Buffer rawData() {
-        return this.data.copy();
+        return Objects.isNull(data) ? null : this.data.copy();
     }
 
     /**
      * Get data in JsonObject format
      *
-     * @return the message data in JsonObject
+     * @return a copy of the message data in JsonObject, that keeps the entry order
      * @apiNote If data is not json object, it will be force parsed to json object with key is {@link
      *     JsonData#SUCCESS_KEY}
+     * @see #dataView()
      */
     @JsonIgnore
-    @SuppressWarnings("unchecked")
     public @Nullable JsonObject getData() {
+        final JsonObject json = decoded();
+        // JsonObject#copy is one deep copy that keeps the entry order of the decoded LinkedHashMap
+        return Objects.isNull(json) ? null : json.copy();
+    }
+
+    /**
+     * Get read-only view of data in JsonObject format.
+     * <p>
+     * The raw data is decoded only once on the first call, then the same view is shared by further calls. Prefer
+     * this method to {@link #getData()} when data is only read, e.g: binding many handler parameters.
+     *
+     * @return the shared message data view in JsonObject, or {@code null} if message has no data
+     * @apiNote The top level entries are unmodifiable, but the nested {@code JsonObject} and {@code JsonArray} are
+     *     not frozen, they are shared with every caller of this method then they must not be modified. Use {@link
+     *     #getData()} to get a mutable copy
+     */
+    public @Nullable JsonObject dataView() {
+        final JsonObject json = decoded();
+        if (Objects.isNull(json)) {
+            return null;
+        }
+        JsonObject view = dataView;
+        if (Objects.isNull(view)) {
+            view = new JsonObject(Collections.unmodifiableMap(json.getMap()));
+            dataView = view;
+        }
+        return view;
+    }
+
+    /**
+     * @return the decoded data that is backed by a {@code LinkedHashMap}, it is never exposed
+     */
+    private JsonObject decoded() {
         if (Objects.isNull(data)) {
             return null;
         }
-        if (ReflectionClass.assertDataType(dataClass, JsonData.class)) {
-            return JsonData.from(data, (Class<? extends JsonData>) dataClass).toJson();
+        JsonObject json = decoded;
+        if (Objects.isNull(json)) {
+            json = decode();
+            if (!(json.getMap() instanceof LinkedHashMap)) {
+                json = new JsonObject(new LinkedHashMap<>(json.getMap()));
+            }
+            decoded = json;
         }
+        return json;
+    }
+
+    @SuppressWarnings("unchecked")
+    private JsonObject decode() {
         if (JsonData.isJsonObject(dataClass)) {
             return new JsonObject(data);
         }
+        if (ReflectionClass.assertDataType(dataClass, JsonData.class)) {
+            // Keep the json form of the data type, e.g: a customized toJson
+            return JsonData.from(data, (Class<? extends JsonData>) dataClass).toJson();
+        }
         return JsonData.tryParse(data, true).toJson();
     }
 
@@ -261,6 +345,48 @@ public final class EventMessage implements Serializable, JsonData {
         return json;
     }
 
+    /**
+     * Serialize to json buffer by streaming through Jackson generator
+     * <p>
+     * The message data is already kept in json buffer, then its bytes are copied as raw value without decoding.
+     *
+     * @param mapper object mapper
+     * @return json buffer
+     */
+    @Override
+    public Buffer toBuffer(@NonNull ObjectMapper mapper) {
+        final ByteBuf buf = Unpooled.buffer();
+        final OutputStream out = new ByteBufOutputStream(buf);
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeObjectField("status", status);
+            generator.writeObjectField("action", action);
+            if (Objects.nonNull(prevAction)) {
+                generator.writeObjectField("prevAction", prevAction);
+            }
+            if (Objects.nonNull(data)) {
+                generator.writeFieldName("data");
+                // Write only the field separator, then append the data bytes behind the generator
+                generator.writeRawValue("");
+                generator.flush();
+                buf.writeBytes(data.getByteBuf());
+            }
+            if (Objects.nonNull(error)) {
+                generator.writeObjectField("error", error);
+            }
+            generator.writeEndObject();
+        } catch (IOException e) {
+            buf.release();
+            throw new EncodeException("Failed to encode as JSON: " + e.getMessage(), e);
+        }
+        return Buffer.buffer(buf);
+    }
+
+    @Override
+    public Buffer toBuffer() {
+        return toBuffer(getMapper());
+    }
+
     @JsonIgnore
     public boolean isSuccess() {
         return this.status == EventStatus.SUCCESS;
@@ -0,0 +1,207 @@
+package io.zero88.qwe.event;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.MessageCodec;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.zero88.qwe.dto.ErrorMessage;
+import io.zero88.qwe.dto.JsonData;
+
+/**
+ * A binary {@code EventBus} codec for {@link EventMessage}.
+ * <p>
+ * In local delivery, the message is passed through without serialization. In clustered delivery, the message is
+ * written in a compact binary format that carries {@code status}, {@code action}, {@code prevAction}, {@code
+ * dataClass}, the raw data buffer and the error without re-encoding data to json.
+ * <p>
+ * The {@code dataClass} from the wire is only restored if it is {@code JsonObject}, {@code JsonArray} or a {@link
+ * JsonData} subtype, the class is looked up without initializing it. Other names are dropped and never cached.
+ * <p>
+ * The codec is opt-in by setting {@link #CODEC_NAME} as {@code codecName} in the {@code EventBus} delivery options.
+ *
+ * @see EventBusClient
+ * @see io.zero88.qwe.QWEAppConfig#DELIVERY_OPTIONS
+ */
+public final class EventMessageCodec implements MessageCodec<EventMessage, EventMessage> {
+
+    public static final String CODEC_NAME = "qwe.event-message";
+    private static final byte VERSION = 1;
+    private static final EventStatus[] STATUSES = EventStatus.values();
+    private static final Set<EventBus> REGISTERED = Collections.synchronizedSet(
+        Collections.newSetFromMap(new WeakHashMap<>()));
+    private static final Map<String, Class<?>> CLASSES = new ConcurrentHashMap<>();
+
+    /**
+     * Register the codec as default codec of {@link EventMessage} in the given {@code EventBus} if not yet
+     *
+     * @param eventBus the event bus
+     */
+    static void register(EventBus eventBus) {
+        if (REGISTERED.add(eventBus)) {
+            try {
+                eventBus.registerDefaultCodec(EventMessage.class, new EventMessageCodec());
+            } catch (IllegalStateException e) {
+                // already registered by another class loader or by user
+            }
+        }
+    }
+
+    static boolean isEnabled(String codecName) {
+        return CODEC_NAME.equals(codecName);
+    }
+
+    @Override
+    public void encodeToWire(Buffer buffer, EventMessage msg) {
+        buffer.appendByte(VERSION);
+        buffer.appendByte((byte) msg.getStatus().ordinal());
+        writeString(buffer, msg.getAction().action());
+        writeString(buffer, Optional.ofNullable(msg.getPrevAction()).map(EventAction::action).orElse(null));
+        writeString(buffer, Optional.ofNullable(msg.dataClass()).map(Class::getName).orElse(null));
+        writeBuffer(buffer, msg.data());
+        final ErrorMessage error = msg.getError();
+        if (Objects.isNull(error)) {
+            buffer.appendByte((byte) 0);
+        } else {
+            buffer.appendByte((byte) 1);
+            writeString(buffer, error.getCode().code());
+            writeString(buffer, error.getMessage());
+        }
+    }
+
+    @Override
+    public EventMessage decodeFromWire(int pos, Buffer buffer) {
+        final Cursor cursor = new Cursor(pos);
+        final byte version = buffer.getByte(cursor.next(1));
+        if (version != VERSION) {
+            throw new IllegalStateException("Unsupported EventMessage wire version [" + version + "]");
+        }
+        final EventStatus status = readStatus(buffer, cursor);
+        final EventAction action = EventAction.parse(readString(buffer, cursor));
+        final String prevAction = readString(buffer, cursor);
+        final String dataClass = readString(buffer, cursor);
+        final Buffer data = readBuffer(buffer, cursor);
+        ErrorMessage error = null;
+        if (buffer.getByte(cursor.next(1)) == 1) {
+            error = ErrorMessage.parse(readString(buffer, cursor), readString(buffer, cursor));
+        }
+        return EventMessage.restore(status, action, Objects.isNull(prevAction) ? null : EventAction.parse(prevAction),
+                                    data, lookupClass(dataClass), error);
+    }
+
+    @Override
+    public EventMessage transform(EventMessage msg) {
+        // The receiver never shares the decoded data view with the sender
+        return msg.copy();
+    }
+
+    @Override
+    public String name() {
+        return CODEC_NAME;
+    }
+
+    @Override
+    public byte systemCodecID() {
+        return -1;
+    }
+
+    private static void writeString(Buffer buffer, String value) {
+        if (Objects.isNull(value)) {
+            buffer.appendInt(-1);
+            return;
+        }
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.appendInt(bytes.length).appendBytes(bytes);
+    }
+
+    private static void writeBuffer(Buffer buffer, Buffer value) {
+        if (Objects.isNull(value)) {
+            buffer.appendInt(-1);
+            return;
+        }
+        buffer.appendInt(value.length()).appendBuffer(value);
+    }
+
+    private static EventStatus readStatus(Buffer buffer, Cursor cursor) {
+        final byte ordinal = buffer.getByte(cursor.next(1));
+        if (ordinal < 0 || ordinal >= STATUSES.length) {
+            throw new DecodeException("Unknown EventMessage status ordinal [" + ordinal + "]");
+        }
+        return STATUSES[ordinal];
+    }
+
+    private static String readString(Buffer buffer, Cursor cursor) {
+        final int length = buffer.getInt(cursor.next(4));
+        if (length < 0) {
+            return null;
+        }
+        final int start = cursor.next(length);
+        return buffer.getString(start, start + length, StandardCharsets.UTF_8.name());
+    }
+
+    private static Buffer readBuffer(Buffer buffer, Cursor cursor) {
+        final int length = buffer.getInt(cursor.next(4));
+        if (length < 0) {
+            return null;
+        }
+        final int start = cursor.next(length);
+        return buffer.getBuffer(start, start + length);
+    }
+
+    private static Class<?> lookupClass(String className) {
+        if (Objects.isNull(className)) {
+            return null;
+        }
+        final Class<?> cached = CLASSES.get(className);
+        if (Objects.nonNull(cached)) {
+            return cached;
+        }
+        final Class<?> clazz = loadDataClass(className);
+        if (Objects.nonNull(clazz)) {
+            CLASSES.putIfAbsent(className, clazz);
+        }
+        return clazz;
+    }
+
+    private static Class<?> loadDataClass(String className) {
+        if (JsonObject.class.getName().equals(className)) {
+            return JsonObject.class;
+        }
+        if (JsonArray.class.getName().equals(className)) {
+            return JsonArray.class;
+        }
+        final ClassLoader loader = Optional.ofNullable(Thread.currentThread().getContextClassLoader())
+                                           .orElseGet(EventMessageCodec.class::getClassLoader);
+        try {
+            final Class<?> clazz = Class.forName(className, false, loader);
+            return JsonData.class.isAssignableFrom(clazz) ? clazz : null;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static final class Cursor {
+
+        private int pos;
+
+        Cursor(int pos) { this.pos = pos; }
+
+        int next(int length) {
+            final int current = pos;
+            pos += length;
+            return current;
+        }
+
+    }
+
+}
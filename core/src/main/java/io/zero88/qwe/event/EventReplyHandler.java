@@ -8,17 +8,24 @@ import org.slf4j.LoggerFactory;
 import io.github.zero88.repl.ReflectionClass;
 import io.vertx.core.eventbus.Message;
 import io.zero88.qwe.HasLogger;
-import io.zero88.qwe.QWEConverter;
 import io.zero88.qwe.dto.ErrorMessage;
 import io.zero88.qwe.event.EventLogSystem.EventReplyLogSystem;
 
 import lombok.NonNull;
 
+/**
+ * Handles the reply of an EventBus request.
+ * <p>
+ * One handler instance is shared by every request of an {@link EventBusClient}, then the request context, i.e: the
+ * {@code address} and {@code action}, is given in each call. An implementation must be stateless and thread-safe.
+ *
+ * @see EventBusClient#create(io.zero88.qwe.SharedDataLocalProxy, Class)
+ */
 @SuppressWarnings("rawtypes")
-public interface EventReplyHandler extends QWEConverter<EventMessage, Message>, HasLogger, EventReplyLogSystem {
+public interface EventReplyHandler extends HasLogger, EventReplyLogSystem {
 
     static EventReplyHandler create() {
-        return new EventReplyHandlerImpl();
+        return EventReplyHandlerImpl.INSTANCE;
     }
 
     static EventReplyHandler create(Class<EventReplyHandler> clazz) {
@@ -30,38 +37,26 @@ public interface EventReplyHandler extends QWEConverter<EventMessage, Message>,
         return LoggerFactory.getLogger(EventReplyHandler.class);
     }
 
-    @Override
-    default Class<EventMessage> fromClass() {
-        return EventMessage.class;
-    }
-
-    @Override
-    default Class<Message> toClass() {
-        return Message.class;
-    }
-
-    @Override
-    default Message from(EventMessage eventMessage) {
-        return null;
-    }
-
     /**
-     * Load event context to setup an event reply handler
+     * Convert reply message to Event Reply Message
      *
      * @param address event listener address
-     * @param action  event listener action
-     * @return a reference to this for fluent API
+     * @param action  request action
+     * @param message the reply message
+     * @return an event message
      */
-    EventReplyHandler loadContext(String address, EventAction action);
+    EventMessage to(@NonNull String address, @NonNull EventAction action, @NonNull Message message);
 
     /**
      * Convert throwable to Event Reply Message
      *
-     * @param error an error
+     * @param address event listener address
+     * @param action  request action
+     * @param error   an error
      * @return an event message
      * @see EventMessage#replyError(EventAction, ErrorMessage)
      * @see EventMessage#replyError(EventAction, Throwable)
      */
-    EventMessage otherwise(@NonNull Throwable error);
+    EventMessage otherwise(@NonNull String address, @NonNull EventAction action, @NonNull Throwable error);
 
 }
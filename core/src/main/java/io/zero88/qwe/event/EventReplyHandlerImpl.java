@@ -1,32 +1,38 @@
 package io.zero88.qwe.event;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import io.github.zero88.exceptions.HiddenException;
 import io.github.zero88.utils.Strings;
 import io.vertx.core.eventbus.Message;
 import io.zero88.qwe.exceptions.TimeoutException;
 
-@SuppressWarnings({"rawtypes", "unchecked"})
-class EventReplyHandlerImpl implements EventReplyHandler {
+@SuppressWarnings("rawtypes")
+final class EventReplyHandlerImpl implements EventReplyHandler {
+
+    static final EventReplyHandler INSTANCE = new EventReplyHandlerImpl();
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventReplyHandler.class);
 
-    private String address;
-    private EventAction action;
+    private EventReplyHandlerImpl() { }
 
     @Override
-    public EventReplyHandler loadContext(String address, EventAction action) {
-        this.address = address;
-        this.action = action;
-        return this;
+    public Logger logger() {
+        return LOGGER;
     }
 
     @Override
-    public EventMessage to(Message objectMessage) {
-        final EventMessage msg = EventMessage.convert(objectMessage);
-        logger().info(decor("Response [{}][{}=>{}][{}]"), address, msg.getAction(), msg.getPrevAction(),
-                      msg.getStatus());
+    public EventMessage to(String address, EventAction action, Message message) {
+        final EventMessage msg = EventMessage.convert(message);
+        if (EventLogSampler.sample(logger())) {
+            logger().debug(decor("Response [{}][{}=>{}][{}]"), address, msg.getAction(), msg.getPrevAction(),
+                           msg.getStatus());
+        }
         return msg;
     }
 
-    public EventMessage otherwise(Throwable error) {
+    @Override
+    public EventMessage otherwise(String address, EventAction action, Throwable error) {
         final String msg = Strings.format("No response [{0}][{1}]", address, action);
         return EventMessage.replyError(action, new TimeoutException(msg, new HiddenException(error)));
     }
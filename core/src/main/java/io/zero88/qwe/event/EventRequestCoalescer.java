@@ -0,0 +1,99 @@
+package io.zero88.qwe.event;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.shareddata.Shareable;
+import io.zero88.qwe.SharedDataLocalProxy;
+
+import lombok.NonNull;
+
+/**
+ * Merges identical in-flight requests into one dispatch (single-flight) then fans the reply out to all waiters.
+ * <p>
+ * Two requests are identical if they have the same {@link EventRequestKey}. The merged waiters share the delivery
+ * options of the first request, but every waiter is replied on its own context. A coalescer is shared by every {@code
+ * EventBusClient} that are created from the same shared data.
+ *
+ * @see EventBusDeliveryOption#isCoalesced(EventAction)
+ */
+final class EventRequestCoalescer implements Shareable {
+
+    static final String DATA_KEY = "EVENTBUS_COALESCER";
+
+    private final Map<EventRequestKey, Future<EventMessage>> inFlight = new ConcurrentHashMap<>();
+
+    static EventRequestCoalescer lookup(@NonNull SharedDataLocalProxy sharedData) {
+        final EventRequestCoalescer coalescer = sharedData.getData(DATA_KEY);
+        if (Objects.nonNull(coalescer)) {
+            return coalescer;
+        }
+        final EventRequestCoalescer created = new EventRequestCoalescer();
+        final Object prev = sharedData.localData().putIfAbsent(DATA_KEY, created);
+        return prev instanceof EventRequestCoalescer ? (EventRequestCoalescer) prev : created;
+    }
+
+    /**
+     * Join an identical in-flight request or dispatch a new one
+     * <p>
+     * Every waiter gets its own reply future that completes on the context of the waiter, then a request that joins
+     * from another verticle never runs its continuations on the event loop of the first request.
+     *
+     * @param key        request key
+     * @param dispatcher the dispatcher that is called only if there is no identical in-flight request
+     * @return the reply future of the caller
+     */
+    Future<EventMessage> coalesce(@NonNull EventRequestKey key, @NonNull Supplier<Future<EventMessage>> dispatcher) {
+        final Promise<EventMessage> promise = Promise.promise();
+        final Future<EventMessage> prev = inFlight.putIfAbsent(key, promise.future());
+        if (Objects.nonNull(prev)) {
+            return join(prev);
+        }
+        Future<EventMessage> dispatched;
+        try {
+            dispatched = dispatcher.get();
+        } catch (RuntimeException e) {
+            dispatched = Future.failedFuture(e);
+        }
+        dispatched.onComplete(ar -> {
+            inFlight.remove(key, promise.future());
+            promise.handle(ar);
+        });
+        return promise.future();
+    }
+
+    private static Future<EventMessage> join(Future<EventMessage> shared) {
+        final Context context = Vertx.currentContext();
+        if (Objects.isNull(context)) {
+            return shared;
+        }
+        final Promise<EventMessage> promise = Promise.promise();
+        shared.onComplete(ar -> {
+            if (context == Vertx.currentContext()) {
+                promise.handle(ar);
+            } else {
+                context.runOnContext(ignore -> promise.handle(ar));
+            }
+        });
+        return promise.future();
+    }
+
+    /**
+     * @return the number of in-flight dispatches
+     */
+    int inFlight() {
+        return inFlight.size();
+    }
+
+    @Override
+    public Shareable copy() {
+        return this;
+    }
+
+}
@@ -0,0 +1,66 @@
+package io.zero88.qwe.event;
+
+import java.util.Objects;
+
+import io.vertx.core.json.JsonObject;
+
+import lombok.NonNull;
+
+/**
+ * Identifies a request by its address, action and data.
+ * <p>
+ * The data hash is computed once, then the data equality is verified only on hash matched.
+ *
+ * @see EventRequestCoalescer
+ * @see EventResponseCache
+ */
+final class EventRequestKey {
+
+    private final String address;
+    private final EventAction action;
+    private final JsonObject data;
+    private final int hash;
+
+    EventRequestKey(@NonNull String address, @NonNull EventAction action, JsonObject data) {
+        this.address = address;
+        this.action = action;
+        this.data = data;
+        this.hash = Objects.hash(address, action, data);
+    }
+
+    static EventRequestKey of(@NonNull String address, @NonNull EventMessage message) {
+        return new EventRequestKey(address, message.getAction(), message.dataView());
+    }
+
+    String address() {
+        return address;
+    }
+
+    EventAction action() {
+        return action;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EventRequestKey)) {
+            return false;
+        }
+        final EventRequestKey key = (EventRequestKey) o;
+        return hash == key.hash && address.equals(key.address) && action.equals(key.action) &&
+               Objects.equals(data, key.data);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return address + "::" + action.action();
+    }
+
+}
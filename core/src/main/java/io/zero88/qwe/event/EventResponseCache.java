@@ -0,0 +1,157 @@
+package io.zero88.qwe.event;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import io.vertx.core.shareddata.Shareable;
+import io.zero88.qwe.SharedDataLocalProxy;
+import io.zero88.qwe.cache.BoundedLocalCache;
+import io.zero88.qwe.cache.CacheOptions;
+import io.zero88.qwe.cache.CacheOptions.EvictionPolicy;
+import io.zero88.qwe.cache.LocalDataCache;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+
+/**
+ * The success replies of {@code EventBusClient} requests to one {@code EventBus} address.
+ * <p>
+ * A cached reply is expired after {@link ResponseCacheOptions#getTtl()} and the least recently used reply is evicted
+ * when {@link ResponseCacheOptions#getMaxSize()} is reached. A mutating action on the same address invalidates all
+ * cached replies, then a reply of a request that is dispatched before the invalidation is never cached.
+ * <p>
+ * A reply is copied when it is added and when it is got, then a caller never shares its reply instance with the
+ * cache or with other callers.
+ *
+ * @see ResponseCacheOptions
+ */
+final class EventResponseCache implements LocalDataCache<EventRequestKey, EventMessage> {
+
+    @Getter
+    @Accessors(fluent = true)
+    private final ResponseCacheOptions options;
+    private final BoundedLocalCache<EventRequestKey, EventMessage> replies;
+    private long generation;
+
+    EventResponseCache(@NonNull ResponseCacheOptions options) {
+        this.options = options;
+        this.replies = new BoundedLocalCache<>(CacheOptions.builder()
+                                                           .maximumSize(Math.max(0, options.getMaxSize()))
+                                                           .policy(EvictionPolicy.LRU)
+                                                           .expireAfterWrite(Math.max(0, options.getTtl()))
+                                                           .build());
+    }
+
+    @Override
+    public EventMessage get(@NonNull EventRequestKey key) {
+        final EventMessage reply = replies.get(key);
+        return Objects.isNull(reply) ? null : reply.copy();
+    }
+
+    @Override
+    public EventResponseCache add(@NonNull EventRequestKey key, EventMessage reply) {
+        if (Objects.nonNull(reply) && reply.isSuccess()) {
+            replies.add(key, reply.copy());
+        }
+        return this;
+    }
+
+    /**
+     * Add a reply if no invalidation happens since given generation
+     *
+     * @param key        request key
+     * @param reply      request reply
+     * @param generation the generation when the request is dispatched
+     * @return a reference to this for fluent API
+     * @see #generation()
+     */
+    synchronized EventResponseCache add(@NonNull EventRequestKey key, EventMessage reply, long generation) {
+        return this.generation == generation ? add(key, reply) : this;
+    }
+
+    @Override
+    public EventMessage remove(@NonNull EventRequestKey key) {
+        return replies.remove(key);
+    }
+
+    @Override
+    public Map<EventRequestKey, EventMessage> all() {
+        return replies.all();
+    }
+
+    @Override
+    public EventResponseCache register(Function<EventRequestKey, EventMessage> discover) {
+        replies.register(discover);
+        return this;
+    }
+
+    /**
+     * @return the current generation that is increased on every invalidation
+     */
+    synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Remove all cached replies
+     */
+    synchronized void invalidate() {
+        generation++;
+        replies.invalidateAll();
+    }
+
+    long size() {
+        return replies.size();
+    }
+
+    @Override
+    public Shareable copy() {
+        return this;
+    }
+
+    /**
+     * Holds the response caches per address that are shared by every {@code EventBusClient} that are created from
+     * the same shared data
+     */
+    static final class Registry implements Shareable {
+
+        static final String DATA_KEY = "EVENTBUS_RESPONSE_CACHE";
+
+        private final Map<String, EventResponseCache> caches = new ConcurrentHashMap<>();
+
+        static Registry lookup(@NonNull SharedDataLocalProxy sharedData) {
+            final Registry registry = sharedData.getData(DATA_KEY);
+            if (Objects.nonNull(registry)) {
+                return registry;
+            }
+            final Registry created = new Registry();
+            final Object prev = sharedData.localData().putIfAbsent(DATA_KEY, created);
+            return prev instanceof Registry ? (Registry) prev : created;
+        }
+
+        EventResponseCache get(@NonNull String address, @NonNull ResponseCacheOptions options) {
+            final EventResponseCache cache = caches.get(address);
+            if (Objects.nonNull(cache)) {
+                return cache;
+            }
+            return caches.computeIfAbsent(address, a -> new EventResponseCache(options));
+        }
+
+        void invalidate(@NonNull String address) {
+            final EventResponseCache cache = caches.get(address);
+            if (Objects.nonNull(cache)) {
+                cache.invalidate();
+            }
+        }
+
+        @Override
+        public Shareable copy() {
+            return this;
+        }
+
+    }
+
+}
@@ -0,0 +1,229 @@
+package io.zero88.qwe.event;
+
+import java.util.Objects;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.streams.ReadStream;
+import io.zero88.qwe.exceptions.TimeoutException;
+
+import lombok.NonNull;
+
+/**
+ * Reads the chunks of a streaming request from a per-request reply address.
+ * <p>
+ * A chunk is acknowledged when it is delivered to the stream handler, so pausing this stream also holds back the
+ * sender. The terminal chunk ends the stream then the reply address is unregistered. If the terminal chunk is error,
+ * it is delivered to the stream handler as an error message before the stream ends.
+ * <p>
+ * If no chunk comes in {@code idleTimeout} while the stream is flowing, the stream is failed by {@link
+ * TimeoutException} then it ends, so a dead sender never leaks the reply address. An error that comes before the
+ * exception handler is set is kept until it is set.
+ *
+ * @see EventStreamWriter
+ * @see EventBusClient#requestStream(String, EventMessage)
+ */
+final class EventStreamReader implements ReadStream<EventMessage> {
+
+    private final Vertx vertx;
+    private final MessageConsumer<Object> consumer;
+    private final long idleTimeout;
+    private Handler<EventMessage> handler;
+    private Handler<Void> endHandler;
+    private Handler<Throwable> exceptionHandler;
+    private Throwable pendingError;
+    private boolean paused;
+    private boolean ended;
+    private long timerId = -1;
+
+    EventStreamReader(@NonNull Vertx vertx, @NonNull MessageConsumer<Object> consumer, long idleTimeout) {
+        this.vertx = vertx;
+        this.consumer = consumer;
+        this.idleTimeout = idleTimeout;
+        // Hold chunks until the stream handler is set
+        this.consumer.pause();
+        this.consumer.handler(this::onChunk);
+    }
+
+    String address() {
+        return consumer.address();
+    }
+
+    @Override
+    public ReadStream<EventMessage> exceptionHandler(Handler<Throwable> handler) {
+        final Throwable error;
+        synchronized (this) {
+            this.exceptionHandler = handler;
+            error = Objects.isNull(handler) ? null : pendingError;
+            if (Objects.nonNull(error)) {
+                pendingError = null;
+            }
+        }
+        if (Objects.nonNull(error)) {
+            handler.handle(error);
+        }
+        return this;
+    }
+
+    @Override
+    public synchronized ReadStream<EventMessage> handler(Handler<EventMessage> handler) {
+        this.handler = handler;
+        if (Objects.isNull(handler)) {
+            consumer.pause();
+        } else if (!paused) {
+            consumer.resume();
+        }
+        armIdleTimer();
+        return this;
+    }
+
+    @Override
+    public synchronized ReadStream<EventMessage> pause() {
+        paused = true;
+        consumer.pause();
+        armIdleTimer();
+        return this;
+    }
+
+    @Override
+    public synchronized ReadStream<EventMessage> resume() {
+        paused = false;
+        if (Objects.nonNull(handler)) {
+            consumer.resume();
+        }
+        armIdleTimer();
+        return this;
+    }
+
+    @Override
+    public synchronized ReadStream<EventMessage> fetch(long amount) {
+        if (Objects.nonNull(handler)) {
+            consumer.fetch(amount);
+            if (amount > 0) {
+                startIdleTimer();
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public synchronized ReadStream<EventMessage> endHandler(Handler<Void> endHandler) {
+        this.endHandler = endHandler;
+        return this;
+    }
+
+    /**
+     * Handle the reply of streaming request. An error reply, e.g: no listener or listener method is failed before
+     * streaming, ends the stream.
+     *
+     * @param reply the reply of streaming request
+     */
+    void onReply(@NonNull EventMessage reply) {
+        if (reply.isError()) {
+            end(reply);
+        }
+    }
+
+    private void onChunk(Message<Object> message) {
+        final EventMessage chunk;
+        try {
+            chunk = EventMessage.convert(message);
+        } catch (RuntimeException e) {
+            message.fail(0, e.getMessage());
+            onError(e);
+            return;
+        }
+        if (message.headers().contains(EventStreamWriter.END_HEADER)) {
+            end(chunk.isError() ? chunk : null);
+            return;
+        }
+        deliver(chunk);
+        message.reply(null);
+        synchronized (this) {
+            armIdleTimer();
+        }
+    }
+
+    /**
+     * Restart the idle timer if the stream is flowing, otherwise cancel it
+     */
+    private void armIdleTimer() {
+        if (!paused && Objects.nonNull(handler)) {
+            startIdleTimer();
+        } else {
+            cancelIdleTimer();
+        }
+    }
+
+    private void startIdleTimer() {
+        cancelIdleTimer();
+        if (ended || idleTimeout <= 0) {
+            return;
+        }
+        timerId = vertx.setTimer(idleTimeout, this::onIdle);
+    }
+
+    private void cancelIdleTimer() {
+        if (timerId >= 0) {
+            vertx.cancelTimer(timerId);
+            timerId = -1;
+        }
+    }
+
+    private void onIdle(long id) {
+        synchronized (this) {
+            if (id != timerId || ended) {
+                return;
+            }
+            timerId = -1;
+        }
+        onError(new TimeoutException(
+            "No stream chunk from [" + consumer.address() + "] in [" + idleTimeout + "ms]"));
+        end(null);
+    }
+
+    private void end(EventMessage error) {
+        final Handler<Void> h;
+        synchronized (this) {
+            if (ended) {
+                return;
+            }
+            ended = true;
+            h = endHandler;
+            cancelIdleTimer();
+        }
+        consumer.unregister();
+        if (Objects.nonNull(error)) {
+            deliver(error);
+        }
+        if (Objects.nonNull(h)) {
+            h.handle(null);
+        }
+    }
+
+    private void deliver(EventMessage chunk) {
+        final Handler<EventMessage> h;
+        synchronized (this) {
+            h = handler;
+        }
+        if (Objects.nonNull(h)) {
+            h.handle(chunk);
+        }
+    }
+
+    private void onError(Throwable t) {
+        final Handler<Throwable> h;
+        synchronized (this) {
+            h = exceptionHandler;
+            if (Objects.isNull(h) && Objects.isNull(pendingError)) {
+                pendingError = t;
+            }
+        }
+        if (Objects.nonNull(h)) {
+            h.handle(t);
+        }
+    }
+
+}
@@ -0,0 +1,184 @@
+package io.zero88.qwe.event;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
+
+import lombok.NonNull;
+
+/**
+ * Writes the items of a listener output stream as chunks to a per-request reply address.
+ * <p>
+ * Every chunk is sent in {@code request} mode then the receiver acknowledges it when the chunk is delivered to the
+ * stream handler. The source stream is paused when {@link #WINDOW} chunks are not yet acknowledged. The stream ends by
+ * a terminal chunk that is marked by {@link #END_HEADER} header.
+ * <p>
+ * The writer is closed when the terminal chunk is sent or the receiver is gone, then {@link #completion()} is
+ * completed, that keeps the listener request in-flight until its stream is done. If a chunk is not acknowledged, e.g:
+ * the receiver is gone or too slow, the source stream is cancelled by detaching its handlers, and an error terminal
+ * chunk is sent so a slow receiver still ends its stream.
+ *
+ * @see EventStreamReader
+ * @see EventBusClient#requestStream(String, EventMessage)
+ */
+final class EventStreamWriter {
+
+    /**
+     * The request header that holds the reply address of stream chunks
+     */
+    static final String ADDRESS_HEADER = "qwe.stream.address";
+    /**
+     * The chunk header that marks the terminal chunk
+     */
+    static final String END_HEADER = "qwe.stream.end";
+    /**
+     * Maximum number of chunks are sent but not yet acknowledged
+     */
+    static final int WINDOW = 16;
+
+    private final EventBus eventBus;
+    private final String address;
+    private final boolean binary;
+    private final Function<Object, JsonObject> serializer;
+    private final Promise<Void> closedPromise = Promise.promise();
+    private EventAction action;
+    private ReadStream<Object> stream;
+    private int inFlight;
+    private boolean paused;
+    private boolean ended;
+    private boolean closed;
+    private boolean started;
+
+    EventStreamWriter(@NonNull EventBus eventBus, @NonNull String address, boolean binary,
+                      @NonNull Function<Object, JsonObject> serializer) {
+        this.eventBus = eventBus;
+        this.address = address;
+        this.binary = binary;
+        this.serializer = serializer;
+    }
+
+    /**
+     * Start writing for given action. The output is written then afterwards by {@link #pipe(EventAction, ReadStream)},
+     * {@link #writeThenEnd(EventAction, Object)} or {@link #end(EventMessage)}
+     *
+     * @param action the request action
+     */
+    synchronized void begin(@NonNull EventAction action) {
+        this.action = action;
+        this.started = true;
+    }
+
+    /**
+     * @return a future that is completed when this writer is closed, or succeeded future if this writer is not started
+     */
+    synchronized Future<Void> completion() {
+        return started ? closedPromise.future() : Future.succeededFuture();
+    }
+
+    /**
+     * Pipe all items of given stream to the reply address then end
+     *
+     * @param action the request action
+     * @param stream the listener output stream
+     */
+    synchronized void pipe(@NonNull EventAction action, @NonNull ReadStream<Object> stream) {
+        begin(action);
+        this.stream = stream;
+        stream.exceptionHandler(t -> end(EventMessage.replyError(action, t)));
+        stream.endHandler(v -> onEnd());
+        stream.handler(this::write);
+    }
+
+    /**
+     * Write one item as one chunk then end
+     *
+     * @param action the request action
+     * @param item   the listener output
+     */
+    synchronized void writeThenEnd(@NonNull EventAction action, Object item) {
+        begin(action);
+        if (Objects.nonNull(item)) {
+            write(item);
+        }
+        onEnd();
+    }
+
+    /**
+     * End stream by given terminal message
+     *
+     * @param terminal the terminal message
+     */
+    synchronized void end(@NonNull EventMessage terminal) {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        eventBus.send(address, encode(terminal), options().addHeader(END_HEADER, "true"));
+        closedPromise.tryComplete();
+    }
+
+    private synchronized void write(Object item) {
+        if (closed) {
+            return;
+        }
+        final EventMessage chunk = EventMessage.replySuccess(action, serializer.apply(item));
+        if (++inFlight >= WINDOW && Objects.nonNull(stream)) {
+            paused = true;
+            stream.pause();
+        }
+        eventBus.request(address, encode(chunk), options()).onComplete(ar -> onAck(ar.cause()));
+    }
+
+    private synchronized void onAck(Throwable error) {
+        inFlight--;
+        if (Objects.nonNull(error)) {
+            cancel();
+            end(EventMessage.replyError(action, error));
+            return;
+        }
+        if (ended && inFlight == 0) {
+            end(EventMessage.replySuccess(action, null));
+        } else if (paused && !closed && inFlight < WINDOW) {
+            paused = false;
+            stream.resume();
+        }
+    }
+
+    /**
+     * Stop pulling the source stream. Unsetting the item handler tells the source that it is no longer consumed, e.g:
+     * a reactive source cancels its subscription
+     */
+    private void cancel() {
+        if (Objects.isNull(stream)) {
+            return;
+        }
+        stream.pause();
+        stream.exceptionHandler(null);
+        stream.endHandler(null);
+        stream.handler(null);
+        stream = null;
+    }
+
+    private synchronized void onEnd() {
+        ended = true;
+        if (inFlight == 0) {
+            end(EventMessage.replySuccess(action, null));
+        }
+    }
+
+    private Object encode(EventMessage message) {
+        return binary ? message : message.toJson();
+    }
+
+    private DeliveryOptions options() {
+        final DeliveryOptions options = new DeliveryOptions();
+        return binary ? options.setCodecName(EventMessageCodec.CODEC_NAME) : options;
+    }
+
+}
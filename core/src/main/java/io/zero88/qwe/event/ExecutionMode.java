@@ -0,0 +1,40 @@
+package io.zero88.qwe.event;
+
+import java.io.Serializable;
+
+/**
+ * Defines how an {@code EventListener} method is executed when receiving an event
+ *
+ * @see EBContract#mode()
+ */
+public enum ExecutionMode implements Serializable {
+
+    /**
+     * The default mode, that is same as {@link #ORDERED_WORKER}.
+     * <p>
+     * A method that returns an asynchronous type, such as {@code Future}, {@code Single}, {@code Maybe} or {@code
+     * Completable}, still might block before returning, then it must opt in {@link #EVENT_LOOP} explicitly
+     */
+    AUTO,
+    /**
+     * Execute directly on the event loop thread that receives the event. The method must not block.
+     */
+    EVENT_LOOP,
+    /**
+     * Execute on a worker thread without ordering guarantee
+     */
+    WORKER,
+    /**
+     * Execute on a worker thread, serially with other events on the same context
+     */
+    ORDERED_WORKER,
+    /**
+     * Execute on a virtual thread if the running JVM supports it, otherwise fallback to {@link #WORKER}.
+     * <p>
+     * The number of concurrent executions per registered listener is bounded by {@link
+     * AddressLimitOptions#getMaxVirtualThreads()} of the address, or by {@link
+     * EventListener#maxVirtualThreadConcurrency()}
+     */
+    VIRTUAL_THREAD
+
+}
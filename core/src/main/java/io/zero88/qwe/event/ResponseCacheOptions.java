@@ -0,0 +1,64 @@
+package io.zero88.qwe.event;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import io.vertx.core.shareddata.Shareable;
+import io.zero88.qwe.dto.JsonData;
+
+import lombok.Builder;
+import lombok.Builder.Default;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * Caches the success reply of {@code EventBusClient} request per {@code EventBus} address
+ *
+ * @see EventResponseCache
+ * @see EventBusDeliveryOption
+ */
+@Getter
+@Jacksonized
+@Builder(builderClassName = "Builder")
+public final class ResponseCacheOptions implements JsonData, Shareable {
+
+    /**
+     * The cacheable actions
+     */
+    @Default
+    private final Set<String> actions = actions(EventAction.GET_ONE, EventAction.GET_LIST);
+    /**
+     * The actions that invalidate all cached replies of the same address
+     */
+    @Default
+    private final Set<String> invalidateActions = actions(EventAction.CREATE, EventAction.CREATE_OR_UPDATE,
+                                                          EventAction.UPDATE, EventAction.PATCH, EventAction.REMOVE);
+    /**
+     * Time to live of a cached reply in milliseconds. {@code 0} means no expiration
+     */
+    @Default
+    private final long ttl = 60000;
+    /**
+     * Maximum number of cached replies per address, the least recently used reply is evicted first
+     */
+    @Default
+    private final int maxSize = 1000;
+
+    private static Set<String> actions(EventAction... actions) {
+        final Set<String> set = new HashSet<>();
+        Arrays.stream(actions).map(EventAction::action).forEach(set::add);
+        return Collections.unmodifiableSet(set);
+    }
+
+    public boolean isCacheable(@NonNull EventAction action) {
+        return actions.contains(action.action());
+    }
+
+    public boolean isInvalidatedBy(@NonNull EventAction action) {
+        return invalidateActions.contains(action.action());
+    }
+
+}
@@ -0,0 +1,98 @@
+package io.zero88.qwe.event;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+/**
+ * Executes a blocking task in a {@code virtual thread} with an optional concurrency limit. A task holds its permit
+ * until its result completes.
+ * <p>
+ * Virtual thread is looked up by reflection, so it is only available when the running JVM supports it.
+ *
+ * @see ExecutionMode#VIRTUAL_THREAD
+ */
+final class VirtualThreadExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadExecutor.class);
+    private static final ExecutorService EXECUTOR = lookupExecutor();
+
+    private final Semaphore permits;
+
+    VirtualThreadExecutor(int maxConcurrency) {
+        this.permits = maxConcurrency > 0 ? new Semaphore(maxConcurrency, true) : null;
+    }
+
+    static boolean isSupported() {
+        return Objects.nonNull(EXECUTOR);
+    }
+
+    /**
+     * Execute a task in a virtual thread then complete the result on the given context
+     *
+     * @param context the caller context
+     * @param task    the blocking task
+     * @param <T>     Type of result
+     * @return the task result
+     */
+    <T> Future<T> execute(Context context, Supplier<Future<T>> task) {
+        final Promise<T> promise = Promise.promise();
+        EXECUTOR.execute(() -> {
+            try {
+                acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                context.runOnContext(v -> promise.fail(e));
+                return;
+            }
+            final Future<T> result;
+            try {
+                result = task.get();
+            } catch (Throwable t) {
+                release();
+                context.runOnContext(v -> promise.fail(t));
+                return;
+            }
+            // The permit is held until the async result completes, not only while the task is invoked
+            result.onComplete(ar -> {
+                release();
+                context.runOnContext(v -> promise.handle(ar));
+            });
+        });
+        return promise.future();
+    }
+
+    private void acquire() throws InterruptedException {
+        if (Objects.nonNull(permits)) {
+            permits.acquire();
+        }
+    }
+
+    private void release() {
+        if (Objects.nonNull(permits)) {
+            permits.release();
+        }
+    }
+
+    private static ExecutorService lookupExecutor() {
+        try {
+            final ExecutorService executor = (ExecutorService) Executors.class.getMethod(
+                "newVirtualThreadPerTaskExecutor").invoke(null);
+            LOGGER.debug("Virtual thread is supported");
+            return executor;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOGGER.debug("Virtual thread is not supported. Fallback to worker pool");
+            return null;
+        }
+    }
+
+}
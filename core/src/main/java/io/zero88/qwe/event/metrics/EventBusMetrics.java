@@ -0,0 +1,112 @@
+package io.zero88.qwe.event.metrics;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.shareddata.Shareable;
+import io.zero88.qwe.SharedDataLocalProxy;
+import io.zero88.qwe.event.EventAction;
+import io.zero88.qwe.event.EventMessage;
+
+import lombok.NonNull;
+
+/**
+ * Instrumentation SPI of the {@code EventBus} layer.
+ * <p>
+ * An implementation is shared by {@link SharedDataLocalProxy#EVENTBUS_METRICS_KEY} then it is looked up per request by
+ * every {@code EventBusClient} and {@code EventListenerExecutor} of the same shared data. The {@code Application}
+ * shares an {@link InMemoryEventBusMetrics} before its plugins start if it is enabled by {@link
+ * EventBusMetricsOptions}. It is called on the hot path, so it must be thread-safe and must not block.
+ *
+ * @see InMemoryEventBusMetrics
+ * @see EventBusMetricsOptions
+ */
+public interface EventBusMetrics extends Shareable {
+
+    EventBusMetrics NOOP = new EventBusMetrics() {};
+
+    /**
+     * Lookup the metrics that is attached to given shared data
+     *
+     * @param sharedData shared data proxy
+     * @return the attached metrics, or {@link #NOOP}
+     */
+    static @NonNull EventBusMetrics lookup(@NonNull SharedDataLocalProxy sharedData) {
+        return sharedData.getData(SharedDataLocalProxy.EVENTBUS_METRICS_KEY, NOOP);
+    }
+
+    /**
+     * Called when a request is started
+     *
+     * @param side    the side that records the request
+     * @param address EventBus address
+     * @param action  event action
+     */
+    default void requestBegin(@NonNull Side side, @NonNull String address, @NonNull EventAction action) { }
+
+    /**
+     * Called when a request is completed
+     *
+     * @param side         the side that records the request
+     * @param address      EventBus address
+     * @param action       event action
+     * @param elapsedNanos the request latency in nanoseconds
+     * @param reply        the reply message, its error code is counted if reply is error
+     */
+    default void requestEnd(@NonNull Side side, @NonNull String address, @NonNull EventAction action,
+                            long elapsedNanos, @NonNull EventMessage reply) { }
+
+    /**
+     * Called when an incoming request waits for an in-flight slot of its address
+     *
+     * @param address EventBus address
+     * @see io.zero88.qwe.event.AddressLimiter
+     */
+    default void requestQueued(@NonNull String address) { }
+
+    /**
+     * Called when an incoming request is rejected or a queued request is shed because its address is overloaded
+     *
+     * @param address EventBus address
+     * @see io.zero88.qwe.event.AddressLimiter
+     */
+    default void requestRejected(@NonNull String address) { }
+
+    /**
+     * Called when a request is replied from the client response cache
+     *
+     * @param address EventBus address
+     * @param action  event action
+     */
+    default void cacheHit(@NonNull String address, @NonNull EventAction action) { }
+
+    /**
+     * Called when a cacheable request is not found in the client response cache
+     *
+     * @param address EventBus address
+     * @param action  event action
+     */
+    default void cacheMiss(@NonNull String address, @NonNull EventAction action) { }
+
+    /**
+     * @return the metrics snapshot in json
+     */
+    default JsonObject snapshot() {
+        return new JsonObject();
+    }
+
+    /**
+     * Defines the side that records a request
+     */
+    enum Side {
+
+        /**
+         * The request is recorded by the {@code EventBusClient} that sends it, includes the transport time
+         */
+        CLIENT,
+        /**
+         * The request is recorded by the {@code EventListenerExecutor} that executes it
+         */
+        LISTENER
+
+    }
+
+}
@@ -0,0 +1,54 @@
+package io.zero88.qwe.event.metrics;
+
+import io.vertx.core.shareddata.Shareable;
+import io.zero88.qwe.SharedDataLocalProxy;
+import io.zero88.qwe.dto.JsonData;
+
+import lombok.Builder;
+import lombok.Builder.Default;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * Switches on the {@link InMemoryEventBusMetrics} registry of an {@code Application}
+ *
+ * @see EventBusMetrics
+ */
+@Getter
+@Jacksonized
+@Builder(builderClassName = "Builder")
+public final class EventBusMetricsOptions implements JsonData, Shareable {
+
+    /**
+     * Whether the in-memory registry is installed. Default is {@code false}, the {@link EventBusMetrics#NOOP} is used
+     */
+    @Default
+    private final boolean enabled = false;
+    /**
+     * The maximum number of meters of the in-memory registry
+     *
+     * @see InMemoryEventBusMetrics#InMemoryEventBusMetrics(int)
+     */
+    @Default
+    private final int maxMeters = InMemoryEventBusMetrics.DEFAULT_MAX_METERS;
+
+    public static EventBusMetricsOptions disabled() {
+        return EventBusMetricsOptions.builder().build();
+    }
+
+    /**
+     * Install the in-memory registry into given shared data if it is enabled and no registry is shared yet
+     *
+     * @param sharedData shared data proxy
+     * @return the shared registry, or {@link EventBusMetrics#NOOP}
+     */
+    public EventBusMetrics install(@NonNull SharedDataLocalProxy sharedData) {
+        if (enabled) {
+            sharedData.localData()
+                      .putIfAbsent(SharedDataLocalProxy.EVENTBUS_METRICS_KEY, new InMemoryEventBusMetrics(maxMeters));
+        }
+        return EventBusMetrics.lookup(sharedData);
+    }
+
+}
@@ -0,0 +1,274 @@
+package io.zero88.qwe.event.metrics;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.github.zero88.exceptions.ErrorCode;
+import io.vertx.core.json.JsonObject;
+import io.zero88.qwe.dto.ErrorMessage;
+import io.zero88.qwe.event.EventAction;
+import io.zero88.qwe.event.EventMessage;
+
+import lombok.NonNull;
+
+/**
+ * In-memory {@link EventBusMetrics} registry that keeps counters, in-flight gauge, error counters by {@code ErrorCode}
+ * and latency histogram per side, address and action.
+ * <p>
+ * The latency histogram has fixed buckets, in milliseconds, that are defined by {@link #BUCKETS}.
+ * <p>
+ * The addresses, actions and error codes come from messages, then the cardinality is bounded: once {@code maxMeters}
+ * meters are registered, a new address and action is counted in the {@link #OVERFLOW} meter of its side, and once
+ * {@link #MAX_ERROR_CODES} error codes are counted in a meter, a new error code is counted as {@link #OVERFLOW}.
+ * <p>
+ * The queued and rejected requests of an overloaded address are counted per address under {@link #LIMIT}, they are
+ * bounded by {@code maxMeters} in the same way.
+ */
+public final class InMemoryEventBusMetrics implements EventBusMetrics {
+
+    /**
+     * The upper bound in milliseconds of latency histogram buckets. The last bucket is unbounded.
+     */
+    public static final long[] BUCKETS = {1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+
+    /**
+     * The default maximum number of meters
+     */
+    public static final int DEFAULT_MAX_METERS = 1000;
+    /**
+     * The maximum number of error codes per meter
+     */
+    public static final int MAX_ERROR_CODES = 50;
+    /**
+     * The address and action of overflow meter, and the error code of overflow errors
+     */
+    public static final String OVERFLOW = "__overflow__";
+    /**
+     * The snapshot key of the address limit counters
+     */
+    public static final String LIMIT = "LIMIT";
+
+    private static final String UNKNOWN_ERROR = "UNKNOWN_ERROR";
+    private final Map<Key, Meter> meters = new ConcurrentHashMap<>();
+    private final Map<String, LimitMeter> limits = new ConcurrentHashMap<>();
+    private final int maxMeters;
+
+    public InMemoryEventBusMetrics() {
+        this(DEFAULT_MAX_METERS);
+    }
+
+    /**
+     * @param maxMeters the maximum number of meters, the overflow meters are not counted
+     */
+    public InMemoryEventBusMetrics(int maxMeters) {
+        this.maxMeters = Math.max(0, maxMeters);
+    }
+
+    @Override
+    public void requestBegin(@NonNull Side side, @NonNull String address, @NonNull EventAction action) {
+        meter(side, address, action).inFlight.incrementAndGet();
+    }
+
+    @Override
+    public void requestEnd(@NonNull Side side, @NonNull String address, @NonNull EventAction action,
+                           long elapsedNanos, @NonNull EventMessage reply) {
+        final Meter meter = meter(side, address, action);
+        meter.inFlight.decrementAndGet();
+        meter.record(elapsedNanos);
+        if (reply.isError()) {
+            final String code = Optional.ofNullable(reply.getError())
+                                        .map(ErrorMessage::getCode)
+                                        .map(ErrorCode::code)
+                                        .orElse(UNKNOWN_ERROR);
+            meter.error(code).increment();
+        }
+    }
+
+    @Override
+    public void cacheHit(@NonNull String address, @NonNull EventAction action) {
+        meter(Side.CLIENT, address, action).cacheHits.increment();
+    }
+
+    @Override
+    public void cacheMiss(@NonNull String address, @NonNull EventAction action) {
+        meter(Side.CLIENT, address, action).cacheMisses.increment();
+    }
+
+    @Override
+    public void requestQueued(@NonNull String address) {
+        limit(address).queued.increment();
+    }
+
+    @Override
+    public void requestRejected(@NonNull String address) {
+        limit(address).rejected.increment();
+    }
+
+    /**
+     * Get the metrics snapshot
+     *
+     * @return json in format {@code {side: {address: {action: {count, inFlight, errors, cache, latency}}}}} and
+     *     {@code {LIMIT: {address: {queued, rejected}}}} if any address is overloaded
+     */
+    @Override
+    public JsonObject snapshot() {
+        final JsonObject json = new JsonObject();
+        meters.forEach((key, meter) -> {
+            final JsonObject bySide = json.getJsonObject(key.side.name(), new JsonObject());
+            final JsonObject byAddress = bySide.getJsonObject(key.address, new JsonObject());
+            json.put(key.side.name(), bySide.put(key.address, byAddress.put(key.action, meter.toJson())));
+        });
+        if (!limits.isEmpty()) {
+            final JsonObject byAddress = new JsonObject();
+            limits.forEach((address, meter) -> byAddress.put(address, meter.toJson()));
+            json.put(LIMIT, byAddress);
+        }
+        return json;
+    }
+
+    /**
+     * Clear all meters
+     */
+    public void reset() {
+        meters.clear();
+        limits.clear();
+    }
+
+    private Meter meter(Side side, String address, EventAction action) {
+        final Key key = new Key(side, address, action.action());
+        final Meter meter = meters.get(key);
+        if (Objects.nonNull(meter)) {
+            return meter;
+        }
+        // Meters are never removed except by reset, then a key that overflows once always overflows
+        if (meters.size() >= maxMeters) {
+            return meters.computeIfAbsent(new Key(side, OVERFLOW, OVERFLOW), k -> new Meter());
+        }
+        return meters.computeIfAbsent(key, k -> new Meter());
+    }
+
+    private LimitMeter limit(String address) {
+        final LimitMeter meter = limits.get(address);
+        if (Objects.nonNull(meter)) {
+            return meter;
+        }
+        return limits.computeIfAbsent(limits.size() >= maxMeters ? OVERFLOW : address, k -> new LimitMeter());
+    }
+
+    private static final class Key {
+
+        private final Side side;
+        private final String address;
+        private final String action;
+        private final int hash;
+
+        private Key(Side side, String address, String action) {
+            this.side = side;
+            this.address = address;
+            this.action = action;
+            this.hash = Objects.hash(side, address, action);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key key = (Key) o;
+            return side == key.side && address.equals(key.address) && action.equals(key.action);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+    }
+
+
+    private static final class Meter {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+        private final LongAdder[] buckets = new LongAdder[BUCKETS.length + 1];
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+        private final LongAdder cacheHits = new LongAdder();
+        private final LongAdder cacheMisses = new LongAdder();
+
+        private Meter() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        private LongAdder error(String code) {
+            final LongAdder counter = errors.get(code);
+            if (Objects.nonNull(counter)) {
+                return counter;
+            }
+            return errors.computeIfAbsent(errors.size() >= MAX_ERROR_CODES ? OVERFLOW : code, c -> new LongAdder());
+        }
+
+        private void record(long elapsedNanos) {
+            count.increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulate(elapsedNanos);
+            final long ms = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+            int idx = 0;
+            while (idx < BUCKETS.length && ms > BUCKETS[idx]) {
+                idx++;
+            }
+            buckets[idx].increment();
+        }
+
+        private JsonObject toJson() {
+            final long total = count.sum();
+            final JsonObject histogram = new JsonObject();
+            for (int i = 0; i < buckets.length; i++) {
+                histogram.put(i < BUCKETS.length ? "le_" + BUCKETS[i] : "le_inf", buckets[i].sum());
+            }
+            final JsonObject errorsJson = new JsonObject();
+            errors.forEach((code, counter) -> errorsJson.put(code, counter.sum()));
+            final double totalMs = toMillis(totalNanos.sum());
+            final JsonObject latency = new JsonObject().put("totalMs", totalMs)
+                                                       .put("maxMs", toMillis(maxNanos.get()))
+                                                       .put("meanMs", total == 0 ? 0d : totalMs / total)
+                                                       .put("histogram", histogram);
+            return new JsonObject().put("count", total)
+                                   .put("inFlight", inFlight.get())
+                                   .put("errors", errorsJson)
+                                   .put("cache", new JsonObject().put("hit", cacheHits.sum())
+                                                                 .put("miss", cacheMisses.sum()))
+                                   .put("latency", latency);
+        }
+
+        private static double toMillis(long nanos) {
+            return nanos / 1_000_000d;
+        }
+
+    }
+
+
+    private static final class LimitMeter {
+
+        private final LongAdder queued = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+
+        private JsonObject toJson() {
+            return new JsonObject().put("queued", queued.sum()).put("rejected", rejected.sum());
+        }
+
+    }
+
+}
@@ -2,6 +2,7 @@ package io.zero88.qwe.event.output;
 
 import io.github.zero88.repl.ReflectionClass;
 import io.vertx.core.Future;
+import io.vertx.core.streams.ReadStream;
 import io.zero88.qwe.event.refl.MethodMeta;
 
 /**
@@ -19,4 +20,16 @@ public interface OutputToFuture<T> {
 
     Future<Object> transform(MethodMeta methodMeta, Object response);
 
+    /**
+     * Adapt the method response to a read stream if the output is a stream type
+     *
+     * @param methodMeta method metadata
+     * @param response   method response
+     * @return a read stream, or {@code null} if the output is not a stream type
+     * @see #transform(MethodMeta, Object)
+     */
+    default ReadStream<Object> toStream(MethodMeta methodMeta, Object response) {
+        return null;
+    }
+
 }
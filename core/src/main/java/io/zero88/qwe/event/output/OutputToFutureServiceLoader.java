@@ -1,19 +1,44 @@
 package io.zero88.qwe.event.output;
 
 import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import io.github.zero88.utils.Functions;
 import io.vertx.core.ServiceHelper;
+import io.zero88.qwe.event.refl.MethodMeta;
 
 import lombok.Getter;
+import lombok.NonNull;
 
 @SuppressWarnings("rawtypes")
 public final class OutputToFutureServiceLoader {
 
     @Getter
     private final Collection<OutputToFuture> handlers;
+    private final Map<MethodMeta, OutputToFuture> resolved = new ConcurrentHashMap<>();
 
     public OutputToFutureServiceLoader() {
         this.handlers = ServiceHelper.loadFactories(OutputToFuture.class, getClass().getClassLoader());
     }
 
+    /**
+     * Lookup the output handler that is able to transform the method output to {@code Future}.
+     * <p>
+     * The handler is resolved once per method metadata then it is reused in next calls.
+     *
+     * @param methodMeta method metadata
+     * @return the output handler. Fallback to {@link AnyToFuture} if no handler is found
+     */
+    public OutputToFuture lookup(@NonNull MethodMeta methodMeta) {
+        return resolved.computeIfAbsent(methodMeta, this::find);
+    }
+
+    private OutputToFuture find(MethodMeta methodMeta) {
+        return handlers.stream()
+                       .filter(h -> Functions.getOrDefault(false, () -> h.verify(methodMeta)))
+                       .findFirst()
+                       .orElseGet(AnyToFuture::new);
+    }
+
 }
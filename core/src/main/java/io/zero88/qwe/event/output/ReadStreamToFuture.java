@@ -0,0 +1,38 @@
+package io.zero88.qwe.event.output;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.streams.ReadStream;
+import io.zero88.qwe.event.refl.MethodMeta;
+
+@SuppressWarnings({"unchecked", "rawtypes"})
+public final class ReadStreamToFuture implements OutputToFuture<ReadStream> {
+
+    @Override
+    public Class<ReadStream> outputClass() {
+        return ReadStream.class;
+    }
+
+    /**
+     * Collect all stream items to a list if the request is not in stream mode
+     */
+    @Override
+    public Future<Object> transform(MethodMeta methodMeta, Object response) {
+        final ReadStream<Object> stream = (ReadStream<Object>) response;
+        final Promise<Object> promise = Promise.promise();
+        final List<Object> items = new ArrayList<>();
+        stream.exceptionHandler(promise::tryFail);
+        stream.endHandler(v -> promise.tryComplete(items));
+        stream.handler(items::add);
+        return promise.future();
+    }
+
+    @Override
+    public ReadStream<Object> toStream(MethodMeta methodMeta, Object response) {
+        return (ReadStream<Object>) response;
+    }
+
+}
@@ -0,0 +1,31 @@
+package io.zero88.qwe.event.output;
+
+import io.reactivex.Flowable;
+import io.vertx.core.Future;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.reactivex.FlowableHelper;
+import io.vertx.reactivex.SingleHelper;
+import io.zero88.qwe.event.refl.MethodMeta;
+
+@SuppressWarnings({"unchecked", "rawtypes"})
+public final class Rx2FlowableToFuture implements OutputToFuture<Flowable> {
+
+    @Override
+    public Class<Flowable> outputClass() {
+        return Flowable.class;
+    }
+
+    /**
+     * Collect all stream items to a list if the request is not in stream mode
+     */
+    @Override
+    public Future<Object> transform(MethodMeta methodMeta, Object response) {
+        return SingleHelper.toFuture(((Flowable<Object>) response).toList()).map(list -> list);
+    }
+
+    @Override
+    public ReadStream<Object> toStream(MethodMeta methodMeta, Object response) {
+        return FlowableHelper.toReadStream((Flowable<Object>) response);
+    }
+
+}
@@ -22,7 +22,7 @@ public interface EventAnnotationProcessor {
     };
 
     static EventAnnotationProcessor create() {
-        return create(IGNORE_PACKAGES);
+        return SimpleAnnotationProcessor.DEFAULT;
     }
 
     static EventAnnotationProcessor create(String[] ignorePackages) {
@@ -48,4 +48,15 @@ public interface EventAnnotationProcessor {
      */
     MethodMeta lookup(@NonNull Class<? extends EventListener> listenerClass, @NonNull EventAction action);
 
+    /**
+     * Scan all event actions in listener then build a dispatch table.
+     * <p>
+     * The dispatch table is computed once per listener class and reused in next calls.
+     *
+     * @param listenerClass event listener class
+     * @return the dispatch table
+     * @see EventDispatchTable
+     */
+    EventDispatchTable scan(@NonNull Class<? extends EventListener> listenerClass);
+
 }
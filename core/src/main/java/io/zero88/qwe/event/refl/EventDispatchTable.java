@@ -0,0 +1,48 @@
+package io.zero88.qwe.event.refl;
+
+import java.util.Map;
+import java.util.Set;
+
+import io.zero88.qwe.event.EventAction;
+import io.zero88.qwe.exceptions.ImplementationError;
+import io.zero88.qwe.exceptions.UnsupportedException;
+
+import lombok.NonNull;
+
+/**
+ * Represents for a precompiled table that maps every {@code EventAction} of an {@code EventListener} class to its
+ * resolved method metadata.
+ * <p>
+ * The table is built once per listener class then the lookup on each event is a single hash probe.
+ *
+ * @see EventAnnotationProcessor#scan(Class)
+ * @see MethodMeta
+ */
+public interface EventDispatchTable {
+
+    /**
+     * @return the listener class name
+     */
+    String listenerClass();
+
+    /**
+     * @return the supported event actions
+     */
+    Set<String> actions();
+
+    /**
+     * @return the conflict event actions with its error message
+     */
+    Map<String, String> conflicts();
+
+    /**
+     * Lookup method metadata by given action
+     *
+     * @param action event action
+     * @return method metadata
+     * @throws UnsupportedException if not found action in listener
+     * @throws ImplementationError  if event action is bind more than one method
+     */
+    MethodMeta lookup(@NonNull EventAction action);
+
+}
@@ -0,0 +1,50 @@
+package io.zero88.qwe.event.refl;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import io.zero88.qwe.event.EventAction;
+import io.zero88.qwe.exceptions.ErrorCode;
+import io.zero88.qwe.exceptions.ImplementationError;
+import io.zero88.qwe.exceptions.UnsupportedException;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+
+@Accessors(fluent = true)
+final class EventDispatchTableImpl implements EventDispatchTable {
+
+    @Getter
+    private final String listenerClass;
+    private final Map<String, MethodMeta> methods;
+    @Getter
+    private final Map<String, String> conflicts;
+
+    EventDispatchTableImpl(String listenerClass, Map<String, MethodMeta> methods, Map<String, String> conflicts) {
+        this.listenerClass = listenerClass;
+        this.methods = Collections.unmodifiableMap(methods);
+        this.conflicts = Collections.unmodifiableMap(conflicts);
+    }
+
+    @Override
+    public Set<String> actions() {
+        return methods.keySet();
+    }
+
+    @Override
+    public MethodMeta lookup(@NonNull EventAction action) {
+        final MethodMeta methodMeta = methods.get(action.action());
+        if (Objects.nonNull(methodMeta)) {
+            return methodMeta;
+        }
+        final String conflict = conflicts.get(action.action());
+        if (Objects.nonNull(conflict)) {
+            throw new ImplementationError(ErrorCode.CONFLICT_ERROR, conflict);
+        }
+        throw new UnsupportedException("Unsupported event [" + action + "]");
+    }
+
+}
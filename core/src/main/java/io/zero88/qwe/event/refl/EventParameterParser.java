@@ -26,4 +26,18 @@ public interface EventParameterParser {
      */
     @NonNull Object[] extract(EventMessage message, MethodParam[] params);
 
+    /**
+     * Extract event message to an array of param's value of given method
+     *
+     * @param message    Event message
+     * @param methodMeta Method metadata
+     * @return An array param value
+     * @throws ImplementationError      if binding unsupported {@link EBContext} data type
+     * @throws IllegalArgumentException if a registered parameter is unable deserialized from runtime event message
+     * @apiNote The binding plan of method params is compiled once per {@code methodMeta} then is reused
+     */
+    default @NonNull Object[] extract(EventMessage message, MethodMeta methodMeta) {
+        return extract(message, methodMeta.params());
+    }
+
 }
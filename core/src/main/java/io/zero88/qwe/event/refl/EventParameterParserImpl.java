@@ -1,10 +1,9 @@
 package io.zero88.qwe.event.refl;
 
-import java.util.Arrays;
-import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 import io.github.zero88.exceptions.HiddenException;
 import io.github.zero88.repl.ReflectionClass;
@@ -21,6 +20,7 @@ import io.zero88.qwe.event.EventMessage;
 import io.zero88.qwe.exceptions.ErrorCode;
 import io.zero88.qwe.exceptions.ImplementationError;
 
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
@@ -28,94 +28,179 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class EventParameterParserImpl implements EventParameterParser {
 
+    private static final Object[] NO_ARGS = new Object[] {};
+
     private final SharedDataLocalProxy localDataProxy;
     private final ObjectMapper mapper;
+    private final Map<MethodMeta, BindingPlan> plans = new ConcurrentHashMap<>();
 
     @Override
     public Object[] extract(EventMessage message, MethodParam[] params) {
+        return compile(params).bind(message);
+    }
+
+    @Override
+    public Object[] extract(EventMessage message, MethodMeta methodMeta) {
+        return plans.computeIfAbsent(methodMeta, meta -> compile(meta.params())).bind(message);
+    }
+
+    /**
+     * Compile method params to a binding plan
+     *
+     * @param params method params
+     * @return binding plan
+     */
+    protected BindingPlan compile(MethodParam[] params) {
         if (params.length == 0) {
-            return new Object[] {};
+            return message -> NO_ARGS;
         }
         if (params.length == 2) {
-            List<String> paramNames = Arrays.stream(params).map(MethodParam::getParamName).collect(Collectors.toList());
-            if (paramNames.contains("data") && paramNames.contains("error")) {
-                return "data".equals(paramNames.get(0))
-                       ? new Object[] {message.getData(), message.getError()}
-                       : new Object[] {message.getError(), message.getData()};
+            final String first = params[0].getParamName();
+            final String second = params[1].getParamName();
+            if ("data".equals(first) && "error".equals(second)) {
+                return message -> new Object[] {message.getData(), message.getError()};
+            }
+            if ("error".equals(first) && "data".equals(second)) {
+                return message -> new Object[] {message.getError(), message.getData()};
             }
         }
-        boolean isOne = params.length - Arrays.stream(params).filter(MethodParam::isContext).count() == 1;
-        return Arrays.stream(params)
-                     .map(param -> param.isContext()
-                                   ? parseEBContext(message.getAction(), param)
-                                   : parseEBParam(message, param, isOne))
-                     .toArray();
+        int dataParams = 0;
+        for (MethodParam param : params) {
+            dataParams += param.isContext() ? 0 : 1;
+        }
+        final boolean isOne = dataParams == 1;
+        final ParamBinder[] binders = new ParamBinder[params.length];
+        for (int i = 0; i < params.length; i++) {
+            binders[i] = params[i].isContext() ? compileEBContext(params[i]) : compileEBParam(params[i], isOne);
+        }
+        final boolean hasData = dataParams > 0;
+        return message -> {
+            final BindingSource source = new BindingSource(message, hasData ? lookupData(message) : null);
+            final Object[] args = new Object[binders.length];
+            for (int i = 0; i < binders.length; i++) {
+                args[i] = binders[i].bind(source);
+            }
+            return args;
+        };
     }
 
-    protected Object parseEBContext(EventAction action, MethodParam param) {
-        if (param.getParamClass() == EventAction.class) {
-            return action;
+    protected ParamBinder compileEBContext(MethodParam param) {
+        final Class<?> paramClass = param.getParamClass();
+        if (paramClass == EventAction.class) {
+            return source -> source.message.getAction();
         }
-        if (ReflectionClass.assertDataType(param.getParamClass(), Vertx.class)) {
-            return localDataProxy.getVertx();
+        if (ReflectionClass.assertDataType(paramClass, Vertx.class)) {
+            return source -> localDataProxy.getVertx();
         }
-        if (ReflectionClass.assertDataType(param.getParamClass(), SharedDataLocalProxy.class)) {
-            return localDataProxy;
+        if (ReflectionClass.assertDataType(paramClass, SharedDataLocalProxy.class)) {
+            return source -> localDataProxy;
         }
-        if (ReflectionClass.assertDataType(param.getParamClass(), EventBusClient.class)) {
-            return EventBusClient.create(localDataProxy);
+        if (ReflectionClass.assertDataType(paramClass, EventBusClient.class)) {
+            return source -> EventBusClient.create(localDataProxy);
         }
-        throw new ImplementationError(ErrorCode.UNSUPPORTED,
-                                      "Unsupported EventBus context [" + param.getParamClass() + "]");
+        return source -> {
+            throw new ImplementationError(ErrorCode.UNSUPPORTED, "Unsupported EventBus context [" + paramClass + "]");
+        };
     }
 
-    protected Object parseEBParam(EventMessage message, MethodParam param, boolean oneParam) {
-        JsonObject data = message.isError() ? Optional.ofNullable(message.getError())
-                                                      .map(ErrorMessage::toJson)
-                                                      .orElse(null) : message.getData();
-        if (Objects.isNull(data)) {
-            return null;
-        }
-        Object d = lookupParamValue(param, data);
-        if (Objects.isNull(d)) {
-            if (param.getParamClass().isPrimitive()) {
-                throw new IllegalArgumentException(
-                    "Data Field [" + param.getParamName() + "] is primitive type but given null data");
+    protected ParamBinder compileEBParam(MethodParam param, boolean oneParam) {
+        final EBBody a = param.lookupAnnotation(EBBody.class);
+        final String key = Optional.ofNullable(a).map(EBBody::value).orElseGet(param::getParamName);
+        final Class<?> paramClass = param.getParamClass();
+        final boolean isJavaLang = ReflectionClass.isJavaLangObject(paramClass);
+        final JavaType javaType = mapper.constructType(paramClass);
+        return source -> {
+            if (Objects.isNull(source.data)) {
+                return null;
             }
-            return oneParam ? tryDeserialize(data.getMap(), param.getParamClass()) : null;
-        }
-        return tryParseParamValue(param.getParamClass(), d);
+            final JsonObject lookup = Objects.nonNull(a) && source.data.containsKey(StandardKey.BODY)
+                                      ? source.body()
+                                      : source.data;
+            final Object d = Objects.isNull(lookup) ? null : lookup.getValue(key);
+            if (Objects.isNull(d)) {
+                if (paramClass.isPrimitive()) {
+                    throw new IllegalArgumentException(
+                        "Data Field [" + param.getParamName() + "] is primitive type but given null data");
+                }
+                return oneParam ? tryDeserialize(source.data.getMap(), javaType) : null;
+            }
+            if (isJavaLang) {
+                return tryCast(paramClass, d);
+            }
+            return tryDeserialize(d, javaType);
+        };
     }
 
-    protected Object lookupParamValue(MethodParam param, JsonObject data) {
-        EBBody a = param.lookupAnnotation(EBBody.class);
-        if (Objects.nonNull(a) && data.containsKey(StandardKey.BODY)) {
-            return Functions.getIfThrow(() -> JsonObject.mapFrom(data.getValue(StandardKey.BODY)))
-                            .map(json -> json.getValue(a.value()))
-                            .orElse(null);
-        }
-        return data.getValue(Optional.ofNullable(a).map(EBBody::value).orElseGet(param::getParamName));
+    /**
+     * Lookup data to bind {@code EBParam} once per message
+     *
+     * @param message event message
+     * @return error in json if message is error, otherwise the read-only message data view
+     * @see EventMessage#dataView()
+     */
+    protected JsonObject lookupData(EventMessage message) {
+        return message.isError()
+               ? Optional.ofNullable(message.getError()).map(ErrorMessage::toJson).orElse(null)
+               : message.dataView();
     }
 
-    protected Object tryParseParamValue(Class<?> paramClass, Object d) {
+    private Object tryCast(Class<?> paramClass, Object d) {
         try {
-            if (ReflectionClass.isJavaLangObject(paramClass)) {
-                return ReflectionClass.assertDataType(d.getClass(), paramClass) ? d : paramClass.cast(d);
-            }
+            return ReflectionClass.assertDataType(d.getClass(), paramClass) ? d : paramClass.cast(d);
         } catch (ClassCastException e) {
             throw new IllegalArgumentException("Event message format is invalid", new HiddenException(
                 "Unable cast data type [" + paramClass.getName() + "]", e));
         }
-        return tryDeserialize(d, paramClass);
     }
 
-    private Object tryDeserialize(Object data, Class<?> paramClass) {
+    private Object tryDeserialize(Object data, JavaType javaType) {
         try {
-            return mapper.convertValue(data, paramClass);
+            return mapper.convertValue(data, javaType);
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException("Event message format is invalid",
                                                new HiddenException("Jackson parser error", e));
         }
     }
 
+    /**
+     * Binds event message to an array of param's value
+     */
+    protected interface BindingPlan {
+
+        Object[] bind(EventMessage message);
+
+    }
+
+
+    /**
+     * Binds one param's value from the binding source
+     */
+    protected interface ParamBinder {
+
+        Object bind(BindingSource source);
+
+    }
+
+
+    /**
+     * Holds data are looked up once per event message
+     */
+    @RequiredArgsConstructor
+    protected static final class BindingSource {
+
+        private final EventMessage message;
+        private final JsonObject data;
+        private JsonObject body;
+        private boolean bodyLookup;
+
+        private JsonObject body() {
+            if (!bodyLookup) {
+                body = Functions.getIfThrow(() -> JsonObject.mapFrom(data.getValue(StandardKey.BODY))).orElse(null);
+                bodyLookup = true;
+            }
+            return body;
+        }
+
+    }
+
 }
@@ -0,0 +1,65 @@
+package io.zero88.qwe.event.refl;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class MethodHandleInvoker implements MethodInvoker {
+
+    private static final MethodType GENERIC_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+    private final MethodHandle handle;
+    private final Method method;
+
+    static MethodInvoker create(Method method) throws IllegalAccessException {
+        method.setAccessible(true);
+        MethodHandle handle = MethodHandles.lookup().unreflect(method);
+        if (Modifier.isStatic(method.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        return new MethodHandleInvoker(
+            handle.asSpreader(Object[].class, method.getParameterCount()).asType(GENERIC_TYPE), method);
+    }
+
+    @Override
+    public Object invoke(Object instance, Object[] args) throws Throwable {
+        try {
+            return handle.invokeExact(instance, args);
+        } catch (WrongMethodTypeException e) {
+            throw new IllegalArgumentException("Argument type mismatch of method [" + method.getName() + "]", e);
+        } catch (ClassCastException | NullPointerException e) {
+            // Same as reflection, an argument that does not fit the method is an illegal argument
+            if (isMismatched(instance, args)) {
+                throw new IllegalArgumentException("Argument type mismatch of method [" + method.getName() + "]", e);
+            }
+            throw e;
+        }
+    }
+
+    private boolean isMismatched(Object instance, Object[] args) {
+        if (!Modifier.isStatic(method.getModifiers()) && !method.getDeclaringClass().isInstance(instance)) {
+            return true;
+        }
+        final Class<?>[] types = method.getParameterTypes();
+        if (args == null || args.length != types.length) {
+            return true;
+        }
+        for (int i = 0; i < types.length; i++) {
+            if (args[i] == null ? types[i].isPrimitive() : !wrap(types[i]).isInstance(args[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+    }
+
+}
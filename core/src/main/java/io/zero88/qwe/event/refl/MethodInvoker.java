@@ -0,0 +1,40 @@
+package io.zero88.qwe.event.refl;
+
+import java.lang.reflect.Method;
+
+import lombok.NonNull;
+
+/**
+ * Represents for an invoker that executes an {@code EventListener} method
+ *
+ * @see MethodMeta#invoker()
+ */
+@FunctionalInterface
+public interface MethodInvoker {
+
+    /**
+     * Create a method invoker that is backed by {@code MethodHandle}, then fallback to {@code Java reflection} if
+     * unable to generate it.
+     *
+     * @param method a reflect method
+     * @return a method invoker
+     */
+    static MethodInvoker create(@NonNull Method method) {
+        try {
+            return MethodHandleInvoker.create(method);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return new ReflectionInvoker(method);
+        }
+    }
+
+    /**
+     * Invoke method
+     *
+     * @param instance a declaring class instance
+     * @param args     method arguments
+     * @return the method output, or {@code null} if method returns {@code void}
+     * @throws Throwable the original error that is thrown by method
+     */
+    Object invoke(Object instance, Object[] args) throws Throwable;
+
+}
@@ -2,6 +2,9 @@ package io.zero88.qwe.event.refl;
 
 import java.lang.reflect.Method;
 
+import io.zero88.qwe.event.EBContract;
+import io.zero88.qwe.event.ExecutionMode;
+
 /**
  * Represents for EventListener method that corresponding to {@code EventAction} will be executed
  */
@@ -23,4 +26,16 @@ public interface MethodMeta {
      */
     Method method();
 
+    /**
+     * @return a method invoker
+     * @see MethodInvoker
+     */
+    MethodInvoker invoker();
+
+    /**
+     * @return the declared execution mode
+     * @see EBContract#mode()
+     */
+    ExecutionMode mode();
+
 }
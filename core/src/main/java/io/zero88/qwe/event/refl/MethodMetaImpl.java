@@ -1,18 +1,32 @@
 package io.zero88.qwe.event.refl;
 
 import java.lang.reflect.Method;
+import java.util.Optional;
+
+import io.zero88.qwe.event.EBContract;
+import io.zero88.qwe.event.ExecutionMode;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.experimental.Accessors;
 
 @Getter
 @Accessors(fluent = true)
-@RequiredArgsConstructor
 final class MethodMetaImpl implements MethodMeta {
 
     private final String declaringClass;
     private final Method method;
     private final MethodParam[] params;
+    private final MethodInvoker invoker;
+    private final ExecutionMode mode;
+
+    MethodMetaImpl(String declaringClass, Method method, MethodParam[] params) {
+        this.declaringClass = declaringClass;
+        this.method = method;
+        this.params = params;
+        this.invoker = MethodInvoker.create(method);
+        this.mode = Optional.ofNullable(method.getAnnotation(EBContract.class))
+                            .map(EBContract::mode)
+                            .orElse(ExecutionMode.AUTO);
+    }
 
 }
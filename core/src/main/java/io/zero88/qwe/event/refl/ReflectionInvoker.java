@@ -0,0 +1,25 @@
+package io.zero88.qwe.event.refl;
+
+import java.lang.reflect.Method;
+import java.util.Objects;
+
+import io.github.zero88.exceptions.ReflectionException;
+import io.github.zero88.repl.ReflectionMethod;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+final class ReflectionInvoker implements MethodInvoker {
+
+    private final Method method;
+
+    @Override
+    public Object invoke(Object instance, Object[] args) throws Throwable {
+        try {
+            return ReflectionMethod.execute(instance, method, args);
+        } catch (ReflectionException e) {
+            throw Objects.isNull(e.getCause()) ? e : e.getCause();
+        }
+    }
+
+}
@@ -4,13 +4,17 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import io.zero88.qwe.event.EBBody;
 import io.zero88.qwe.event.EBContext;
 import io.zero88.qwe.event.EBContract;
 import io.zero88.qwe.event.EBParam;
@@ -27,16 +31,51 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public class SimpleAnnotationProcessor implements EventAnnotationProcessor {
 
+    static final SimpleAnnotationProcessor DEFAULT = new SimpleAnnotationProcessor(IGNORE_PACKAGES,
+                                                                                   Collections.singleton(EBBody.class));
+
     private final String[] ignorePackages;
     private final Set<Class<? extends Annotation>> supportedAnnotations;
+    private final Map<Class<?>, EventDispatchTable> tables = new ConcurrentHashMap<>();
 
     @Override
     public MethodMeta lookup(@NonNull Class<? extends EventListener> listenerClass, @NonNull EventAction action) {
-        return find(listenerClass, action);
+        return scan(listenerClass).lookup(action);
+    }
+
+    @Override
+    public EventDispatchTable scan(@NonNull Class<? extends EventListener> listenerClass) {
+        return tables.computeIfAbsent(listenerClass, this::build);
+    }
+
+    protected EventDispatchTable build(@NonNull Class<?> listenerClass) {
+        final Map<String, MethodMeta> methods = new HashMap<>();
+        final Map<String, String> conflicts = new HashMap<>();
+        if (!isIgnored(listenerClass)) {
+            Arrays.stream(listenerClass.getMethods())
+                  .map(m -> m.getAnnotation(EBContract.class))
+                  .filter(Objects::nonNull)
+                  .flatMap(annotation -> Arrays.stream(annotation.action()))
+                  .distinct()
+                  .forEach(action -> {
+                      try {
+                          methods.put(action, find(listenerClass, EventAction.parse(action)));
+                      } catch (ImplementationError e) {
+                          conflicts.put(action, e.getMessage());
+                      } catch (UnsupportedException e) {
+                          // action is not reachable due to it is not normalized as EventAction
+                      }
+                  });
+        }
+        return new EventDispatchTableImpl(listenerClass.getName(), methods, conflicts);
+    }
+
+    protected boolean isIgnored(@NonNull Class<?> listenerClass) {
+        return Arrays.stream(ignorePackages).anyMatch(s -> listenerClass.getPackage().getName().startsWith(s));
     }
 
     protected MethodMeta find(@NonNull Class<?> listenerClass, @NonNull EventAction action) {
-        if (Arrays.stream(ignorePackages).anyMatch(s -> listenerClass.getPackage().getName().startsWith(s))) {
+        if (isIgnored(listenerClass)) {
             throw new UnsupportedException("Unsupported event [" + action + "]");
         }
         return Arrays.stream(listenerClass.getMethods())
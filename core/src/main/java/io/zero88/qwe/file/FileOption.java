@@ -1,7 +1,13 @@
 package io.zero88.qwe.file;
 
+import java.util.Objects;
+
 import io.zero88.qwe.dto.JsonData;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Builder.Default;
 import lombok.Getter;
@@ -9,7 +15,7 @@ import lombok.extern.jackson.Jacksonized;
 
 @Getter
 @Jacksonized
-@Builder(builderClassName = "Builder")
+@Builder(builderClassName = "Builder", toBuilder = true)
 public class FileOption implements JsonData {
 
     @Default
@@ -24,9 +30,48 @@ public class FileOption implements JsonData {
     private final String filePerms = "rw-r--r--";
     @Default
     private final String folderPerms = "rwxr-xr-x";
+    /**
+     * If {@code atomicWrite}, a file is written to a sibling temporary file, then it is renamed atomically over the
+     * target file. Otherwise, the target file is deleted, created then written. {@code null} means unset, then a
+     * consumer may apply its own default
+     */
+    @Getter(AccessLevel.NONE)
+    private final Boolean atomicWrite;
+    /**
+     * If {@code fsync}, the written data is forced to the storage device before the file is closed. With {@link
+     * #isAtomicWrite()}, the parent directory is also forced after the temporary file is renamed
+     */
+    @Default
+    private final boolean fsync = false;
 
     public static FileOption create() {
         return FileOption.builder().build();
     }
 
+    /**
+     * @return the raw {@code atomicWrite} value, {@code null} if it is unset
+     */
+    @JsonProperty("atomicWrite")
+    public Boolean getAtomicWrite() {
+        return atomicWrite;
+    }
+
+    /**
+     * @return {@code true} only if {@code atomicWrite} is explicitly enabled
+     */
+    @JsonIgnore
+    public boolean isAtomicWrite() {
+        return Boolean.TRUE.equals(atomicWrite);
+    }
+
+    /**
+     * Applies the given default if {@code atomicWrite} is unset
+     *
+     * @param atomicWrite the default value
+     * @return this option if {@code atomicWrite} is set, otherwise a copy with given default
+     */
+    public FileOption defaultAtomicWrite(boolean atomicWrite) {
+        return Objects.isNull(this.atomicWrite) ? toBuilder().atomicWrite(atomicWrite).build() : this;
+    }
+
 }
@@ -1,11 +1,14 @@
 package io.zero88.qwe.file;
 
 import java.nio.file.Path;
+import java.util.UUID;
 import java.util.function.Function;
 
 import io.github.zero88.exceptions.FileException;
 import io.vertx.core.Future;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.CopyOptions;
+import io.vertx.core.file.OpenOptions;
 import io.zero88.qwe.file.converter.BufferConverter;
 
 import lombok.NonNull;
@@ -41,14 +44,60 @@ public final class TextFileOperatorImpl extends AsyncFileOperatorImpl implements
             if (verified.isExisted() && !option.isOverwrite()) {
                 return Future.failedFuture(FileOptionException.disallowOverwrite());
             }
+            if (option.isAtomicWrite()) {
+                return writeAtomic(path, option, verified, convert(converter::to, data));
+            }
             final Future<Path> future = verified.isExisted() ? deleteFile(path, option) : Future.succeededFuture(path);
+            final OpenOptions openOptions = new OpenOptions().setWrite(true).setTruncateExisting(true);
             return future.flatMap(p -> touch(p, option))
                          .map(p -> convert(converter::to, data))
-                         .flatMap(buffer -> fs.writeFile(path.toString(), buffer))
+                         .flatMap(buffer -> writeFile(path, openOptions, buffer, option.isFsync()))
                          .map(unused -> path);
         });
     }
 
+    /**
+     * Write data to a sibling temporary file then rename it atomically over the target file, then the target file is
+     * either the previous content or the new content even if the process crashes in the middle.
+     * <p>
+     * If {@code fsync}, the parent directory is also forced after renaming, then the rename itself survives a power
+     * loss. It is best effort, because not every platform can open a directory.
+     */
+    private Future<Path> writeAtomic(Path path, FileOption option, FileVerifiedOutput verified, Buffer buffer) {
+        if (!verified.isExisted() && !option.isAutoCreate()) {
+            return Future.failedFuture(FileOptionException.disallowCreation());
+        }
+        final Path tmp = path.resolveSibling("." + path.getFileName() + "." + UUID.randomUUID() + ".tmp");
+        final OpenOptions openOptions = new OpenOptions().setCreateNew(true)
+                                                         .setWrite(true)
+                                                         .setPerms(option.getFilePerms());
+        final Future<Path> parent = verified.isParentExisted()
+                                    ? Future.succeededFuture(path.getParent())
+                                    : mkdirs(path.getParent(), option);
+        return parent.flatMap(p -> writeFile(tmp, openOptions, buffer, option.isFsync()))
+                     .flatMap(v -> fs.chown(tmp.toString(), option.getOwner(), null))
+                     .flatMap(v -> fs.move(tmp.toString(), path.toString(),
+                                           new CopyOptions().setReplaceExisting(true).setAtomicMove(true)))
+                     .flatMap(v -> option.isFsync() ? syncDirectory(path.getParent()) : Future.<Void>succeededFuture())
+                     .map(v -> path)
+                     .recover(t -> fs.delete(tmp.toString())
+                                     .otherwiseEmpty()
+                                     .flatMap(v -> convertException(t, path)));
+    }
+
+    private Future<Void> writeFile(Path path, OpenOptions openOptions, Buffer buffer, boolean fsync) {
+        return fs.open(path.toString(), openOptions)
+                 .flatMap(file -> file.write(buffer)
+                                      .flatMap(v -> fsync ? file.flush() : Future.succeededFuture(v))
+                                      .eventually(v -> file.close()));
+    }
+
+    private Future<Void> syncDirectory(Path dir) {
+        return fs.open(dir.toString(), new OpenOptions().setRead(true).setWrite(false).setCreate(false))
+                 .flatMap(d -> d.flush().eventually(v -> d.close()))
+                 .otherwiseEmpty();
+    }
+
     private <F, T> T convert(@NonNull Function<F, T> func, F from) {
         try {
             return func.apply(from);
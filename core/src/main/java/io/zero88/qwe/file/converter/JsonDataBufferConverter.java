@@ -23,7 +23,7 @@ public class JsonDataBufferConverter<T extends JsonData> implements BufferConver
 
     @Override
     public Buffer to(@NonNull T data) {
-        return data.toJson().toBuffer();
+        return data.toBuffer();
     }
 
 }
@@ -8,6 +8,10 @@ import org.junit.jupiter.api.Test;
 import io.vertx.core.eventbus.DeliveryOptions;
 import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.JsonObject;
+import io.zero88.qwe.event.AddressLimitOptions.OverflowPolicy;
+import io.zero88.qwe.event.EventAction;
+import io.zero88.qwe.event.EventBusDeliveryOption;
+import io.zero88.qwe.event.ResponseCacheOptions;
 import io.zero88.qwe.exceptions.ConfigException;
 
 class QWEAppConfigTest {
@@ -41,6 +45,79 @@ class QWEAppConfigTest {
         JsonHelper.assertJson(new DeliveryOptions().toJson(), appConfig.getDeliveryOptions().toJson());
     }
 
+    @Test
+    public void test_deserialize_address_limits() {
+        String jsonStr = "{\"__app__\":{\"__delivery__\":{\"sendTimeout\":1000,\"addressLimits\":{\"*\":" +
+                         "{\"maxInFlight\":8},\"a.b\":{\"maxInFlight\":2,\"maxQueued\":10,\"policy\":\"SHED\"," +
+                         "\"maxVirtualThreads\":4}}}}}";
+        QWEAppConfig cfg = IConfig.from(jsonStr, QWEAppConfig.class);
+        Assertions.assertEquals(1000, cfg.getDeliveryOptions().getSendTimeout());
+        Assertions.assertEquals(2, cfg.getAddressLimits().size());
+        final EventBusDeliveryOption option = new EventBusDeliveryOption(cfg.getDeliveryOptions(),
+                                                                         cfg.getAddressLimits());
+        Assertions.assertEquals(8, option.limit("x.y").getMaxInFlight());
+        Assertions.assertEquals(0, option.limit("x.y").getMaxQueued());
+        Assertions.assertEquals(2, option.limit("a.b").getMaxInFlight());
+        Assertions.assertEquals(10, option.limit("a.b").getMaxQueued());
+        Assertions.assertEquals(OverflowPolicy.SHED, option.limit("a.b").getPolicy());
+        Assertions.assertEquals(4, option.limit("a.b").getMaxVirtualThreads());
+        Assertions.assertEquals(0, option.limit("x.y").getMaxVirtualThreads());
+        Assertions.assertEquals(10, cfg.toJson()
+                                       .getJsonObject(QWEAppConfig.DELIVERY_OPTIONS)
+                                       .getJsonObject(QWEAppConfig.ADDRESS_LIMITS)
+                                       .getJsonObject("a.b")
+                                       .getInteger("maxQueued"));
+    }
+
+    @Test
+    public void test_deserialize_coalesce_actions() {
+        String jsonStr = "{\"__app__\":{\"__delivery__\":{\"coalesceActions\":[\"GET_ONE\",\"query\"]}}}";
+        QWEAppConfig cfg = IConfig.from(jsonStr, QWEAppConfig.class);
+        final EventBusDeliveryOption option = new EventBusDeliveryOption(cfg.getDeliveryOptions(), null,
+                                                                         cfg.getCoalesceActions());
+        Assertions.assertTrue(option.isCoalesced(EventAction.GET_ONE));
+        Assertions.assertTrue(option.isCoalesced(EventAction.parse("QUERY")));
+        Assertions.assertFalse(option.isCoalesced(EventAction.UPDATE));
+        Assertions.assertEquals(2, cfg.toJson()
+                                      .getJsonObject(QWEAppConfig.DELIVERY_OPTIONS)
+                                      .getJsonArray(QWEAppConfig.COALESCE_ACTIONS)
+                                      .size());
+    }
+
+    @Test
+    public void test_deserialize_response_caches() {
+        String jsonStr = "{\"__app__\":{\"__delivery__\":{\"responseCaches\":{\"a.b\":{\"ttl\":1000," +
+                         "\"actions\":[\"QUERY\"]}}}}}";
+        QWEAppConfig cfg = IConfig.from(jsonStr, QWEAppConfig.class);
+        final EventBusDeliveryOption option = new EventBusDeliveryOption(cfg.getDeliveryOptions(), null, null,
+                                                                         cfg.getResponseCaches());
+        Assertions.assertNull(option.responseCache("x.y"));
+        final ResponseCacheOptions cache = option.responseCache("a.b");
+        Assertions.assertEquals(1000, cache.getTtl());
+        Assertions.assertEquals(1000, cache.getMaxSize());
+        Assertions.assertTrue(cache.isCacheable(EventAction.parse("QUERY")));
+        Assertions.assertFalse(cache.isCacheable(EventAction.GET_ONE));
+        Assertions.assertTrue(cache.isInvalidatedBy(EventAction.REMOVE));
+        Assertions.assertEquals(1000, cfg.toJson()
+                                         .getJsonObject(QWEAppConfig.DELIVERY_OPTIONS)
+                                         .getJsonObject(QWEAppConfig.RESPONSE_CACHES)
+                                         .getJsonObject("a.b")
+                                         .getLong("ttl"));
+    }
+
+    @Test
+    public void test_deserialize_metrics() {
+        Assertions.assertFalse(IConfig.from("{\"__app__\":{}}", QWEAppConfig.class).getMetrics().isEnabled());
+        String jsonStr = "{\"__app__\":{\"__delivery__\":{\"metrics\":{\"enabled\":true,\"maxMeters\":10}}}}";
+        QWEAppConfig cfg = IConfig.from(jsonStr, QWEAppConfig.class);
+        Assertions.assertTrue(cfg.getMetrics().isEnabled());
+        Assertions.assertEquals(10, cfg.getMetrics().getMaxMeters());
+        Assertions.assertEquals(10, cfg.toJson()
+                                       .getJsonObject(QWEAppConfig.DELIVERY_OPTIONS)
+                                       .getJsonObject(QWEAppConfig.METRICS)
+                                       .getInteger("maxMeters"));
+    }
+
     @Test
     public void test_merge_app_config() {
         String oldApp = "{\"__kafka__\":{\"__client__\":{\"bootstrap.servers\":[\"localhost:9092\"]}}," +
@@ -0,0 +1,101 @@
+package io.zero88.qwe.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+class BoundedAsyncLocalCacheTest {
+
+    private final AtomicLong ticker = new AtomicLong();
+    private List<Promise<String>> loads;
+    private BoundedAsyncLocalCache<Integer, String> cache;
+
+    @BeforeEach
+    void setup() {
+        loads = new ArrayList<>();
+        cache = new BoundedAsyncLocalCache<Integer, String>(
+            CacheOptions.builder().maximumSize(10).refreshAfterWrite(100).expireAfterWrite(1000).build(),
+            ticker::get).register(k -> {
+            final Promise<String> promise = Promise.promise();
+            loads.add(promise);
+            return promise.future();
+        });
+    }
+
+    @Test
+    void test_deduplicate_concurrent_loads() {
+        final Future<String> f1 = cache.get(1);
+        final Future<String> f2 = cache.get(1);
+        Assertions.assertEquals(1, loads.size());
+        loads.get(0).complete("v1");
+        Assertions.assertEquals("v1", f1.result());
+        Assertions.assertEquals("v1", f2.result());
+        Assertions.assertEquals("v1", cache.get(1).result());
+        Assertions.assertEquals(1, loads.size());
+    }
+
+    @Test
+    void test_failed_load_is_not_cached() {
+        final Future<String> f1 = cache.get(1);
+        loads.get(0).fail(new IllegalStateException("failed"));
+        Assertions.assertTrue(f1.failed());
+        final Future<String> f2 = cache.get(1);
+        Assertions.assertEquals(2, loads.size());
+        loads.get(1).complete("v1");
+        Assertions.assertEquals("v1", f2.result());
+    }
+
+    @Test
+    void test_remove_during_load_is_not_overridden() {
+        final Future<String> f1 = cache.get(1);
+        cache.remove(1);
+        loads.get(0).complete("stale");
+        Assertions.assertEquals("stale", f1.result());
+        final Future<String> f2 = cache.get(1);
+        Assertions.assertEquals(2, loads.size());
+        loads.get(1).complete("v2");
+        Assertions.assertEquals("v2", f2.result());
+    }
+
+    @Test
+    void test_put_during_load_is_not_overridden() {
+        cache.get(1);
+        cache.put(1, "put");
+        loads.get(0).complete("stale");
+        Assertions.assertEquals("put", cache.get(1).result());
+        Assertions.assertEquals(1, loads.size());
+    }
+
+    @Test
+    void test_refresh_in_background() {
+        cache.get(1);
+        loads.get(0).complete("v1");
+        ticker.addAndGet(TimeUnit.MILLISECONDS.toNanos(150));
+        Assertions.assertEquals("v1", cache.get(1).result());
+        Assertions.assertEquals(2, loads.size());
+        Assertions.assertEquals("v1", cache.get(1).result());
+        Assertions.assertEquals(2, loads.size());
+        loads.get(1).complete("v2");
+        Assertions.assertEquals("v2", cache.get(1).result());
+    }
+
+    @Test
+    void test_failed_refresh_keeps_current_value() {
+        cache.get(1);
+        loads.get(0).complete("v1");
+        ticker.addAndGet(TimeUnit.MILLISECONDS.toNanos(150));
+        cache.get(1);
+        loads.get(1).fail(new IllegalStateException("failed"));
+        ticker.addAndGet(TimeUnit.MILLISECONDS.toNanos(10));
+        Assertions.assertEquals("v1", cache.get(1).result());
+    }
+
+}
@@ -0,0 +1,120 @@
+package io.zero88.qwe.cache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.zero88.qwe.cache.CacheOptions.EvictionPolicy;
+
+class BoundedLocalCacheTest {
+
+    private final AtomicLong ticker = new AtomicLong();
+
+    private BoundedLocalCache<Integer, String> create(CacheOptions options) {
+        return new BoundedLocalCache<>(options, ticker::get);
+    }
+
+    private void advance(long millis) {
+        ticker.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    @Test
+    void test_lru_evict_least_recently_used() {
+        final BoundedLocalCache<Integer, String> cache = create(
+            CacheOptions.builder().maximumSize(2).policy(EvictionPolicy.LRU).build());
+        cache.add(1, "1").add(2, "2");
+        Assertions.assertEquals("1", cache.get(1));
+        cache.add(3, "3");
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertNull(cache.get(2));
+        Assertions.assertEquals("1", cache.get(1));
+        Assertions.assertEquals("3", cache.get(3));
+        Assertions.assertEquals(1, cache.stats().getEvictionCount());
+    }
+
+    @Test
+    void test_tiny_lfu_keep_frequent_entries() {
+        final BoundedLocalCache<Integer, String> cache = create(CacheOptions.builder().maximumSize(100).build());
+        IntStream.range(0, 100).forEach(i -> cache.add(i, "" + i));
+        IntStream.range(0, 5).forEach(n -> IntStream.range(0, 50).forEach(cache::get));
+        IntStream.range(1000, 1500).forEach(i -> cache.add(i, "" + i));
+        Assertions.assertEquals(100, cache.size());
+        final long hot = IntStream.range(0, 50).filter(i -> cache.getIfPresent(i) != null).count();
+        Assertions.assertTrue(hot >= 45, "Frequent entries are evicted by one-hit entries: " + hot);
+    }
+
+    @Test
+    void test_expire_after_write() {
+        final BoundedLocalCache<Integer, String> cache = create(CacheOptions.builder().expireAfterWrite(100).build());
+        cache.add(1, "1");
+        advance(50);
+        Assertions.assertEquals("1", cache.get(1));
+        advance(50);
+        Assertions.assertNull(cache.get(1));
+        Assertions.assertEquals(0, cache.size());
+    }
+
+    @Test
+    void test_expire_after_access() {
+        final BoundedLocalCache<Integer, String> cache = create(CacheOptions.builder().expireAfterAccess(100).build());
+        cache.add(1, "1").add(2, "2");
+        advance(60);
+        Assertions.assertEquals("1", cache.get(1));
+        advance(60);
+        Assertions.assertEquals("1", cache.get(1));
+        Assertions.assertEquals(1, cache.all().size());
+        cache.cleanUp();
+        Assertions.assertEquals(1, cache.size());
+    }
+
+    @Test
+    void test_discover_and_stats() {
+        final AtomicInteger loaded = new AtomicInteger();
+        final BoundedLocalCache<Integer, String> cache = create(CacheOptions.builder().maximumSize(10).build());
+        cache.register(k -> "v" + loaded.incrementAndGet());
+        Assertions.assertEquals("v1", cache.get(1));
+        Assertions.assertEquals("v1", cache.get(1));
+        Assertions.assertEquals(1, loaded.get());
+        final CacheStats stats = cache.stats();
+        Assertions.assertEquals(1, stats.getHitCount());
+        Assertions.assertEquals(1, stats.getMissCount());
+        Assertions.assertEquals(0.5, stats.hitRate());
+        Assertions.assertEquals(1, stats.getSize());
+    }
+
+    @Test
+    void test_unbounded_without_expiration() {
+        final AtomicInteger loaded = new AtomicInteger();
+        final BoundedLocalCache<Integer, String> cache = create(CacheOptions.unbounded());
+        cache.register(k -> "v" + loaded.incrementAndGet());
+        IntStream.range(0, 100).forEach(cache::get);
+        advance(TimeUnit.DAYS.toMillis(1));
+        IntStream.range(0, 100).forEach(cache::get);
+        Assertions.assertEquals(100, loaded.get());
+        Assertions.assertEquals("v1", cache.putIfAbsent(0, "other"));
+        Assertions.assertEquals("v2", cache.remove(1));
+        Assertions.assertEquals(99, cache.all().size());
+        final CacheStats stats = cache.stats();
+        Assertions.assertEquals(100, stats.getHitCount());
+        Assertions.assertEquals(100, stats.getMissCount());
+        Assertions.assertEquals(0, stats.getEvictionCount());
+        cache.invalidateAll();
+        Assertions.assertEquals(0, cache.size());
+    }
+
+    @Test
+    void test_class_graph_cache_is_bounded() {
+        final ClassGraphCache<String, Object> cache = new ClassGraphCache<>(
+            "name", CacheOptions.builder().maximumSize(1).policy(EvictionPolicy.LRU).build());
+        cache.register(k -> Object.class);
+        cache.get("a");
+        cache.get("b");
+        Assertions.assertEquals(1, cache.all().size());
+        Assertions.assertEquals(1, cache.stats().getEvictionCount());
+    }
+
+}
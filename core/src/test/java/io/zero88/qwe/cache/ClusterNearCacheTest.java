@@ -0,0 +1,65 @@
+package io.zero88.qwe.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import io.zero88.qwe.SharedDataLocalProxy;
+
+@ExtendWith(VertxExtension.class)
+class ClusterNearCacheTest {
+
+    @Test
+    void test_share_and_invalidate(Vertx vertx, VertxTestContext testContext) {
+        final String name = "test.cluster.cache";
+        final AtomicInteger loaded = new AtomicInteger();
+        final ClusterNearCache<String> node1 = new ClusterNearCache<String>(
+            SharedDataLocalProxy.create(vertx, "node1"), name, CacheOptions.builder().maximumSize(10).build()).register(
+            k -> Future.succeededFuture(k + "-" + loaded.incrementAndGet()));
+        final ClusterNearCache<String> node2 = new ClusterNearCache<String>(
+            SharedDataLocalProxy.create(vertx, "node2"), name, CacheOptions.builder().maximumSize(10).build()).register(
+            k -> Future.succeededFuture(k + "-" + loaded.incrementAndGet()));
+        node1.get("a")
+             .flatMap(v -> node2.get("a").onSuccess(v2 -> testContext.verify(() -> {
+                 Assertions.assertEquals("a-1", v);
+                 Assertions.assertEquals("a-1", v2);
+                 Assertions.assertEquals(1, loaded.get());
+             })))
+             .flatMap(v -> {
+                 node2.invalidatedHandler(key -> node2.get(key).onSuccess(v2 -> testContext.verify(() -> {
+                     Assertions.assertEquals("updated", v2);
+                     Assertions.assertEquals(2, node2.nearStats().getMissCount());
+                     testContext.completeNow();
+                 })));
+                 return node1.put("a", "updated");
+             })
+             .onFailure(testContext::failNow);
+    }
+
+    @Test
+    void test_cluster_entry_expires_after_write(Vertx vertx, VertxTestContext testContext) {
+        final String name = "test.cluster.cache.ttl";
+        final AtomicInteger loaded = new AtomicInteger();
+        final CacheOptions options = CacheOptions.builder().maximumSize(10).expireAfterWrite(100).build();
+        final ClusterNearCache<String> node1 = new ClusterNearCache<String>(
+            SharedDataLocalProxy.create(vertx, "node1"), name, options).register(
+            k -> Future.succeededFuture(k + "-" + loaded.incrementAndGet()));
+        node1.get("a").onSuccess(v -> testContext.verify(() -> Assertions.assertEquals("a-1", v))).onSuccess(
+            v -> vertx.setTimer(300, t -> {
+                final ClusterNearCache<String> node2 = new ClusterNearCache<String>(
+                    SharedDataLocalProxy.create(vertx, "node2"), name, options).register(
+                    k -> Future.succeededFuture(k + "-" + loaded.incrementAndGet()));
+                node2.get("a").onSuccess(v2 -> testContext.verify(() -> {
+                    Assertions.assertEquals("a-2", v2);
+                    testContext.completeNow();
+                })).onFailure(testContext::failNow);
+            })).onFailure(testContext::failNow);
+    }
+
+}
@@ -0,0 +1,42 @@
+package io.zero88.qwe.dto;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.zero88.qwe.event.EventAction;
+import io.zero88.qwe.exceptions.ErrorCode;
+
+public class EnumTypeTest {
+
+    @Test
+    public void test_parse_known_type() {
+        Assertions.assertSame(EventAction.CREATE, EventAction.parse("CREATE"));
+        Assertions.assertSame(EventAction.CREATE, EventAction.parse("create"));
+        Assertions.assertSame(EventAction.GET_ONE, EventAction.parse(" get_one "));
+        Assertions.assertSame(ErrorCode.DATA_NOT_FOUND, ErrorCode.parse("data_not_found"));
+    }
+
+    @Test
+    public void test_parse_blank_type() {
+        Assertions.assertSame(EventAction.UNKNOWN, EventAction.parse(null));
+        Assertions.assertSame(EventAction.UNKNOWN, EventAction.parse("  "));
+        Assertions.assertNull(ErrorCode.parse(""));
+    }
+
+    @Test
+    public void test_parse_unknown_type_is_interned() {
+        final EventAction action = EventAction.parse("xyz_action");
+        Assertions.assertEquals("XYZ_ACTION", action.action());
+        Assertions.assertSame(action, EventAction.parse("XYZ_ACTION"));
+        Assertions.assertNotSame(EventAction.UNKNOWN, action);
+    }
+
+    @Test
+    public void test_parse_unknown_type_over_limit() {
+        for (int i = 0; i < EnumTypeLookup.MAX_UNKNOWN + 10; i++) {
+            Assertions.assertEquals("LIMIT_" + i, EventAction.parse("limit_" + i).action());
+        }
+        Assertions.assertSame(EventAction.REPLY, EventAction.parse("reply"));
+    }
+
+}
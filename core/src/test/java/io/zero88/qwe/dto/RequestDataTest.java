@@ -9,6 +9,7 @@ import io.zero88.qwe.JsonHelper;
 import io.zero88.qwe.dto.jpa.Pagination;
 import io.zero88.qwe.dto.jpa.Sort;
 import io.zero88.qwe.dto.msg.RequestData;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
 
 public class RequestDataTest {
@@ -84,4 +85,19 @@ public class RequestDataTest {
         JsonHelper.assertJson(expected, from.toJson());
     }
 
+    @Test
+    public void test_buffer_round_trip() {
+        RequestData requestData = RequestData.builder()
+                                             .headers(new JsonObject().put("h1", "v1"))
+                                             .body(new JsonObject().put("b1", "v2"))
+                                             .pagination(Pagination.builder().build())
+                                             .sort(Sort.builder().item(Order.byDESC("s1")).build())
+                                             .build();
+        final Buffer buffer = requestData.toBuffer();
+        JsonHelper.assertJson(requestData.toJson(), new JsonObject(buffer));
+        final RequestData from = JsonData.from(buffer, RequestData.class);
+        Assertions.assertEquals(requestData, from);
+        Assertions.assertEquals(1, from.sort().orders().size());
+    }
+
 }
@@ -0,0 +1,43 @@
+package io.zero88.qwe.event;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.json.JsonObject;
+import io.zero88.qwe.exceptions.ErrorCode;
+
+class EventBatchTest {
+
+    @Test
+    void test_unpack_reply() {
+        final List<EventMessage> requests = Arrays.asList(EventMessage.initial(EventAction.GET_ONE),
+                                                          EventMessage.initial(EventAction.GET_LIST));
+        final EventMessage reply = EventBatch.reply(
+            Arrays.asList(EventMessage.replySuccess(EventAction.GET_ONE, new JsonObject().put("id", 1)),
+                          EventMessage.replySuccess(EventAction.GET_LIST, null)));
+        final List<EventMessage> replies = EventBatch.unpackReply(requests, reply);
+        Assertions.assertEquals(2, replies.size());
+        Assertions.assertEquals(new JsonObject().put("id", 1), replies.get(0).getData());
+        Assertions.assertTrue(replies.get(1).isSuccess());
+    }
+
+    @Test
+    void test_unpack_reply_with_mismatched_count() {
+        final List<EventMessage> requests = Arrays.asList(EventMessage.initial(EventAction.GET_ONE),
+                                                          EventMessage.initial(EventAction.GET_LIST));
+        final EventMessage reply = EventBatch.reply(
+            Collections.singletonList(EventMessage.replySuccess(EventAction.GET_ONE, null)));
+        final List<EventMessage> replies = EventBatch.unpackReply(requests, reply);
+        Assertions.assertEquals(2, replies.size());
+        for (int i = 0; i < 2; i++) {
+            Assertions.assertTrue(replies.get(i).isError());
+            Assertions.assertEquals(requests.get(i).getAction(), replies.get(i).getPrevAction());
+            Assertions.assertEquals(ErrorCode.SERVICE_ERROR, replies.get(i).getError().getCode());
+        }
+    }
+
+}
@@ -1,26 +1,44 @@
 package io.zero88.qwe.event;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.skyscreamer.jsonassert.Customization;
 
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.DeliveryOptions;
 import io.vertx.core.json.JsonObject;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
 import io.zero88.qwe.JsonHelper;
 import io.zero88.qwe.SharedDataLocalProxy;
+import io.zero88.qwe.event.AddressLimitOptions.OverflowPolicy;
+import io.zero88.qwe.event.metrics.EventBusMetrics;
+import io.zero88.qwe.event.metrics.EventBusMetricsOptions;
+import io.zero88.qwe.event.metrics.InMemoryEventBusMetrics;
 import io.zero88.qwe.event.mock.MockEventListener;
+import io.zero88.qwe.event.mock.MockExecutionModeListener;
 import io.zero88.qwe.event.mock.MockFutureListener;
 import io.zero88.qwe.event.mock.MockListenerFailed;
 import io.zero88.qwe.event.mock.MockReceiveSendOrPublishListener;
+import io.zero88.qwe.event.mock.MockReplyHandler;
 import io.zero88.qwe.event.mock.MockRx2Listener;
+import io.zero88.qwe.event.mock.MockSlowListener;
 import io.zero88.qwe.event.mock.MockWithContextListener;
 import io.zero88.qwe.event.mock.MockWithVariousParamsListener;
 import io.zero88.qwe.exceptions.ErrorCode;
+import io.zero88.qwe.exceptions.TimeoutException;
 
 @ExtendWith(VertxExtension.class)
 public class EventListenerTest {
@@ -59,6 +77,19 @@ public class EventListenerTest {
                       }));
     }
 
+    @Test
+    void test_request_success_by_binary_codec(VertxTestContext testContext) {
+        eventBusClient.register(address, new MockWithVariousParamsListener());
+        eventBusClient.request(address, EventMessage.initial(EventAction.GET_ONE, new JsonObject().put("id", "123")),
+                               new DeliveryOptions().setCodecName(EventMessageCodec.CODEC_NAME))
+                      .onSuccess(msg -> testContext.verify(() -> {
+                          Assertions.assertEquals(EventAction.REPLY, msg.getAction());
+                          Assertions.assertEquals(EventAction.GET_ONE, msg.getPrevAction());
+                          Assertions.assertEquals(new JsonObject().put("data", 123), msg.getData());
+                          testContext.completeNow();
+                      }));
+    }
+
     @Test
     void test_request_then_void_resp(VertxTestContext testContext) {
         eventBusClient.register(address, new MockWithVariousParamsListener());
@@ -223,4 +254,398 @@ public class EventListenerTest {
                       }));
     }
 
+    @Test
+    void test_execution_mode_async_on_worker(VertxTestContext testContext) {
+        assertExecutionMode(testContext, "ASYNC", false);
+    }
+
+    @Test
+    void test_execution_mode_sync_on_worker(VertxTestContext testContext) {
+        assertExecutionMode(testContext, "SYNC", false);
+    }
+
+    @Test
+    void test_execution_mode_declared_worker(VertxTestContext testContext) {
+        assertExecutionMode(testContext, "ASYNC_IN_WORKER", false);
+    }
+
+    @Test
+    void test_execution_mode_declared_event_loop(VertxTestContext testContext) {
+        assertExecutionMode(testContext, "SYNC_IN_EVENT_LOOP", true);
+    }
+
+    @Test
+    void test_execution_mode_virtual_thread_or_fallback_worker(VertxTestContext testContext) {
+        final String address = "test.execution.virtual";
+        eventBusClient.register(address, new MockExecutionModeListener());
+        eventBusClient.request(address, EventMessage.initial(EventAction.parse("VIRTUAL")))
+                      .onSuccess(msg -> testContext.verify(() -> {
+                          Assertions.assertTrue(msg.isSuccess());
+                          Assertions.assertEquals(new JsonObject().put("eventLoop", false), msg.getData());
+                          testContext.completeNow();
+                      }));
+    }
+
+    @Test
+    void test_request_batch(VertxTestContext testContext) {
+        final String address = "test.request.batch";
+        eventBusClient.register(address, new MockWithVariousParamsListener());
+        eventBusClient.requestBatch(address, Arrays.asList(
+                          EventMessage.initial(EventAction.GET_ONE, new JsonObject().put("id", "123")),
+                          EventMessage.initial(EventAction.parse("XYZ")),
+                          EventMessage.initial(EventAction.GET_ONE, new JsonObject().put("id", "456"))))
+                      .onSuccess(replies -> testContext.verify(() -> {
+                          Assertions.assertEquals(3, replies.size());
+                          Assertions.assertTrue(replies.get(0).isSuccess());
+                          Assertions.assertEquals(EventAction.GET_ONE, replies.get(0).getPrevAction());
+                          Assertions.assertEquals(new JsonObject().put("data", 123), replies.get(0).getData());
+                          Assertions.assertTrue(replies.get(1).isError());
+                          Assertions.assertEquals(EventAction.parse("XYZ"), replies.get(1).getPrevAction());
+                          Assertions.assertEquals(ErrorCode.SERVICE_NOT_FOUND, replies.get(1).getError().getCode());
+                          Assertions.assertEquals(new JsonObject().put("data", 456), replies.get(2).getData());
+                          testContext.completeNow();
+                      }));
+    }
+
+    @Test
+    void test_request_batch_no_listener(VertxTestContext testContext) {
+        eventBusClient.requestBatch("test.request.batch.none", Arrays.asList(EventMessage.initial(EventAction.CREATE),
+                                                                             EventMessage.initial(EventAction.UPDATE)))
+                      .onSuccess(replies -> testContext.verify(() -> {
+                          Assertions.assertEquals(2, replies.size());
+                          Assertions.assertTrue(replies.get(0).isError());
+                          Assertions.assertEquals(EventAction.CREATE, replies.get(0).getPrevAction());
+                          Assertions.assertTrue(replies.get(1).isError());
+                          Assertions.assertEquals(EventAction.UPDATE, replies.get(1).getPrevAction());
+                          testContext.completeNow();
+                      }));
+    }
+
+    @Test
+    void test_request_stream_flowable(VertxTestContext testContext) {
+        final String address = "test.request.stream";
+        final int count = 50;
+        final List<EventMessage> chunks = new ArrayList<>();
+        eventBusClient.register(address, new MockRx2Listener());
+        eventBusClient.requestStream(address, EventMessage.initial(EventAction.parse("FLOWABLE"),
+                                                                   new JsonObject().put("count", count)))
+                      .endHandler(v -> testContext.verify(() -> {
+                          Assertions.assertEquals(count, chunks.size());
+                          for (int i = 0; i < count; i++) {
+                              Assertions.assertTrue(chunks.get(i).isSuccess());
+                              Assertions.assertEquals(new JsonObject().put("idx", i), chunks.get(i).getData());
+                          }
+                          testContext.completeNow();
+                      }))
+                      .handler(chunks::add);
+    }
+
+    @Test
+    void test_request_stream_single_output(VertxTestContext testContext) {
+        final String address = "test.request.stream.single";
+        final List<EventMessage> chunks = new ArrayList<>();
+        eventBusClient.register(address, new MockWithVariousParamsListener());
+        eventBusClient.requestStream(address,
+                                     EventMessage.initial(EventAction.GET_ONE, new JsonObject().put("id", "123")))
+                      .endHandler(v -> testContext.verify(() -> {
+                          Assertions.assertEquals(1, chunks.size());
+                          Assertions.assertEquals(new JsonObject().put("data", 123), chunks.get(0).getData());
+                          testContext.completeNow();
+                      }))
+                      .handler(chunks::add);
+    }
+
+    @Test
+    void test_request_stream_no_listener(VertxTestContext testContext) {
+        final List<EventMessage> chunks = new ArrayList<>();
+        eventBusClient.requestStream("test.request.stream.none", EventMessage.initial(EventAction.GET_LIST))
+                      .endHandler(v -> testContext.verify(() -> {
+                          Assertions.assertEquals(1, chunks.size());
+                          Assertions.assertTrue(chunks.get(0).isError());
+                          testContext.completeNow();
+                      }))
+                      .handler(chunks::add);
+    }
+
+    @Test
+    void test_request_stream_idle_timeout(Vertx vertx, VertxTestContext testContext) {
+        final String address = "test.request.stream.idle";
+        final Checkpoint checkpoint = testContext.checkpoint(2);
+        // The listener replies the request but never writes any chunk
+        vertx.eventBus()
+             .consumer(address, msg -> msg.reply(EventMessage.replySuccess(EventAction.GET_LIST, null).toJson()));
+        eventBusClient.requestStream(address, EventMessage.initial(EventAction.GET_LIST),
+                                     new DeliveryOptions().setSendTimeout(200))
+                      .exceptionHandler(t -> testContext.verify(() -> {
+                          Assertions.assertTrue(t instanceof TimeoutException);
+                          checkpoint.flag();
+                      }))
+                      .endHandler(v -> checkpoint.flag())
+                      .handler(msg -> testContext.failNow(new IllegalStateException("Unexpected chunk")));
+    }
+
+    @Test
+    void test_address_limit_reject(Vertx vertx, VertxTestContext testContext) {
+        assertAddressLimit(vertx, testContext, "test.limit.reject", OverflowPolicy.REJECT, 2, 1, 0);
+    }
+
+    @Test
+    void test_address_limit_shed(Vertx vertx, VertxTestContext testContext) {
+        assertAddressLimit(vertx, testContext, "test.limit.shed", OverflowPolicy.SHED, 1, 0, 1);
+    }
+
+    @Test
+    void test_address_limit_shared_by_registrations(Vertx vertx, VertxTestContext testContext) {
+        final String address = "test.limit.shared";
+        final SharedDataLocalProxy sharedData = SharedDataLocalProxy.create(vertx, address);
+        final AddressLimitOptions limit = AddressLimitOptions.builder().maxInFlight(1).build();
+        sharedData.addData(SharedDataLocalProxy.EVENTBUS_DELIVERY_OPTION_KEY, new EventBusDeliveryOption(
+            new DeliveryOptions(), Collections.singletonMap(AddressLimitOptions.ANY_ADDRESS, limit)));
+        final EventBusClient client = EventBusClient.create(sharedData)
+                                                    .register(address, new MockSlowListener())
+                                                    .register(address, new MockSlowListener());
+        final AddressLimiter limiter = client.limiter(address);
+        final EventAction slow = EventAction.parse("SLOW");
+        CompositeFuture.all(client.request(address, EventMessage.initial(slow, new JsonObject().put("id", 1))),
+                            client.request(address, EventMessage.initial(slow, new JsonObject().put("id", 2))))
+                       .onSuccess(cf -> testContext.verify(() -> {
+                           Assertions.assertTrue(cf.<EventMessage>resultAt(0).isSuccess());
+                           Assertions.assertEquals(ErrorCode.SERVICE_UNAVAILABLE,
+                                                   cf.<EventMessage>resultAt(1).getError().getCode());
+                           Assertions.assertSame(limiter, client.limiter(address));
+                           Assertions.assertEquals(1L, limiter.rejectedCount());
+                           testContext.completeNow();
+                       }));
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void test_reply_handler_is_shared_per_client(Vertx vertx, VertxTestContext testContext) {
+        final String address = "test.reply.handler";
+        MockReplyHandler.INSTANCES.set(0);
+        final EventBusClient client = EventBusClient.create(SharedDataLocalProxy.create(vertx, address),
+                                                            (Class) MockReplyHandler.class)
+                                                    .register(address, new MockWithVariousParamsListener());
+        final List<Future> futures = IntStream.range(0, 3)
+                                              .mapToObj(i -> client.request(address, EventMessage.initial(
+                                                  EventAction.GET_ONE, new JsonObject().put("id", "" + i))))
+                                              .collect(Collectors.toList());
+        CompositeFuture.all(futures).onSuccess(cf -> testContext.verify(() -> {
+            for (int i = 0; i < 3; i++) {
+                Assertions.assertEquals(new JsonObject().put("data", i), cf.<EventMessage>resultAt(i).getData());
+            }
+            Assertions.assertEquals(1, MockReplyHandler.INSTANCES.get());
+            Assertions.assertEquals(3, MockReplyHandler.REPLIES.get());
+            Assertions.assertSame(EventReplyHandler.create(), EventReplyHandler.create());
+            testContext.completeNow();
+        }));
+    }
+
+    @Test
+    void test_metrics(Vertx vertx, VertxTestContext testContext) {
+        final String address = "test.metrics";
+        final SharedDataLocalProxy sharedData = SharedDataLocalProxy.create(vertx, address);
+        final InMemoryEventBusMetrics metrics = new InMemoryEventBusMetrics();
+        sharedData.addData(SharedDataLocalProxy.EVENTBUS_METRICS_KEY, metrics);
+        final EventAction err = EventAction.parse("ERR");
+        final EventBusClient client = EventBusClient.create(sharedData).register(address, new MockListenerFailed());
+        CompositeFuture.all(client.request(address, EventMessage.initial(err)),
+                            client.request(address, EventMessage.initial(err)))
+                       .onSuccess(cf -> testContext.verify(() -> {
+                           final JsonObject snapshot = metrics.snapshot();
+                           for (String side : Arrays.asList("CLIENT", "LISTENER")) {
+                               final JsonObject meter = snapshot.getJsonObject(side)
+                                                                .getJsonObject(address)
+                                                                .getJsonObject(err.action());
+                               Assertions.assertEquals(2L, meter.getLong("count"));
+                               Assertions.assertEquals(0, meter.getInteger("inFlight"));
+                               Assertions.assertEquals(2L, meter.getJsonObject("errors")
+                                                                .getLong(ErrorCode.INVALID_ARGUMENT.code()));
+                           }
+                           testContext.completeNow();
+                       }));
+    }
+
+    @Test
+    void test_metrics_installed_after_client(Vertx vertx, VertxTestContext testContext) {
+        final String address = "test.metrics.late";
+        final SharedDataLocalProxy sharedData = SharedDataLocalProxy.create(vertx, address);
+        final EventBusClient client = EventBusClient.create(sharedData)
+                                                    .register(address, new MockWithVariousParamsListener());
+        final EventBusMetrics metrics = EventBusMetricsOptions.builder().enabled(true).build().install(sharedData);
+        Assertions.assertTrue(metrics instanceof InMemoryEventBusMetrics);
+        client.request(address, EventMessage.initial(EventAction.GET_ONE, new JsonObject().put("id", "123")))
+              .onSuccess(r -> testContext.verify(() -> {
+                  for (String side : Arrays.asList("CLIENT", "LISTENER")) {
+                      final JsonObject meter = metrics.snapshot()
+                                                      .getJsonObject(side)
+                                                      .getJsonObject(address)
+                                                      .getJsonObject(EventAction.GET_ONE.action());
+                      Assertions.assertEquals(1L, meter.getLong("count"));
+                      Assertions.assertEquals(0, meter.getInteger("inFlight"));
+                  }
+                  testContext.completeNow();
+              }));
+    }
+
+    @Test
+    void test_request_coalescing(Vertx vertx, VertxTestContext testContext) {
+        final String address = "test.coalesce";
+        final EventAction slow = EventAction.parse("SLOW");
+        final SharedDataLocalProxy sharedData = SharedDataLocalProxy.create(vertx, address);
+        final InMemoryEventBusMetrics metrics = new InMemoryEventBusMetrics();
+        sharedData.addData(SharedDataLocalProxy.EVENTBUS_METRICS_KEY, metrics);
+        sharedData.addData(SharedDataLocalProxy.EVENTBUS_DELIVERY_OPTION_KEY,
+                           new EventBusDeliveryOption(new DeliveryOptions(), null, Collections.singleton(slow)));
+        final EventBusClient client = EventBusClient.create(sharedData).register(address, new MockSlowListener());
+        final List<Future> futures = IntStream.of(1, 1, 1, 2)
+                                              .mapToObj(i -> client.request(address, EventMessage.initial(
+                                                  slow, new JsonObject().put("id", i))))
+                                              .collect(Collectors.toList());
+        CompositeFuture.all(futures).onSuccess(cf -> testContext.verify(() -> {
+            Assertions.assertEquals(new JsonObject().put("id", 1), cf.<EventMessage>resultAt(0).getData());
+            Assertions.assertEquals(new JsonObject().put("id", 1), cf.<EventMessage>resultAt(2).getData());
+            Assertions.assertEquals(new JsonObject().put("id", 2), cf.<EventMessage>resultAt(3).getData());
+            final JsonObject snapshot = metrics.snapshot();
+            Assertions.assertEquals(4L, snapshot.getJsonObject("CLIENT")
+                                                .getJsonObject(address)
+                                                .getJsonObject(slow.action())
+                                                .getLong("count"));
+            Assertions.assertEquals(2L, snapshot.getJsonObject("LISTENER")
+                                                .getJsonObject(address)
+                                                .getJsonObject(slow.action())
+                                                .getLong("count"));
+            Assertions.assertEquals(0, EventRequestCoalescer.lookup(sharedData).inFlight());
+            testContext.completeNow();
+        }));
+    }
+
+    @Test
+    void test_response_cache(Vertx vertx, VertxTestContext testContext) {
+        final String address = "test.response.cache";
+        final EventAction slow = EventAction.parse("SLOW");
+        final SharedDataLocalProxy sharedData = SharedDataLocalProxy.create(vertx, address);
+        final InMemoryEventBusMetrics metrics = new InMemoryEventBusMetrics();
+        sharedData.addData(SharedDataLocalProxy.EVENTBUS_METRICS_KEY, metrics);
+        final ResponseCacheOptions cacheOpts = ResponseCacheOptions.builder()
+                                                                   .actions(Collections.singleton(slow.action()))
+                                                                   .invalidateActions(Collections.singleton(
+                                                                       EventAction.UPDATE.action()))
+                                                                   .build();
+        sharedData.addData(SharedDataLocalProxy.EVENTBUS_DELIVERY_OPTION_KEY,
+                           new EventBusDeliveryOption(new DeliveryOptions(), null, null,
+                                                      Collections.singletonMap(address, cacheOpts)));
+        final EventBusClient client = EventBusClient.create(sharedData).register(address, new MockSlowListener());
+        final EventMessage req = EventMessage.initial(slow, new JsonObject().put("id", 1));
+        client.request(address, req)
+              .flatMap(r -> client.request(address, req))
+              .onSuccess(r -> testContext.verify(() -> Assertions.assertEquals(new JsonObject().put("id", 1),
+                                                                               r.getData())))
+              .flatMap(r -> client.request(address, EventMessage.initial(EventAction.UPDATE)))
+              .flatMap(r -> client.request(address, req))
+              .onSuccess(r -> testContext.verify(() -> {
+                  final JsonObject snapshot = metrics.snapshot();
+                  final JsonObject clientMeter = snapshot.getJsonObject("CLIENT")
+                                                         .getJsonObject(address)
+                                                         .getJsonObject(slow.action());
+                  Assertions.assertEquals(3L, clientMeter.getLong("count"));
+                  Assertions.assertEquals(new JsonObject().put("hit", 1L).put("miss", 2L),
+                                          clientMeter.getJsonObject("cache"));
+                  Assertions.assertEquals(2L, snapshot.getJsonObject("LISTENER")
+                                                      .getJsonObject(address)
+                                                      .getJsonObject(slow.action())
+                                                      .getLong("count"));
+                  testContext.completeNow();
+              }));
+    }
+
+    @Test
+    void test_response_cache_invalidate_during_coalesced_read(Vertx vertx, VertxTestContext testContext) {
+        final String address = "test.response.cache.coalesce";
+        final EventAction slow = EventAction.parse("SLOW");
+        final SharedDataLocalProxy sharedData = SharedDataLocalProxy.create(vertx, address);
+        final InMemoryEventBusMetrics metrics = new InMemoryEventBusMetrics();
+        sharedData.addData(SharedDataLocalProxy.EVENTBUS_METRICS_KEY, metrics);
+        final ResponseCacheOptions cacheOpts = ResponseCacheOptions.builder()
+                                                                   .actions(Collections.singleton(slow.action()))
+                                                                   .build();
+        sharedData.addData(SharedDataLocalProxy.EVENTBUS_DELIVERY_OPTION_KEY,
+                           new EventBusDeliveryOption(new DeliveryOptions(), null, Collections.singleton(slow),
+                                                      Collections.singletonMap(address, cacheOpts)));
+        final EventBusClient client = EventBusClient.create(sharedData).register(address, new MockSlowListener());
+        final EventMessage req = EventMessage.initial(slow, new JsonObject().put("id", 1));
+        final Future<EventMessage> before = client.request(address, req);
+        EventResponseCache.Registry.lookup(sharedData).invalidate(address);
+        // Joins the in-flight dispatch that was started before the invalidation
+        final Future<EventMessage> after = client.request(address, req);
+        CompositeFuture.all(before, after)
+                       .flatMap(cf -> client.request(address, req))
+                       .flatMap(r -> CompositeFuture.all(client.request(address, req), client.request(address, req)))
+                       .onSuccess(cf -> testContext.verify(() -> {
+                           final JsonObject clientMeter = metrics.snapshot()
+                                                                 .getJsonObject("CLIENT")
+                                                                 .getJsonObject(address)
+                                                                 .getJsonObject(slow.action());
+                           Assertions.assertEquals(new JsonObject().put("hit", 2L).put("miss", 3L),
+                                                   clientMeter.getJsonObject("cache"));
+                           Assertions.assertNotSame(cf.resultAt(0), cf.resultAt(1));
+                           Assertions.assertEquals(new JsonObject().put("id", 1),
+                                                   cf.<EventMessage>resultAt(1).getData());
+                           testContext.completeNow();
+                       }));
+    }
+
+    private void assertAddressLimit(Vertx vertx, VertxTestContext testContext, String address, OverflowPolicy policy,
+                                    int expectedFailedIdx, long rejected, long shed) {
+        final SharedDataLocalProxy sharedData = SharedDataLocalProxy.create(vertx, address);
+        final AddressLimitOptions limit = AddressLimitOptions.builder()
+                                                             .maxInFlight(1)
+                                                             .maxQueued(1)
+                                                             .policy(policy)
+                                                             .build();
+        sharedData.addData(SharedDataLocalProxy.EVENTBUS_DELIVERY_OPTION_KEY, new EventBusDeliveryOption(
+            new DeliveryOptions(), Collections.singletonMap(AddressLimitOptions.ANY_ADDRESS, limit)));
+        final InMemoryEventBusMetrics metrics = new InMemoryEventBusMetrics();
+        sharedData.addData(SharedDataLocalProxy.EVENTBUS_METRICS_KEY, metrics);
+        final EventBusClient client = EventBusClient.create(sharedData).register(address, new MockSlowListener());
+        final List<Future> futures = IntStream.range(0, 3)
+                                              .mapToObj(i -> client.request(address, EventMessage.initial(
+                                                  EventAction.parse("SLOW"), new JsonObject().put("id", i))))
+                                              .collect(Collectors.toList());
+        CompositeFuture.all(futures).onSuccess(cf -> testContext.verify(() -> {
+            for (int i = 0; i < 3; i++) {
+                final EventMessage msg = cf.resultAt(i);
+                if (i == expectedFailedIdx) {
+                    Assertions.assertTrue(msg.isError());
+                    Assertions.assertEquals(ErrorCode.SERVICE_UNAVAILABLE, msg.getError().getCode());
+                } else {
+                    Assertions.assertTrue(msg.isSuccess());
+                    Assertions.assertEquals(new JsonObject().put("id", i), msg.getData());
+                }
+            }
+            final AddressLimiter limiter = client.limiter(address);
+            Assertions.assertEquals(0, limiter.inFlight());
+            Assertions.assertEquals(0, limiter.queueDepth());
+            Assertions.assertEquals(rejected, limiter.rejectedCount());
+            Assertions.assertEquals(shed, limiter.shedCount());
+            Assertions.assertEquals(new JsonObject().put("queued", 1 + shed).put("rejected", rejected + shed),
+                                    metrics.snapshot()
+                                           .getJsonObject(InMemoryEventBusMetrics.LIMIT)
+                                           .getJsonObject(address));
+            testContext.completeNow();
+        }));
+    }
+
+    private void assertExecutionMode(VertxTestContext testContext, String action, boolean eventLoop) {
+        final String address = "test.execution.mode";
+        eventBusClient.register(address, new MockExecutionModeListener());
+        eventBusClient.request(address, EventMessage.initial(EventAction.parse(action)))
+                      .onSuccess(msg -> testContext.verify(() -> {
+                          Assertions.assertTrue(msg.isSuccess());
+                          Assertions.assertEquals(new JsonObject().put("eventLoop", eventLoop)
+                                                                  .put("worker", !eventLoop), msg.getData());
+                          testContext.completeNow();
+                      }));
+    }
+
 }
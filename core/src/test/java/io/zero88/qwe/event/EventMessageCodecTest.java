@@ -0,0 +1,93 @@
+package io.zero88.qwe.event;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonObject;
+import io.zero88.qwe.dto.msg.RequestData;
+import io.zero88.qwe.exceptions.ErrorCode;
+
+class EventMessageCodecTest {
+
+    private final EventMessageCodec codec = new EventMessageCodec();
+
+    private EventMessage roundTrip(EventMessage msg) {
+        final Buffer prefix = Buffer.buffer("prefix");
+        final Buffer buffer = prefix.copy();
+        codec.encodeToWire(buffer, msg);
+        return codec.decodeFromWire(prefix.length(), buffer);
+    }
+
+    @Test
+    void test_local_is_copy() {
+        final EventMessage msg = EventMessage.initial(EventAction.CREATE, new JsonObject().put("id", 1));
+        final EventMessage transformed = codec.transform(msg);
+        Assertions.assertNotSame(msg, transformed);
+        Assertions.assertNotSame(msg.dataView(), transformed.dataView());
+        Assertions.assertEquals(msg.toJson(), transformed.toJson());
+    }
+
+    @Test
+    void test_wire_with_json_data() {
+        final EventMessage msg = EventMessage.success(EventAction.REPLY, EventAction.GET_ONE,
+                                                      new JsonObject().put("id", 1).put("name", "héllo"));
+        final EventMessage decoded = roundTrip(msg);
+        Assertions.assertEquals(EventStatus.SUCCESS, decoded.getStatus());
+        Assertions.assertEquals(EventAction.REPLY, decoded.getAction());
+        Assertions.assertEquals(EventAction.GET_ONE, decoded.getPrevAction());
+        Assertions.assertEquals(msg.getData(), decoded.getData());
+        Assertions.assertEquals(msg.toJson(), decoded.toJson());
+    }
+
+    @Test
+    void test_wire_with_json_data_class() {
+        final RequestData data = RequestData.builder().body(new JsonObject().put("id", 1)).build();
+        final EventMessage decoded = roundTrip(EventMessage.initial(EventAction.CREATE, data));
+        Assertions.assertEquals(EventStatus.INITIAL, decoded.getStatus());
+        Assertions.assertNull(decoded.getPrevAction());
+        Assertions.assertEquals(data.toJson(), decoded.getData());
+        Assertions.assertEquals(data.toJson(), decoded.parseAndGetData(RequestData.class).toJson());
+    }
+
+    @Test
+    void test_wire_drops_non_json_data_class() {
+        final Buffer data = new JsonObject().put("id", 1).toBuffer();
+        final EventMessage decoded = roundTrip(
+            EventMessage.restore(EventStatus.INITIAL, EventAction.CREATE, null, data, Thread.class, null));
+        Assertions.assertNotEquals(Thread.class, decoded.dataClass());
+        Assertions.assertEquals(new JsonObject().put("id", 1), decoded.getData());
+    }
+
+    @Test
+    void test_wire_without_data() {
+        final EventMessage decoded = roundTrip(EventMessage.initial(EventAction.parse("ANY")));
+        Assertions.assertEquals(EventAction.parse("ANY"), decoded.getAction());
+        Assertions.assertNull(decoded.getData());
+        Assertions.assertNull(decoded.getError());
+    }
+
+    @Test
+    void test_wire_with_error() {
+        final EventMessage msg = EventMessage.replyError(EventAction.REMOVE,
+                                                         new IllegalArgumentException("invalid"));
+        final EventMessage decoded = roundTrip(msg);
+        Assertions.assertTrue(decoded.isError());
+        Assertions.assertEquals(EventAction.REPLY, decoded.getAction());
+        Assertions.assertEquals(EventAction.REMOVE, decoded.getPrevAction());
+        Assertions.assertEquals(ErrorCode.INVALID_ARGUMENT, decoded.getError().getCode());
+        Assertions.assertEquals(msg.getError().getMessage(), decoded.getError().getMessage());
+    }
+
+    @Test
+    void test_wire_with_unknown_status() {
+        final Buffer buffer = Buffer.buffer();
+        codec.encodeToWire(buffer, EventMessage.initial(EventAction.CREATE));
+        buffer.setByte(1, (byte) EventStatus.values().length);
+        Assertions.assertThrows(DecodeException.class, () -> codec.decodeFromWire(0, buffer));
+        buffer.setByte(1, (byte) -1);
+        Assertions.assertThrows(DecodeException.class, () -> codec.decodeFromWire(0, buffer));
+    }
+
+}
@@ -1,8 +1,10 @@
 package io.zero88.qwe.event;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 import org.json.JSONException;
 import org.junit.jupiter.api.Assertions;
@@ -11,6 +13,7 @@ import org.skyscreamer.jsonassert.JSONAssert;
 import org.skyscreamer.jsonassert.JSONCompareMode;
 
 import io.github.zero88.exceptions.ErrorCode;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.zero88.qwe.dto.msg.RequestData;
@@ -104,6 +107,35 @@ public class EventMessageTest {
         Assertions.assertEquals(msg.toJson(), deserialize.toJson());
     }
 
+    @Test
+    public void test_serialize_deserialize_buffer() {
+        final RequestData reqData = RequestData.builder().body(new JsonObject().put("1", "a")).build();
+        final EventMessage msg = EventMessage.initial(EventAction.INIT, reqData);
+        final Buffer buffer = msg.toBuffer();
+        Assertions.assertEquals(msg.toJson(), new JsonObject(buffer));
+        final EventMessage deserialize = EventMessage.tryParse(buffer);
+        Assertions.assertEquals(msg.toJson(), deserialize.toJson());
+        Assertions.assertEquals(reqData, deserialize.parseAndGetData(RequestData.class));
+        final EventMessage error = EventMessage.replyError(EventAction.GET_ONE, new RuntimeException("xxx"));
+        Assertions.assertEquals(error.toJson(), new JsonObject(error.toBuffer()));
+        Assertions.assertEquals(error.toJson(), EventMessage.tryParse(error.toBuffer()).toJson());
+    }
+
+    @Test
+    public void test_serialize_buffer_keeps_data_bytes() {
+        final JsonObject data = new JsonObject().put("name", "caf\u00e9 \u6f22").put("n", 1);
+        final EventMessage msg = EventMessage.success(EventAction.GET_ONE, EventAction.CREATE, data);
+        final JsonObject json = new JsonObject(msg.toBuffer());
+        Assertions.assertEquals(msg.toJson(), json);
+        Assertions.assertEquals(data, json.getJsonObject("data"));
+    }
+
+    @Test
+    public void test_deserialize_invalid_buffer() {
+        Assertions.assertThrows(QWEException.class, () -> EventMessage.tryParse(Buffer.buffer("[1,2]")));
+        Assertions.assertEquals(EventAction.UNKNOWN, EventMessage.tryParse(Buffer.buffer("xyz"), true).getAction());
+    }
+
     @Test
     public void test_deserialize_array() {
         JsonObject expected = new JsonObject("{\"status\":\"SUCCESS\",\"action\":\"REMOVE\",\"data\":[1,2,3]}");
@@ -144,4 +176,35 @@ public class EventMessageTest {
         Assertions.assertEquals(LocalDate.of(2021, 7, 18), msg.parseAndGetData(LocalDate.class));
     }
 
+    @Test
+    public void test_data_view_is_decoded_once_and_read_only() {
+        EventMessage msg = EventMessage.success(EventAction.CREATE, new JsonObject().put("id", 1));
+        final JsonObject view = msg.dataView();
+        Assertions.assertSame(view, msg.dataView());
+        Assertions.assertEquals(new JsonObject().put("id", 1), view);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> view.put("id", 2));
+        final JsonObject data = msg.getData();
+        Assertions.assertNotSame(view, data);
+        data.put("id", 2);
+        Assertions.assertEquals(1, msg.dataView().getInteger("id"));
+        Assertions.assertEquals(1, msg.getData().getInteger("id"));
+    }
+
+    @Test
+    public void test_data_keeps_entry_order() {
+        final JsonObject json = new JsonObject();
+        IntStream.range(0, 20).forEach(i -> json.put("k" + (19 - i), i));
+        EventMessage msg = EventMessage.success(EventAction.CREATE, json);
+        Assertions.assertEquals(new ArrayList<>(json.fieldNames()), new ArrayList<>(msg.dataView().fieldNames()));
+        Assertions.assertEquals(new ArrayList<>(json.fieldNames()), new ArrayList<>(msg.getData().fieldNames()));
+        Assertions.assertEquals(json.encode(), msg.getData().encode());
+    }
+
+    @Test
+    public void test_data_view_none_data() {
+        EventMessage msg = EventMessage.initial(EventAction.CREATE);
+        Assertions.assertNull(msg.dataView());
+        Assertions.assertNull(msg.rawData());
+    }
+
 }
@@ -0,0 +1,67 @@
+package io.zero88.qwe.event;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+
+@ExtendWith(VertxExtension.class)
+class EventRequestCoalescerTest {
+
+    private EventRequestCoalescer coalescer;
+    private EventRequestKey key;
+
+    @BeforeEach
+    void setup() {
+        coalescer = new EventRequestCoalescer();
+        key = EventRequestKey.of("test.coalesce", EventMessage.initial(EventAction.GET_ONE));
+    }
+
+    @Test
+    void test_dispatcher_throws(VertxTestContext testContext) {
+        final EventMessage reply = EventMessage.replySuccess(EventAction.GET_ONE, new JsonObject().put("id", 1));
+        coalescer.coalesce(key, () -> { throw new IllegalStateException("dispatch"); })
+                 .onComplete(ar -> testContext.verify(() -> {
+                     Assertions.assertTrue(ar.failed());
+                     Assertions.assertEquals(0, coalescer.inFlight());
+                 }))
+                 .recover(t -> coalescer.coalesce(key, () -> Future.succeededFuture(reply)))
+                 .onSuccess(r -> testContext.verify(() -> {
+                     Assertions.assertSame(reply, r);
+                     testContext.completeNow();
+                 }));
+    }
+
+    @Test
+    void test_waiter_is_replied_on_its_context(Vertx vertx, VertxTestContext testContext) {
+        final Checkpoint checkpoint = testContext.checkpoint(2);
+        final Context first = vertx.getOrCreateContext();
+        final Context second = vertx.getOrCreateContext();
+        Assertions.assertNotSame(first, second);
+        final Promise<EventMessage> dispatched = Promise.promise();
+        first.runOnContext(v1 -> {
+            coalescer.coalesce(key, dispatched::future).onSuccess(r -> testContext.verify(() -> {
+                Assertions.assertSame(first, Vertx.currentContext());
+                checkpoint.flag();
+            }));
+            second.runOnContext(v2 -> {
+                coalescer.coalesce(key, () -> Future.failedFuture("not coalesced"))
+                         .onSuccess(r -> testContext.verify(() -> {
+                             Assertions.assertSame(second, Vertx.currentContext());
+                             checkpoint.flag();
+                         }));
+                first.runOnContext(v3 -> dispatched.complete(EventMessage.replySuccess(EventAction.GET_ONE, null)));
+            });
+        });
+    }
+
+}
@@ -0,0 +1,42 @@
+package io.zero88.qwe.event;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+
+@ExtendWith(VertxExtension.class)
+class VirtualThreadExecutorTest {
+
+    @Test
+    void test_permit_is_held_until_result_completes(Vertx vertx, VertxTestContext testContext) {
+        Assumptions.assumeTrue(VirtualThreadExecutor.isSupported());
+        final VirtualThreadExecutor executor = new VirtualThreadExecutor(1);
+        final Context context = vertx.getOrCreateContext();
+        final Promise<String> first = Promise.promise();
+        final AtomicBoolean secondStarted = new AtomicBoolean();
+        executor.execute(context, first::future);
+        executor.execute(context, () -> {
+            secondStarted.set(true);
+            return Future.succeededFuture("second");
+        }).onSuccess(r -> testContext.verify(() -> {
+            Assertions.assertEquals("second", r);
+            Assertions.assertTrue(first.future().isComplete());
+            testContext.completeNow();
+        }));
+        vertx.setTimer(200, t -> {
+            testContext.verify(() -> Assertions.assertFalse(secondStarted.get()));
+            first.complete("first");
+        });
+    }
+
+}
@@ -0,0 +1,32 @@
+package io.zero88.qwe.event.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.json.JsonObject;
+import io.zero88.qwe.event.EventAction;
+import io.zero88.qwe.event.EventMessage;
+import io.zero88.qwe.event.metrics.EventBusMetrics.Side;
+
+class InMemoryEventBusMetricsTest {
+
+    @Test
+    void test_overflow_meter() {
+        final InMemoryEventBusMetrics metrics = new InMemoryEventBusMetrics(2);
+        for (int i = 0; i < 5; i++) {
+            final String address = "addr." + i;
+            metrics.requestBegin(Side.CLIENT, address, EventAction.GET_ONE);
+            metrics.requestEnd(Side.CLIENT, address, EventAction.GET_ONE, 1000,
+                               EventMessage.replySuccess(EventAction.GET_ONE, null));
+        }
+        final JsonObject client = metrics.snapshot().getJsonObject(Side.CLIENT.name());
+        Assertions.assertEquals(3, client.size());
+        Assertions.assertTrue(client.containsKey("addr.0"));
+        Assertions.assertTrue(client.containsKey("addr.1"));
+        final JsonObject overflow = client.getJsonObject(InMemoryEventBusMetrics.OVERFLOW)
+                                          .getJsonObject(InMemoryEventBusMetrics.OVERFLOW);
+        Assertions.assertEquals(3L, overflow.getLong("count"));
+        Assertions.assertEquals(0, overflow.getInteger("inFlight"));
+    }
+
+}
@@ -0,0 +1,42 @@
+package io.zero88.qwe.event.mock;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+import io.zero88.qwe.event.EBContract;
+import io.zero88.qwe.event.EventListener;
+import io.zero88.qwe.event.ExecutionMode;
+
+public class MockExecutionModeListener implements EventListener {
+
+    @EBContract(action = "ASYNC")
+    public Future<JsonObject> async() {
+        return Future.succeededFuture(threadInfo());
+    }
+
+    @EBContract(action = "SYNC")
+    public JsonObject sync() {
+        return threadInfo();
+    }
+
+    @EBContract(action = "ASYNC_IN_WORKER", mode = ExecutionMode.WORKER)
+    public Future<JsonObject> asyncInWorker() {
+        return Future.succeededFuture(threadInfo());
+    }
+
+    @EBContract(action = "SYNC_IN_EVENT_LOOP", mode = ExecutionMode.EVENT_LOOP)
+    public JsonObject syncInEventLoop() {
+        return threadInfo();
+    }
+
+    @EBContract(action = "VIRTUAL", mode = ExecutionMode.VIRTUAL_THREAD)
+    public JsonObject virtual() {
+        return new JsonObject().put("eventLoop", Context.isOnEventLoopThread());
+    }
+
+    private static JsonObject threadInfo() {
+        return new JsonObject().put("eventLoop", Context.isOnEventLoopThread())
+                               .put("worker", Context.isOnWorkerThread());
+    }
+
+}
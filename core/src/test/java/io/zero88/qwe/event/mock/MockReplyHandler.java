@@ -0,0 +1,32 @@
+package io.zero88.qwe.event.mock;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.vertx.core.eventbus.Message;
+import io.zero88.qwe.event.EventAction;
+import io.zero88.qwe.event.EventMessage;
+import io.zero88.qwe.event.EventReplyHandler;
+
+@SuppressWarnings("rawtypes")
+public class MockReplyHandler implements EventReplyHandler {
+
+    public static final AtomicInteger INSTANCES = new AtomicInteger();
+    public static final AtomicInteger REPLIES = new AtomicInteger();
+
+    public MockReplyHandler() {
+        INSTANCES.incrementAndGet();
+        REPLIES.set(0);
+    }
+
+    @Override
+    public EventMessage to(String address, EventAction action, Message message) {
+        REPLIES.incrementAndGet();
+        return EventReplyHandler.create().to(address, action, message);
+    }
+
+    @Override
+    public EventMessage otherwise(String address, EventAction action, Throwable error) {
+        return EventReplyHandler.create().otherwise(address, action, error);
+    }
+
+}
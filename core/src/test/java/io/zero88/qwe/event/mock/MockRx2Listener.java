@@ -1,6 +1,7 @@
 package io.zero88.qwe.event.mock;
 
 import io.reactivex.Completable;
+import io.reactivex.Flowable;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
 import io.vertx.core.json.JsonObject;
@@ -25,4 +26,9 @@ public class MockRx2Listener implements EventListener {
         return Completable.complete();
     }
 
+    @EBContract(action = "FLOWABLE")
+    public Flowable<JsonObject> flowable(@EBParam("count") int count) {
+        return Flowable.range(0, count).map(i -> new JsonObject().put("idx", i));
+    }
+
 }
@@ -0,0 +1,21 @@
+package io.zero88.qwe.event.mock;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.zero88.qwe.event.EBContext;
+import io.zero88.qwe.event.EBContract;
+import io.zero88.qwe.event.EBParam;
+import io.zero88.qwe.event.EventListener;
+
+public class MockSlowListener implements EventListener {
+
+    @EBContract(action = "SLOW")
+    public Future<JsonObject> slow(@EBContext Vertx vertx, @EBParam("id") int id) {
+        final Promise<JsonObject> promise = Promise.promise();
+        vertx.setTimer(100, t -> promise.complete(new JsonObject().put("id", id)));
+        return promise.future();
+    }
+
+}
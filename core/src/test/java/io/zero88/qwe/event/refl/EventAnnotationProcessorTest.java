@@ -167,4 +167,23 @@ class EventAnnotationProcessorTest {
         Assertions.assertEquals(int.class, methodMeta.params()[0].getParamClass());
     }
 
+    @Test
+    void test_scan_dispatch_table_is_cached() {
+        final EventDispatchTable table = processor.scan(MockWithVariousParamsListener.class);
+        Assertions.assertSame(table, processor.scan(MockWithVariousParamsListener.class));
+        Assertions.assertTrue(table.actions().contains("GET_ONE"));
+        Assertions.assertTrue(table.actions().contains("BODY"));
+        Assertions.assertTrue(table.conflicts().isEmpty());
+        Assertions.assertSame(table.lookup(EventAction.GET_ONE), processor.lookup(MockWithVariousParamsListener.class,
+                                                                                  EventAction.GET_ONE));
+    }
+
+    @Test
+    void test_scan_dispatch_table_report_conflict() {
+        final EventDispatchTable table = processor.scan(MockListenerFailed.class);
+        Assertions.assertEquals(1, table.actions().size());
+        Assertions.assertTrue(table.actions().contains("ERR"));
+        Assertions.assertEquals("More than one event [DUP]", table.conflicts().get("DUP"));
+    }
+
 }
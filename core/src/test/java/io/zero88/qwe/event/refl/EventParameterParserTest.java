@@ -143,4 +143,21 @@ class EventParameterParserTest {
         Assertions.assertNull(inputs[1]);
     }
 
+    @Test
+    void test_extract_by_method_meta_reuse_binding_plan() {
+        final MethodMeta meta = processor.lookup(MockWithVariousParamsListener.class, EventAction.parse("BODY"));
+        for (int i = 0; i < 3; i++) {
+            final RequestData reqData = RequestData.builder()
+                                                   .body(new JsonObject().put("id", i))
+                                                   .headers(new JsonObject().put("hello", "world" + i))
+                                                   .build();
+            final EventMessage msg = EventMessage.initial(EventAction.parse("BODY"), reqData);
+            final Object[] inputs = parser.extract(msg, meta);
+            Assertions.assertEquals(2, inputs.length);
+            Assertions.assertEquals(i, inputs[0]);
+            Assertions.assertEquals(new JsonObject().put("hello", "world" + i), inputs[1]);
+            Assertions.assertArrayEquals(parser.extract(msg, meta.params()), inputs);
+        }
+    }
+
 }
@@ -0,0 +1,66 @@
+package io.zero88.qwe.event.refl;
+
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.json.JsonObject;
+import io.zero88.qwe.dto.msg.RequestData;
+import io.zero88.qwe.event.mock.MockListenerFailed;
+import io.zero88.qwe.event.mock.MockWithVariousParamsListener;
+
+class MethodInvokerTest {
+
+    @Test
+    void test_invoke_no_param() throws Throwable {
+        final Method method = MockWithVariousParamsListener.class.getMethod("noParam");
+        final MethodInvoker invoker = MethodInvoker.create(method);
+        Assertions.assertTrue(invoker instanceof MethodHandleInvoker);
+        Assertions.assertEquals("hello", invoker.invoke(new MockWithVariousParamsListener(), new Object[] {}));
+    }
+
+    @Test
+    void test_invoke_primitive_param_and_output() throws Throwable {
+        final Method method = MockWithVariousParamsListener.class.getMethod("primitive", long.class);
+        final MethodInvoker invoker = MethodInvoker.create(method);
+        Assertions.assertEquals(5L, invoker.invoke(new MockWithVariousParamsListener(), new Object[] {5L}));
+    }
+
+    @Test
+    void test_invoke_void_output() throws Throwable {
+        final Method method = MockWithVariousParamsListener.class.getMethod("noReturn", JsonObject.class);
+        final MethodInvoker invoker = MethodInvoker.create(method);
+        Assertions.assertNull(invoker.invoke(new MockWithVariousParamsListener(), new Object[] {new JsonObject()}));
+    }
+
+    @Test
+    void test_invoke_throw_original_error() throws Exception {
+        final Method method = MockListenerFailed.class.getMethod("err");
+        final MockListenerFailed listener = new MockListenerFailed();
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> MethodInvoker.create(method).invoke(listener, new Object[] {}));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> new ReflectionInvoker(method).invoke(listener, new Object[] {}));
+    }
+
+    @Test
+    void test_invoke_mismatched_argument_is_illegal_argument() throws Exception {
+        final Method method = MockWithVariousParamsListener.class.getMethod("primitive", long.class);
+        final MethodInvoker invoker = MethodInvoker.create(method);
+        final MockWithVariousParamsListener listener = new MockWithVariousParamsListener();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> invoker.invoke(listener, new Object[] {"5"}));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> invoker.invoke(listener, new Object[] {null}));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> invoker.invoke(new Object(), new Object[] {5L}));
+    }
+
+    @Test
+    void test_invoke_by_reflection_fallback() throws Throwable {
+        final Method method = MockWithVariousParamsListener.class.getMethod("refParam", RequestData.class);
+        final RequestData data = RequestData.builder().build();
+        Assertions.assertSame(data,
+                              new ReflectionInvoker(method).invoke(new MockWithVariousParamsListener(),
+                                                                   new Object[] {data}));
+    }
+
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import io.zero88.qwe.JsonHelper;
+import io.zero88.qwe.dto.JsonData;
 
 class FileOptionTest {
 
@@ -29,4 +30,17 @@ class FileOptionTest {
         Assertions.assertEquals("pi", opt.getOwner());
     }
 
+    @Test
+    void atomic_write_tri_state() {
+        final FileOption unset = FileOption.create();
+        Assertions.assertNull(unset.getAtomicWrite());
+        Assertions.assertFalse(unset.isAtomicWrite());
+        Assertions.assertTrue(unset.defaultAtomicWrite(true).isAtomicWrite());
+        final FileOption disabled = FileOption.builder().atomicWrite(false).build();
+        Assertions.assertSame(disabled, disabled.defaultAtomicWrite(true));
+        Assertions.assertFalse(disabled.defaultAtomicWrite(true).isAtomicWrite());
+        final FileOption parsed = JsonData.from(disabled.toJson(), FileOption.class);
+        Assertions.assertEquals(Boolean.FALSE, parsed.getAtomicWrite());
+    }
+
 }
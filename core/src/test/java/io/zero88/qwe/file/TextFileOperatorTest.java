@@ -159,6 +159,52 @@ class TextFileOperatorTest {
               }));
     }
 
+    @Test
+    void write_fsync_overwrite_file(VertxTestContext testContext, @TempDir Path tempDir) {
+        final Path a1 = tempDir.resolve("x").resolve("1");
+        final FileOption option = FileOption.builder().fsync(true).build();
+        final BufferConverter<JsonObject> converter = BufferConverter.JSON_OBJECT_CONVERTER;
+        helper.write(a1, option, new JsonObject().put("1", "23456789"), converter)
+              .flatMap(b -> helper.write(a1, option, new JsonObject().put("1", "2"), converter))
+              .map(p -> JsonUtils.readAsJson(toStream(p)))
+              .onFailure(testContext::failNow)
+              .onSuccess(json -> testContext.verify(() -> {
+                  JsonHelper.assertJson(new JsonObject().put("1", "2"), json);
+                  testContext.completeNow();
+              }));
+    }
+
+    @Test
+    void write_atomic_overwrite_file(VertxTestContext testContext, @TempDir Path tempDir) {
+        final Path a1 = tempDir.resolve("x").resolve("1");
+        final FileOption option = FileOption.builder().atomicWrite(true).fsync(true).build();
+        final BufferConverter<JsonObject> converter = BufferConverter.JSON_OBJECT_CONVERTER;
+        helper.write(a1, option, new JsonObject(), converter)
+              .flatMap(b -> helper.write(a1, option, new JsonObject().put("1", "2"), converter))
+              .map(p -> JsonUtils.readAsJson(toStream(p)))
+              .onFailure(testContext::failNow)
+              .onSuccess(json -> testContext.verify(() -> {
+                  JsonHelper.assertJson(new JsonObject().put("1", "2"), json);
+                  Assertions.assertArrayEquals(new String[] {"1"}, a1.getParent().toFile().list());
+                  testContext.completeNow();
+              }));
+    }
+
+    @Test
+    void write_atomic_without_overwrite_option(VertxTestContext testContext, @TempDir Path tempDir) {
+        final Path a1 = tempDir.resolve("1");
+        final FileOption option = FileOption.builder().atomicWrite(true).overwrite(false).build();
+        final BufferConverter<JsonObject> converter = BufferConverter.JSON_OBJECT_CONVERTER;
+        helper.write(a1, option, new JsonObject().put("1", "2"), converter)
+              .flatMap(b -> helper.write(a1, option, new JsonObject(), converter))
+              .onSuccess(b -> testContext.failNow("Expect error in test"))
+              .onFailure(err -> testContext.verify(() -> {
+                  Assertions.assertTrue(err instanceof FileOptionException);
+                  JsonHelper.assertJson(new JsonObject().put("1", "2"), JsonUtils.readAsJson(toStream(a1)));
+                  testContext.completeNow();
+              }));
+    }
+
     private FileInputStream toStream(Path p) {
         try {
             return new FileInputStream(p.toFile());
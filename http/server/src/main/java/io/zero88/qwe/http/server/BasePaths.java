@@ -16,6 +16,7 @@ public final class BasePaths {
     public static final String DYNAMIC_WS_PATH = "/s/ws";
     public static final String ROOT_UPLOAD_PATH = "/u";
     public static final String ROOT_DOWNLOAD_PATH = "/f";
+    public static final String ROOT_METRICS_PATH = "/metrics";
     public static final String WILDCARDS_ANY_PATH = "*";
 
     public static String addWildcards(String path) {
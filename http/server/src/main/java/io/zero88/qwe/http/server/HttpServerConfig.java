@@ -13,6 +13,7 @@ import io.zero88.qwe.http.server.config.CorsOptions;
 import io.zero88.qwe.http.server.config.FileDownloadConfig;
 import io.zero88.qwe.http.server.config.FileUploadConfig;
 import io.zero88.qwe.http.server.config.Http2Config;
+import io.zero88.qwe.http.server.config.MetricsConfig;
 import io.zero88.qwe.http.server.config.StaticWebConfig;
 import io.zero88.qwe.http.server.config.WebSocketConfig;
 
@@ -64,6 +65,8 @@ public final class HttpServerConfig implements PluginDirConfig {
     private FileUploadConfig fileUploadConfig = new FileUploadConfig();
     @JsonProperty(value = StaticWebConfig.NAME)
     private StaticWebConfig staticWebConfig = new StaticWebConfig();
+    @JsonProperty(value = MetricsConfig.NAME)
+    private MetricsConfig metricsConfig = new MetricsConfig();
 
     @Override
     public String key() { return NAME; }
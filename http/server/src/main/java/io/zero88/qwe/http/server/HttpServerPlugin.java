@@ -27,6 +27,7 @@ import io.zero88.qwe.http.server.gateway.GatewayIndexApi;
 import io.zero88.qwe.http.server.gateway.GatewayRouterCreator;
 import io.zero88.qwe.http.server.handler.FailureContextHandler;
 import io.zero88.qwe.http.server.handler.NotFoundContextHandler;
+import io.zero88.qwe.http.server.metrics.MetricsRouterCreator;
 import io.zero88.qwe.http.server.rest.DynamicRouterCreator;
 import io.zero88.qwe.http.server.rest.RestApiCreator;
 import io.zero88.qwe.http.server.rest.RestEventApisCreator;
@@ -146,6 +147,7 @@ public class HttpServerPlugin extends PluginVerticle<HttpServerConfig, HttpServe
                                                                        sharedData());
             new StaticWebRouterCreator(pluginContext().dataDir()).mount(root, pluginConfig.getStaticWebConfig(),
                                                                         sharedData());
+            new MetricsRouterCreator().mount(root, pluginConfig.getMetricsConfig(), sharedData());
             root.route().last().handler(new NotFoundContextHandler());
             return root;
         } catch (QWEException e) {
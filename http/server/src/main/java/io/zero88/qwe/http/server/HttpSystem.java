@@ -63,4 +63,14 @@ public interface HttpSystem extends LogSystem {
 
     }
 
+
+    interface MetricsSystem extends HttpSystem {
+
+        @Override
+        default String function() {
+            return "METRICS";
+        }
+
+    }
+
 }
@@ -0,0 +1,24 @@
+package io.zero88.qwe.http.server.config;
+
+import io.zero88.qwe.IConfig;
+import io.zero88.qwe.http.server.BasePaths;
+import io.zero88.qwe.http.server.HttpServerConfig;
+import io.zero88.qwe.http.server.HttpSystem.MetricsSystem;
+import io.zero88.qwe.http.server.RouterConfig;
+
+import lombok.NonNull;
+
+public final class MetricsConfig extends AbstractRouterConfig implements IConfig, RouterConfig, MetricsSystem {
+
+    public static final String NAME = "__metrics__";
+
+    public MetricsConfig() {
+        super(NAME, HttpServerConfig.class);
+    }
+
+    @Override
+    protected @NonNull String defaultPath() {
+        return BasePaths.ROOT_METRICS_PATH;
+    }
+
+}
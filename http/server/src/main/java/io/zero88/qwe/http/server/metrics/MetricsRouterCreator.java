@@ -0,0 +1,32 @@
+package io.zero88.qwe.http.server.metrics;
+
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.ext.web.Router;
+import io.zero88.qwe.SharedDataLocalProxy;
+import io.zero88.qwe.event.metrics.EventBusMetrics;
+import io.zero88.qwe.http.HttpUtils;
+import io.zero88.qwe.http.server.HttpSystem.MetricsSystem;
+import io.zero88.qwe.http.server.RouterCreator;
+import io.zero88.qwe.http.server.config.MetricsConfig;
+
+import lombok.NonNull;
+
+/**
+ * Exposes the snapshot of {@link EventBusMetrics} in {@code JSON} at {@code <metrics_path>/eventbus}
+ */
+public final class MetricsRouterCreator implements RouterCreator<MetricsConfig>, MetricsSystem {
+
+    public static final String EVENTBUS_PATH = "/eventbus";
+
+    @Override
+    public @NonNull Router subRouter(@NonNull MetricsConfig config, @NonNull SharedDataLocalProxy sharedData) {
+        final Router router = Router.router(sharedData.getVertx());
+        router.get(EVENTBUS_PATH)
+              .produces(HttpUtils.JSON_UTF8_CONTENT_TYPE)
+              .handler(ctx -> ctx.response()
+                                 .putHeader(HttpHeaders.CONTENT_TYPE, HttpUtils.JSON_UTF8_CONTENT_TYPE)
+                                 .end(HttpUtils.prettify(EventBusMetrics.lookup(sharedData).snapshot(), ctx.request())));
+        return router;
+    }
+
+}
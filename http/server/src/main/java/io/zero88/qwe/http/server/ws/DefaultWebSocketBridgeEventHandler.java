@@ -67,9 +67,9 @@ public class DefaultWebSocketBridgeEventHandler implements WebSocketBridgeEventH
             EventMessage msg = parseMessage(HttpHeaderUtils.serializeHeaders(socket.headers()), raw);
             logger().info(decor("Forward the bridge message [{}=>{}][{}]"), address, plan.processAddress(),
                           msg.getAction());
-            return executor.execute(plan, msg).flatMap(resp -> socket.write(resp.toJson().toBuffer()));
+            return executor.execute(plan, msg).flatMap(resp -> socket.write(resp.toBuffer()));
         } catch (QWEException e) {
-            return socket.write(EventMessage.error(EventAction.ACK, e).toJson().toBuffer());
+            return socket.write(EventMessage.error(EventAction.ACK, e).toBuffer());
         }
     }
 
@@ -31,12 +31,52 @@ public final class JsonStorageConfig implements PluginDirConfig {
     @Default
     private final String serviceHandlerClass = JsonStorageService.class.getName();
     /**
-     * If {@code chunk} is enabled, it means each key will be persisted in each file that corresponding name
+     * If {@code chunk} is enabled, it means each key will be persisted in each file that corresponding name. A file
+     * becomes a directory of chunk files and a manifest
      */
     @Default
     private final boolean chunk = false;
+    /**
+     * The number of JSON pointer tokens that identifies a chunk. {@code 1} means a chunk per top-level key
+     */
+    @Default
+    private final int chunkDepth = 1;
+    /**
+     * The default file option. A file is written atomically unless {@code atomicWrite} is explicitly disabled
+     *
+     * @see FileOption#defaultAtomicWrite(boolean)
+     */
     @Default
     private final FileOption option = FileOption.create();
+    /**
+     * If {@code cacheEnabled}, each file is loaded to memory once, then reads and mutations are served in memory. It
+     * is disabled by default, because a cached file does not pick up the changes that are made outside of this
+     * service, e.g: edited by hand
+     */
+    @Default
+    private final boolean cacheEnabled = false;
+    /**
+     * The delay in milliseconds to flush a mutated file since the last mutation. {@code 0} means a mutation is
+     * flushed before it is replied
+     */
+    @Default
+    private final long flushDelay = 0;
+    /**
+     * The maximum delay in milliseconds to flush a mutated file since the first unflushed mutation
+     */
+    @Default
+    private final long maxFlushDelay = 5000;
+    /**
+     * If {@code journal} is enabled, a mutation is appended to a journal file next to the mutated file instead of
+     * rewriting it, then a file is loaded by replaying its journal. It implies {@link #isCacheEnabled()}
+     */
+    @Default
+    private final boolean journal = false;
+    /**
+     * The journal size in KB that triggers the compaction of journal to the file in background
+     */
+    @Default
+    private final int journalCompactSizeInKB = 1024;
 
     public Class<? extends JsonStorageService> serviceHandlerClass() {
         return Optional.ofNullable(ReflectionClass.<JsonStorageService>findClass(serviceHandlerClass))
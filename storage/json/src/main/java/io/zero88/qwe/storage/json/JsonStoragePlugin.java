@@ -2,6 +2,7 @@ package io.zero88.qwe.storage.json;
 
 import java.util.Objects;
 
+import io.vertx.core.Future;
 import io.zero88.qwe.PluginContext;
 import io.zero88.qwe.PluginVerticle;
 import io.zero88.qwe.SharedDataLocalProxy;
@@ -12,6 +13,8 @@ import lombok.NonNull;
 
 public final class JsonStoragePlugin extends PluginVerticle<JsonStorageConfig, PluginContext> {
 
+    private JsonStorageService service;
+
     JsonStoragePlugin(@NonNull SharedDataLocalProxy sharedData) {
         super(sharedData);
     }
@@ -28,10 +31,14 @@ public final class JsonStoragePlugin extends PluginVerticle<JsonStorageConfig, P
 
     @Override
     public void onStart() {
-        EventBusClient.create(sharedData())
-                      .register(pluginConfig.getServiceAddress(),
-                                JsonStorageService.create(Objects.requireNonNull(pluginContext().dataDir()),
-                                                          pluginConfig, pluginConfig.serviceHandlerClass()));
+        service = JsonStorageService.create(Objects.requireNonNull(pluginContext().dataDir()), pluginConfig,
+                                            pluginConfig.serviceHandlerClass());
+        EventBusClient.create(sharedData()).register(pluginConfig.getServiceAddress(), service);
+    }
+
+    @Override
+    public Future<Void> onAsyncStop() {
+        return Objects.isNull(service) ? Future.succeededFuture() : service.flush();
     }
 
 }
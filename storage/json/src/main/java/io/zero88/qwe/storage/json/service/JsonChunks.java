@@ -0,0 +1,310 @@
+package io.zero88.qwe.storage.json.service;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import io.github.zero88.utils.Strings;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.pointer.JsonPointer;
+import io.zero88.qwe.dto.JsonData;
+import io.zero88.qwe.file.FileOption;
+import io.zero88.qwe.storage.json.JsonStorageConfig;
+import io.zero88.qwe.storage.json.service.JsonMutation.Op;
+
+import lombok.NonNull;
+
+/**
+ * Shards a logical JSON document into chunk files, in a directory that is named by the document file.
+ * <p>
+ * A chunk holds the value at a JSON pointer of {@link JsonStorageConfig#getChunkDepth()} tokens, that is the chunk
+ * key, e.g. {@code /users} if depth is {@code 1}. A chunk file is {@code {"value": ...}}, its name is derived from
+ * the chunk key. The manifest file {@value #MANIFEST} maps the chunk keys to the chunk files:
+ * <pre>{"depth": 1, "chunks": {"/users": "users-8b1a9953c4611296.json"}}</pre>
+ * <p>
+ * A pointer that is as deep as the chunk key only touches the manifest and the chunk that owns it. A shallower
+ * pointer touches every chunk under it, that is not atomic. The levels above the chunk keys are always JSON objects,
+ * they only exist through their chunks.
+ */
+final class JsonChunks {
+
+    static final String MANIFEST = "manifest.json";
+    private static final String CHUNKS = "chunks";
+    private static final String DEPTH = "depth";
+    private static final String VALUE = "value";
+
+    private final int depth;
+    private final JsonDocumentStore store;
+
+    JsonChunks(int depth, @NonNull JsonDocumentStore store) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("Chunk depth must be positive");
+        }
+        this.depth = depth;
+        this.store = store;
+    }
+
+    /**
+     * Read the chunks of given pointer
+     *
+     * @param vertx   vertx
+     * @param dir     resolved document directory
+     * @param option  file option
+     * @param pointer JSON pointer
+     * @param reader  the reader function, it is given the part of document that is owned by the pointer
+     * @param <R>     Type of result
+     * @return the reader result
+     */
+    <R> Future<R> read(@NonNull Vertx vertx, @NonNull Path dir, @NonNull FileOption option, String pointer,
+                       @NonNull Function<JsonObject, R> reader) {
+        final List<String> tokens = tokens(pointer);
+        if (tokens.size() < depth) {
+            return collect(vertx, dir, option, key(tokens, tokens.size())).map(reader);
+        }
+        final String key = key(tokens, depth);
+        return manifest(vertx, dir, option, chunks -> chunks.getString(key)).flatMap(file -> {
+            if (Objects.isNull(file)) {
+                return Future.succeededFuture(reader.apply(new JsonObject()));
+            }
+            return store.read(vertx, dir.resolve(file), relax(option), chunk -> reader.apply(view(key, chunk)));
+        });
+    }
+
+    /**
+     * Mutate the chunks of given mutation
+     *
+     * @param vertx    vertx
+     * @param dir      resolved document directory
+     * @param option   file option
+     * @param mutation the mutation on the logical document
+     * @param output   the output function, it is given the part of document that is owned by the mutation pointer
+     * @param <R>      Type of result
+     * @return the output
+     */
+    <R> Future<R> mutate(@NonNull Vertx vertx, @NonNull Path dir, @NonNull FileOption option,
+                         @NonNull JsonMutation mutation, @NonNull BiFunction<JsonObject, Object, R> output) {
+        final List<String> tokens = tokens(mutation.getPointer());
+        if (tokens.size() >= depth) {
+            return mutateChunk(vertx, dir, option, tokens, mutation, output);
+        }
+        if (mutation.getOp() == Op.WRITE) {
+            return replace(vertx, dir, option, tokens, mutation.getValue()).map(doc -> output.apply(doc, doc));
+        }
+        final List<String> target = append(tokens, escape(mutation.getValue().toString()));
+        return clear(vertx, dir, option, key(target, target.size())).map(removed -> {
+            final JsonObject doc = new JsonObject();
+            return output.apply(tokens.isEmpty() ? doc : put(doc, key(tokens, tokens.size()), new JsonObject()),
+                                removed);
+        });
+    }
+
+    private <R> Future<R> mutateChunk(Vertx vertx, Path dir, FileOption option, List<String> tokens,
+                                      JsonMutation mutation, BiFunction<JsonObject, Object, R> output) {
+        final String key = key(tokens, depth);
+        final String pointer = "/" + VALUE + tokens.subList(depth, tokens.size())
+                                                   .stream()
+                                                   .map(t -> "/" + t)
+                                                   .collect(Collectors.joining());
+        final boolean write = mutation.getOp() == Op.WRITE;
+        final JsonMutation inner = write
+                                   ? JsonMutation.write(pointer, mutation.getValue())
+                                   : JsonMutation.remove(pointer, mutation.getValue());
+        return manifest(vertx, dir, option, chunks -> chunks.getString(key)).flatMap(file -> {
+            if (Objects.isNull(file) && !write) {
+                return Future.succeededFuture(output.apply(new JsonObject(), null));
+            }
+            final String name = Objects.isNull(file) ? fileName(key) : file;
+            final Future<R> result = store.mutate(vertx, dir.resolve(name), relax(option), inner, (chunk, applied) -> {
+                final JsonObject view = view(key, chunk);
+                return output.apply(view, write ? view : applied);
+            });
+            return Objects.isNull(file) ? result.flatMap(r -> register(vertx, dir, option, key, name).map(r)) : result;
+        });
+    }
+
+    @SuppressWarnings("rawtypes")
+    private Future<JsonObject> replace(Vertx vertx, Path dir, FileOption option, List<String> tokens, Object value) {
+        return chunks(vertx, dir, option, key(tokens, tokens.size())).flatMap(existing -> {
+            final Map<String, Object> entries = new LinkedHashMap<>();
+            split(tokens, value, entries);
+            final List<Future> futures = new ArrayList<>();
+            existing.forEach((key, file) -> {
+                if (!entries.containsKey(key)) {
+                    futures.add(clearChunk(vertx, dir, option, key, file));
+                }
+            });
+            entries.forEach((key, v) -> {
+                final String file = existing.getOrDefault(key, fileName(key));
+                final Future<Object> written = store.mutate(vertx, dir.resolve(file), relax(option),
+                                                            JsonMutation.write("/" + VALUE, copy(v)), (c, a) -> null);
+                futures.add(existing.containsKey(key)
+                            ? written
+                            : written.flatMap(ignore -> register(vertx, dir, option, key, file)));
+            });
+            return CompositeFuture.all(futures).map(ignore -> {
+                final JsonObject doc = new JsonObject();
+                entries.forEach((key, v) -> put(doc, key, v));
+                return doc;
+            });
+        });
+    }
+
+    @SuppressWarnings("rawtypes")
+    private Future<Object> clear(Vertx vertx, Path dir, FileOption option, String prefix) {
+        return chunks(vertx, dir, option, prefix).flatMap(existing -> {
+            final List<String> keys = new ArrayList<>(existing.keySet());
+            final List<Future> futures = keys.stream()
+                                             .map(key -> clearChunk(vertx, dir, option, key, existing.get(key)))
+                                             .collect(Collectors.toList());
+            return CompositeFuture.all(futures).map(cf -> {
+                final JsonObject doc = new JsonObject();
+                for (int i = 0; i < keys.size(); i++) {
+                    put(doc, keys.get(i), cf.resultAt(i));
+                }
+                return prefix.isEmpty() ? doc : JsonPointer.from(prefix).queryJson(doc);
+            });
+        });
+    }
+
+    private Future<Object> clearChunk(Vertx vertx, Path dir, FileOption option, String key, String file) {
+        return store.mutate(vertx, dir.resolve(MANIFEST), option, JsonMutation.remove("/" + CHUNKS, key), (m, a) -> a)
+                    .flatMap(ignore -> store.mutate(vertx, dir.resolve(file), relax(option),
+                                                    JsonMutation.remove(null, VALUE), (chunk, removed) -> removed));
+    }
+
+    private Future<Void> register(Vertx vertx, Path dir, FileOption option, String key, String file) {
+        final Path manifest = dir.resolve(MANIFEST);
+        return store.mutate(vertx, manifest, option, JsonMutation.write("/" + DEPTH, depth), (m, a) -> null)
+                    .flatMap(ignore -> store.mutate(vertx, manifest, option,
+                                                    JsonMutation.write("/" + CHUNKS + "/" + escape(key), file),
+                                                    (m, a) -> null))
+                    .mapEmpty();
+    }
+
+    @SuppressWarnings("rawtypes")
+    private Future<JsonObject> collect(Vertx vertx, Path dir, FileOption option, String prefix) {
+        return chunks(vertx, dir, option, prefix).flatMap(existing -> {
+            final List<String> keys = new ArrayList<>(existing.keySet());
+            final List<Future> futures = keys.stream()
+                                             .map(key -> store.read(vertx, dir.resolve(existing.get(key)),
+                                                                    relax(option),
+                                                                    chunk -> copy(chunk.getValue(VALUE))))
+                                             .collect(Collectors.toList());
+            return CompositeFuture.all(futures).map(cf -> {
+                final JsonObject doc = new JsonObject();
+                for (int i = 0; i < keys.size(); i++) {
+                    put(doc, keys.get(i), cf.resultAt(i));
+                }
+                return doc;
+            });
+        });
+    }
+
+    private Future<Map<String, String>> chunks(Vertx vertx, Path dir, FileOption option, String prefix) {
+        return manifest(vertx, dir, option, chunks -> {
+            final Map<String, String> matched = new LinkedHashMap<>();
+            chunks.forEach(e -> {
+                if (prefix.isEmpty() || e.getKey().equals(prefix) || e.getKey().startsWith(prefix + "/")) {
+                    matched.put(e.getKey(), e.getValue().toString());
+                }
+            });
+            return matched;
+        });
+    }
+
+    private <R> Future<R> manifest(Vertx vertx, Path dir, FileOption option, Function<JsonObject, R> reader) {
+        return store.read(vertx, dir.resolve(MANIFEST), option, json -> {
+            final Integer d = json.getInteger(DEPTH);
+            if (Objects.nonNull(d) && d != depth) {
+                throw new IllegalStateException("Chunk depth [" + d + "] of [" + dir + "] mismatches [" + depth + "]");
+            }
+            return reader.apply(json.getJsonObject(CHUNKS, new JsonObject()));
+        });
+    }
+
+    private void split(List<String> tokens, Object value, Map<String, Object> entries) {
+        if (tokens.size() >= depth) {
+            entries.put(key(tokens, depth), value);
+            return;
+        }
+        if (!(value instanceof JsonObject) && !(value instanceof Map)) {
+            throw new IllegalArgumentException("Chunked document requires JSON object above depth [" + depth + "]");
+        }
+        for (Map.Entry<String, Object> e : JsonData.tryParse(value).toJson()) {
+            split(append(tokens, escape(e.getKey())), e.getValue(), entries);
+        }
+    }
+
+    /**
+     * The chunk file never exists before its first mutation, the strict option only applies to the manifest
+     */
+    private static FileOption relax(FileOption option) {
+        return option.toBuilder().strict(false).build();
+    }
+
+    static String fileName(String key) {
+        final String name = key.substring(1).replaceAll("[^A-Za-z0-9_-]", "_");
+        final String hash = UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)).toString().replace("-", "");
+        return name.substring(0, Math.min(name.length(), 64)) + "-" + hash.substring(0, 16) + ".json";
+    }
+
+    private static List<String> tokens(String pointer) {
+        if (Strings.isBlank(pointer)) {
+            return new ArrayList<>();
+        }
+        if (!pointer.startsWith("/")) {
+            throw new IllegalArgumentException("Chunked document requires JSON pointer [" + pointer + "]");
+        }
+        JsonPointer.from(pointer);
+        return new ArrayList<>(Arrays.asList(pointer.substring(1).split("/", -1)));
+    }
+
+    private static List<String> append(List<String> tokens, String token) {
+        final List<String> appended = new ArrayList<>(tokens);
+        appended.add(token);
+        return appended;
+    }
+
+    private static String key(List<String> tokens, int size) {
+        return tokens.subList(0, size).stream().map(t -> "/" + t).collect(Collectors.joining());
+    }
+
+    private static String escape(String token) {
+        return token.replace("~", "~0").replace("/", "~1");
+    }
+
+    private static JsonObject view(String key, JsonObject chunk) {
+        return put(new JsonObject(), key, chunk.getValue(VALUE));
+    }
+
+    private static JsonObject put(JsonObject doc, String key, Object value) {
+        if (Objects.nonNull(value)) {
+            JsonPointer.from(key).writeJson(doc, value, true);
+        }
+        return doc;
+    }
+
+    private static Object copy(Object value) {
+        if (value instanceof JsonObject) {
+            return ((JsonObject) value).copy();
+        }
+        if (value instanceof JsonArray) {
+            return ((JsonArray) value).copy();
+        }
+        return value;
+    }
+
+}
@@ -0,0 +1,576 @@
+package io.zero88.qwe.storage.json.service;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.FileSystem;
+import io.vertx.core.json.JsonObject;
+import io.zero88.qwe.file.FileOption;
+import io.zero88.qwe.file.TextFileOperator;
+import io.zero88.qwe.file.converter.BufferConverter;
+import io.zero88.qwe.storage.json.JsonStorageConfig;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory documents of {@link JsonStorageService} that are keyed by resolved file path.
+ * <p>
+ * A document is loaded from file once, then reads and mutations are applied in memory. A mutated document is flushed
+ * after {@link JsonStorageConfig#getFlushDelay()} since the last mutation, but no later than {@link
+ * JsonStorageConfig#getMaxFlushDelay()} since the first unflushed mutation. Only one write per document is in
+ * progress, the mutations that come in the meantime are written together by the next one.
+ * <p>
+ * If {@code flushDelay} is {@code 0}, a failed write drops the document from memory, then its callers are failed and
+ * the next access reloads it from file, so a mutation that is not written is never seen nor flushed later. Otherwise,
+ * a failed delayed flush is retried with exponential backoff until it succeeds.
+ * <p>
+ * The total size of documents is bounded by {@link JsonStorageConfig#getMaxSizeInMB()}, the least recently used
+ * documents that have no unflushed mutation are evicted.
+ * <p>
+ * If {@link JsonStorageConfig#isJournal()}, a flush appends the unflushed mutations to the document {@link
+ * JsonJournal} instead of rewriting the file. Once the journal exceeds {@link
+ * JsonStorageConfig#getJournalCompactSizeInKB()}, the document is compacted to the file in background: the flushes
+ * keep appending, to both the journal and its next generation, while the snapshot is written, then only the switch of
+ * journal generation waits for the in-progress flush.
+ */
+@Slf4j
+final class JsonDocumentCache implements JsonDocumentStore {
+
+    private final JsonStorageConfig config;
+    private final Function<Vertx, TextFileOperator> operator;
+    private final long maxWeight;
+    private final long maxJournalSize;
+    private final Map<Path, Document> documents = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Path, Future<Document>> loading = new HashMap<>();
+    private long weight;
+
+    JsonDocumentCache(@NonNull JsonStorageConfig config, @NonNull Function<Vertx, TextFileOperator> operator) {
+        this.config = config;
+        this.operator = operator;
+        this.maxWeight = (long) config.getMaxSizeInMB() * 1024 * 1024;
+        this.maxJournalSize = (long) config.getJournalCompactSizeInKB() * 1024;
+    }
+
+    /**
+     * Read the document of given file
+     *
+     * @param vertx  vertx
+     * @param path   resolved file path
+     * @param option file option
+     * @param reader the reader function, it is called under the document lock then it must not leak any reference
+     *               to the document
+     * @param <R>    Type of result
+     * @return the reader result
+     */
+    @Override
+    public <R> Future<R> read(@NonNull Vertx vertx, @NonNull Path path, @NonNull FileOption option,
+                              @NonNull Function<JsonObject, R> reader) {
+        return get(vertx, path, option).flatMap(doc -> {
+            synchronized (doc) {
+                if (!doc.evicted) {
+                    return Future.succeededFuture(reader.apply(doc.json));
+                }
+            }
+            return read(vertx, path, option, reader);
+        });
+    }
+
+    /**
+     * Mutate the document of given file then flush it
+     *
+     * @param vertx    vertx
+     * @param path     resolved file path
+     * @param option   file option that is used to write file
+     * @param mutation the mutation
+     * @param output   the output function of the document and the mutation result, it is called under the document
+     *                 lock then it must not leak any reference to the document
+     * @param <R>      Type of result
+     * @return the output, that is completed after the mutation is flushed if {@code flushDelay} is {@code 0}, or is
+     *     failed if it is not flushed
+     */
+    @Override
+    public <R> Future<R> mutate(@NonNull Vertx vertx, @NonNull Path path, @NonNull FileOption option,
+                                @NonNull JsonMutation mutation, @NonNull BiFunction<JsonObject, Object, R> output) {
+        return get(vertx, path, option).flatMap(doc -> {
+            R result = null;
+            boolean evicted;
+            synchronized (doc) {
+                evicted = doc.evicted;
+                if (!evicted) {
+                    final Buffer record = config.isJournal() ? JsonJournal.record(mutation) : null;
+                    final Object applied = mutation.apply(doc.json);
+                    doc.markDirty(vertx, option, record);
+                    result = output.apply(doc.json, applied);
+                }
+            }
+            if (evicted) {
+                return mutate(vertx, path, option, mutation, output);
+            }
+            final R r = result;
+            if (config.getFlushDelay() <= 0) {
+                return flush(doc).map(ignore -> r);
+            }
+            scheduleFlush(doc);
+            return Future.succeededFuture(r);
+        });
+    }
+
+    /**
+     * Flush all unflushed mutations
+     *
+     * @return a future that is completed when all documents are flushed
+     */
+    @SuppressWarnings("rawtypes")
+    Future<Void> flush() {
+        final List<Document> docs;
+        synchronized (this) {
+            docs = new ArrayList<>(documents.values());
+        }
+        final List<Future> futures = docs.stream().map(this::flushAndCompact).collect(Collectors.toList());
+        return CompositeFuture.join(futures).mapEmpty();
+    }
+
+    private Future<Void> flushAndCompact(Document doc) {
+        return flush(doc).flatMap(ignore -> {
+            final Future<Void> compaction;
+            synchronized (doc) {
+                compaction = doc.compaction;
+            }
+            return Objects.isNull(compaction) ? Future.succeededFuture()
+                                              : compaction.flatMap(c -> flushAndCompact(doc));
+        });
+    }
+
+    private synchronized Future<Document> get(Vertx vertx, Path path, FileOption option) {
+        final Document doc = documents.get(path);
+        if (Objects.nonNull(doc)) {
+            return Future.succeededFuture(doc);
+        }
+        final Future<Document> inflight = loading.get(path);
+        if (Objects.nonNull(inflight)) {
+            return inflight;
+        }
+        final Promise<Document> promise = Promise.promise();
+        loading.put(path, promise.future());
+        load(vertx, path, option).onComplete(ar -> {
+            loaded(path, ar.result());
+            promise.handle(ar);
+        });
+        return promise.future();
+    }
+
+    private Future<Document> load(Vertx vertx, Path path, FileOption option) {
+        final TextFileOperator op = operator.apply(vertx);
+        return op.read(path, option).flatMap(buffer -> {
+            final Document doc = new Document(path, buffer);
+            if (!config.isJournal()) {
+                return Future.succeededFuture(doc);
+            }
+            final FileSystem fs = vertx.fileSystem();
+            final String next = JsonJournal.nextPath(path).toString();
+            return JsonJournal.read(vertx, JsonJournal.path(path)).flatMap(data -> {
+                final int valid = doc.replay(buffer, data);
+                if (valid >= 0) {
+                    // The next generation of a compaction that did not write its snapshot is stale
+                    return truncate(op, path, option, data, valid).flatMap(ignore -> fs.delete(next).otherwiseEmpty())
+                                                                  .map(ignore -> doc);
+                }
+                return JsonJournal.read(vertx, JsonJournal.nextPath(path)).flatMap(nextData -> {
+                    final int validNext = doc.replay(buffer, nextData);
+                    if (validNext <= 0) {
+                        return fs.delete(next).otherwiseEmpty().map(ignore -> doc);
+                    }
+                    log.info("Recover JSON journal of [{}] from its next generation", path);
+                    return JsonJournal.promote(vertx, path)
+                                      .flatMap(ignore -> truncate(op, path, option, nextData, validNext))
+                                      .map(ignore -> doc);
+                });
+            });
+        });
+    }
+
+    private Future<Void> truncate(TextFileOperator op, Path path, FileOption option, Buffer data, int valid) {
+        if (valid <= 0 || valid == data.length()) {
+            return Future.succeededFuture();
+        }
+        log.warn("Truncate torn JSON journal of [{}]", path);
+        return op.write(JsonJournal.path(path), JsonJournal.atomic(option), data.slice(0, valid)).mapEmpty();
+    }
+
+    private synchronized void loaded(Path path, Document doc) {
+        loading.remove(path);
+        if (Objects.isNull(doc)) {
+            return;
+        }
+        documents.put(path, doc);
+        weight += doc.size;
+        evict();
+    }
+
+    private synchronized void resize(Document doc, long size) {
+        if (!doc.evicted) {
+            weight += size - doc.size;
+        }
+        doc.size = size;
+        evict();
+    }
+
+    private void evict() {
+        final Iterator<Document> iterator = documents.values().iterator();
+        while (weight > maxWeight && documents.size() > 1 && iterator.hasNext()) {
+            final Document doc = iterator.next();
+            if (!iterator.hasNext()) {
+                return;
+            }
+            synchronized (doc) {
+                if (doc.dirty || Objects.nonNull(doc.flushing) || Objects.nonNull(doc.compaction)) {
+                    continue;
+                }
+                doc.evicted = true;
+            }
+            iterator.remove();
+            weight -= doc.size;
+            log.debug("Evict JSON document [{}][{}B]", doc.path, doc.size);
+        }
+    }
+
+    private void scheduleFlush(Document doc) {
+        synchronized (doc) {
+            if (!doc.dirty) {
+                return;
+            }
+            final long now = System.currentTimeMillis();
+            final long deadline = Math.min(now + config.getFlushDelay(), doc.dirtySince + config.getMaxFlushDelay());
+            if (doc.timerId >= 0) {
+                doc.vertx.cancelTimer(doc.timerId);
+            }
+            doc.timerId = doc.vertx.setTimer(Math.max(1, deadline - now), id -> flushOnTimer(doc));
+        }
+    }
+
+    private void flushOnTimer(Document doc) {
+        flush(doc).onFailure(t -> retryFlush(doc, t));
+    }
+
+    /**
+     * Reschedule a failed delayed flush with exponential backoff, that is bounded by the max flush delay
+     */
+    private void retryFlush(Document doc, Throwable error) {
+        final long delay;
+        synchronized (doc) {
+            // Skip if a mutation has already scheduled the next flush
+            if (!doc.dirty || Objects.nonNull(doc.error) || doc.timerId >= 0) {
+                log.warn("Failed to flush JSON document [{}]", doc.path, error);
+                return;
+            }
+            doc.retries++;
+            final long maxDelay = Math.max(config.getFlushDelay(), config.getMaxFlushDelay());
+            delay = Math.min(config.getFlushDelay() << Math.min(doc.retries, 16), maxDelay);
+            doc.timerId = doc.vertx.setTimer(Math.max(1, delay), id -> flushOnTimer(doc));
+        }
+        log.warn("Failed to flush JSON document [{}], retry in [{}ms]", doc.path, delay, error);
+    }
+
+    private Future<Void> flush(Document doc) {
+        final Buffer buffer;
+        final Buffer nextRecords;
+        final boolean journal = config.isJournal();
+        final Promise<Void> flushing = Promise.promise();
+        synchronized (doc) {
+            if (Objects.nonNull(doc.error)) {
+                return Future.failedFuture(doc.error);
+            }
+            if (Objects.nonNull(doc.flushing)) {
+                return doc.flushing.compose(ignore -> flush(doc), ignore -> flush(doc));
+            }
+            if (!doc.dirty) {
+                return Future.succeededFuture();
+            }
+            if (doc.timerId >= 0) {
+                doc.vertx.cancelTimer(doc.timerId);
+                doc.timerId = -1;
+            }
+            if (journal) {
+                buffer = Buffer.buffer().appendBuffer(doc.snapshotted).appendBuffer(doc.records);
+                nextRecords = Objects.isNull(doc.compaction) ? null : doc.records;
+                doc.snapshotted = Buffer.buffer();
+                doc.records = Buffer.buffer();
+            } else {
+                buffer = doc.json.toBuffer();
+                nextRecords = null;
+            }
+            doc.dirty = false;
+            doc.flushing = flushing.future();
+        }
+        final Future<Void> written = journal ? append(doc, buffer, nextRecords) : write(doc, buffer);
+        return written.onComplete(ar -> {
+            if (ar.failed() && config.getFlushDelay() <= 0) {
+                discard(doc, ar.cause());
+            }
+            final boolean compact;
+            synchronized (doc) {
+                doc.flushing = null;
+                if (ar.succeeded()) {
+                    doc.retries = 0;
+                }
+                compact = ar.succeeded() && journal && doc.journalSize > maxJournalSize;
+            }
+            if (compact) {
+                compact(doc);
+            }
+            flushing.complete();
+        });
+    }
+
+    /**
+     * Drop a document that is failed to write through, then the next access reloads it from file
+     */
+    private synchronized void discard(Document doc, Throwable error) {
+        synchronized (doc) {
+            doc.evicted = true;
+            doc.error = error;
+            doc.dirty = false;
+            doc.records = Buffer.buffer();
+            doc.snapshotted = Buffer.buffer();
+        }
+        if (documents.remove(doc.path, doc)) {
+            weight -= doc.size;
+        }
+        log.warn("Discard JSON document [{}] that is failed to write", doc.path, error);
+    }
+
+    private Future<Void> write(Document doc, Buffer buffer) {
+        return operator.apply(doc.vertx).write(doc.path, doc.option, buffer).<Void>mapEmpty().onComplete(ar -> {
+            if (ar.succeeded()) {
+                resize(doc, buffer.length());
+                return;
+            }
+            synchronized (doc) {
+                doc.dirty = true;
+            }
+        });
+    }
+
+    /**
+     * Append the records to the journal, and to its next generation if the journal is compacting
+     *
+     * @param doc         the document
+     * @param records     the records of the journal
+     * @param nextRecords the records of the next generation, or {@code null} if the journal is not compacting
+     * @return the result of the journal append
+     */
+    private Future<Void> append(Document doc, Buffer records, Buffer nextRecords) {
+        final boolean truncate;
+        final Buffer data;
+        final boolean truncateNext;
+        final Buffer nextData;
+        synchronized (doc) {
+            truncate = doc.journalSize == 0;
+            data = truncate ? JsonJournal.header(doc.checksum).appendBuffer(records) : records;
+            truncateNext = doc.nextSize == 0;
+            nextData = Objects.isNull(nextRecords) || !truncateNext
+                       ? nextRecords
+                       : JsonJournal.header(doc.nextChecksum).appendBuffer(nextRecords);
+        }
+        final Future<Void> appended = JsonJournal.append(doc.vertx, JsonJournal.path(doc.path), doc.option, data,
+                                                         truncate);
+        final Future<Void> appendedNext = Objects.isNull(nextData)
+                                          ? Future.succeededFuture()
+                                          : JsonJournal.append(doc.vertx, JsonJournal.nextPath(doc.path), doc.option,
+                                                               nextData, truncateNext);
+        return CompositeFuture.join(appended, appendedNext).onComplete(ar -> {
+            synchronized (doc) {
+                if (appended.succeeded()) {
+                    doc.journalSize += data.length();
+                } else {
+                    // Retried on the journal only, the next generation either has them or is broken
+                    doc.snapshotted = records.appendBuffer(doc.snapshotted);
+                    doc.dirty = true;
+                }
+                if (Objects.nonNull(nextData) && appendedNext.succeeded()) {
+                    doc.nextSize += nextData.length();
+                } else if (Objects.nonNull(nextData)) {
+                    doc.nextBroken = true;
+                }
+            }
+        }).compose(ignore -> appended, ignore -> appended);
+    }
+
+    /**
+     * Compact the journal in background. The snapshot contains the unflushed records, then they are only appended to
+     * the journal, and the next records are appended to both the journal and the next generation until the snapshot
+     * is written.
+     */
+    private void compact(Document doc) {
+        final Buffer snapshot;
+        final Promise<Void> compaction = Promise.promise();
+        synchronized (doc) {
+            if (Objects.nonNull(doc.compaction) || Objects.nonNull(doc.error)) {
+                return;
+            }
+            snapshot = doc.json.toBuffer();
+            doc.nextChecksum = JsonJournal.checksum(snapshot);
+            doc.nextSize = 0;
+            doc.nextBroken = false;
+            doc.snapshotted = doc.snapshotted.appendBuffer(doc.records);
+            doc.records = Buffer.buffer();
+            doc.compaction = compaction.future();
+        }
+        log.debug("Compact JSON journal of [{}][{}B]", doc.path, doc.journalSize);
+        // A partial file would not match the journal checksum then the journal would be discarded, so always atomic
+        operator.apply(doc.vertx)
+                .write(doc.path, JsonJournal.atomic(doc.option), snapshot)
+                .onComplete(ar -> switchJournal(doc, snapshot, ar.cause(), compaction));
+    }
+
+    /**
+     * Switch to the next journal generation once the in-progress flush is done, the flushes wait for the switch only
+     */
+    private void switchJournal(Document doc, Buffer snapshot, Throwable error, Promise<Void> compaction) {
+        final Promise<Void> flushing = Promise.promise();
+        final Future<Void> inflight;
+        final boolean broken;
+        final boolean appended;
+        synchronized (doc) {
+            inflight = doc.flushing;
+            if (Objects.isNull(inflight)) {
+                doc.flushing = flushing.future();
+            }
+            broken = doc.nextBroken;
+            appended = doc.nextSize > 0;
+        }
+        if (Objects.nonNull(inflight)) {
+            inflight.onComplete(ignore -> switchJournal(doc, snapshot, error, compaction));
+            return;
+        }
+        final FileSystem fs = doc.vertx.fileSystem();
+        final Future<Void> switched;
+        if (Objects.nonNull(error)) {
+            // The file is not replaced then the journal still has every record
+            log.warn("Failed to compact JSON journal of [{}]", doc.path, error);
+            switched = fs.delete(JsonJournal.nextPath(doc.path).toString()).otherwiseEmpty();
+        } else if (broken) {
+            switched = Future.failedFuture("The next generation of JSON journal is incomplete");
+        } else if (appended) {
+            switched = JsonJournal.promote(doc.vertx, doc.path);
+        } else {
+            switched = fs.delete(JsonJournal.path(doc.path).toString()).otherwiseEmpty();
+        }
+        switched.compose(ignore -> {
+            if (Objects.isNull(error)) {
+                synchronized (doc) {
+                    doc.checksum = doc.nextChecksum;
+                    doc.journalSize = doc.nextSize;
+                    // The records that are not appended to the journal yet are in the snapshot
+                    doc.snapshotted = Buffer.buffer();
+                    doc.dirty = doc.records.length() > 0;
+                }
+                resize(doc, snapshot.length());
+            }
+            return Future.<Void>succeededFuture();
+        }, t -> {
+            // The file is the snapshot but the journal is stale and its next generation is incomplete
+            log.warn("Failed to switch JSON journal of [{}], rewrite the document", doc.path, t);
+            return rewrite(doc);
+        }).onComplete(ar -> {
+            synchronized (doc) {
+                doc.flushing = null;
+                doc.compaction = null;
+            }
+            flushing.complete();
+            compaction.complete();
+        });
+    }
+
+    private Future<Void> rewrite(Document doc) {
+        final Buffer current;
+        synchronized (doc) {
+            current = doc.json.toBuffer();
+            doc.records = Buffer.buffer();
+            doc.snapshotted = Buffer.buffer();
+            doc.dirty = false;
+        }
+        final FileSystem fs = doc.vertx.fileSystem();
+        return operator.apply(doc.vertx)
+                       .write(doc.path, JsonJournal.atomic(doc.option), current)
+                       .flatMap(ignore -> fs.delete(JsonJournal.path(doc.path).toString()).otherwiseEmpty())
+                       .flatMap(ignore -> fs.delete(JsonJournal.nextPath(doc.path).toString()).otherwiseEmpty())
+                       .onSuccess(ignore -> {
+                           synchronized (doc) {
+                               doc.checksum = JsonJournal.checksum(current);
+                               doc.journalSize = 0;
+                           }
+                           resize(doc, current.length());
+                       })
+                       .onFailure(t -> discard(doc, t));
+    }
+
+    private static final class Document {
+
+        private final Path path;
+        private final JsonObject json;
+        private long size;
+        private boolean evicted;
+        private boolean dirty;
+        private long dirtySince;
+        private long timerId = -1;
+        private int retries;
+        private Vertx vertx;
+        private FileOption option;
+        private Future<Void> flushing;
+        private Throwable error;
+        private String checksum;
+        private long journalSize;
+        private Buffer records = Buffer.buffer();
+        /**
+         * The unflushed records that are only appended to the journal, because they are in the compaction snapshot
+         */
+        private Buffer snapshotted = Buffer.buffer();
+        private Future<Void> compaction;
+        private String nextChecksum;
+        private long nextSize;
+        private boolean nextBroken;
+
+        private Document(Path path, Buffer buffer) {
+            this.path = path;
+            this.json = BufferConverter.JSON_OBJECT_CONVERTER.from(buffer);
+            this.size = buffer.length();
+        }
+
+        private int replay(Buffer buffer, Buffer journal) {
+            this.checksum = JsonJournal.checksum(buffer);
+            final int valid = JsonJournal.replay(path, journal, checksum, json);
+            this.journalSize = Math.max(0, valid);
+            return valid;
+        }
+
+        private void markDirty(Vertx vertx, FileOption option, Buffer record) {
+            if (!dirty) {
+                dirtySince = System.currentTimeMillis();
+            }
+            this.dirty = true;
+            this.vertx = vertx;
+            this.option = option;
+            if (Objects.nonNull(record)) {
+                this.records.appendBuffer(record);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,47 @@
+package io.zero88.qwe.storage.json.service;
+
+import java.nio.file.Path;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.zero88.qwe.file.FileOption;
+
+/**
+ * Reads and mutates the JSON document of a file
+ *
+ * @see JsonDocumentCache
+ * @see JsonMutationQueue
+ */
+interface JsonDocumentStore {
+
+    /**
+     * Read the document of given file
+     *
+     * @param vertx  vertx
+     * @param path   resolved file path
+     * @param option file option
+     * @param reader the reader function, it must not leak any reference to the document
+     * @param <R>    Type of result
+     * @return the reader result
+     */
+    <R> Future<R> read(Vertx vertx, Path path, FileOption option, Function<JsonObject, R> reader);
+
+    /**
+     * Mutate the document of given file then write it
+     *
+     * @param vertx    vertx
+     * @param path     resolved file path
+     * @param option   file option that is used to write file
+     * @param mutation the mutation
+     * @param output   the output function of the document and the mutation result, it must not leak any reference to
+     *                 the document
+     * @param <R>      Type of result
+     * @return the output
+     */
+    <R> Future<R> mutate(Vertx vertx, Path path, FileOption option, JsonMutation mutation,
+                         BiFunction<JsonObject, Object, R> output);
+
+}
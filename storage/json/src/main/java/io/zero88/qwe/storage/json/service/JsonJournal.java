@@ -0,0 +1,166 @@
+package io.zero88.qwe.storage.json.service;
+
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.CopyOptions;
+import io.vertx.core.file.FileSystem;
+import io.vertx.core.file.OpenOptions;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonObject;
+import io.zero88.qwe.file.FileOption;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The append-only journal of a JSON document file.
+ * <p>
+ * The journal is a sibling file with suffix {@value #SUFFIX} in JSON lines format. The first line is the header that
+ * holds the checksum of the document file the journal is based on, each next line is a {@link JsonMutation}. The
+ * document is rebuilt by replaying the journal on the document file.
+ * <p>
+ * The compaction writes a snapshot of the document file atomically then deletes the journal. If the process stops in
+ * between, the journal checksum does not match the document file anymore then the journal is discarded, because the
+ * document file already contains all its mutations. A torn last line, that is left by a process stopping in the middle
+ * of an append, is discarded too.
+ * <p>
+ * The mutations that come while the snapshot is written are appended to both the journal and its next generation, a
+ * sibling file with suffix {@value #NEXT_SUFFIX} that is based on the snapshot. Once the snapshot is written, the next
+ * generation replaces the journal. If the process stops in between, the document is rebuilt from the next generation
+ * when the journal is stale.
+ */
+@Slf4j
+final class JsonJournal {
+
+    static final String SUFFIX = ".journal";
+    static final String NEXT_SUFFIX = SUFFIX + ".next";
+    private static final String CHECKSUM = "checksum";
+
+    private JsonJournal() { }
+
+    static Path path(Path file) {
+        return file.resolveSibling(file.getFileName() + SUFFIX);
+    }
+
+    static Path nextPath(Path file) {
+        return file.resolveSibling(file.getFileName() + NEXT_SUFFIX);
+    }
+
+    static String checksum(Buffer buffer) {
+        final CRC32 crc = new CRC32();
+        crc.update(buffer.getBytes());
+        return buffer.length() + "-" + Long.toHexString(crc.getValue());
+    }
+
+    static Buffer header(String checksum) {
+        return new JsonObject().put(CHECKSUM, checksum).toBuffer().appendByte((byte) '\n');
+    }
+
+    static Buffer record(JsonMutation mutation) {
+        return mutation.toJson().toBuffer().appendByte((byte) '\n');
+    }
+
+    /**
+     * Replay the journal on given document
+     *
+     * @param file     document file
+     * @param journal  journal content
+     * @param checksum the checksum of document file
+     * @param root     the document
+     * @return the length of valid journal, or {@code -1} if the journal is not based on the document file
+     */
+    static int replay(Path file, Buffer journal, String checksum, JsonObject root) {
+        int start = 0;
+        int count = 0;
+        for (int i = 0; i < journal.length(); i++) {
+            if (journal.getByte(i) != '\n') {
+                continue;
+            }
+            final JsonObject line;
+            try {
+                line = new JsonObject(journal.slice(start, i));
+            } catch (DecodeException e) {
+                break;
+            }
+            if (start == 0 && !checksum.equals(line.getString(CHECKSUM))) {
+                log.info("Discard stale JSON journal of [{}]", file);
+                return -1;
+            }
+            if (start > 0) {
+                try {
+                    JsonMutation.from(line).apply(root);
+                    count++;
+                } catch (RuntimeException e) {
+                    log.warn("Skip invalid JSON journal record of [{}]", file, e);
+                }
+            }
+            start = i + 1;
+        }
+        if (start == 0 && journal.length() > 0) {
+            return -1;
+        }
+        log.debug("Replay [{}] JSON journal record(s) of [{}]", count, file);
+        return start;
+    }
+
+    /**
+     * @param option file option
+     * @return the option to write a journal, that is always atomic
+     */
+    static FileOption atomic(FileOption option) {
+        return option.toBuilder().autoCreate(true).overwrite(true).atomicWrite(true).build();
+    }
+
+    /**
+     * Read a journal file
+     *
+     * @param vertx   vertx
+     * @param journal journal file
+     * @return the journal content, or empty buffer if the journal does not exist
+     */
+    static Future<Buffer> read(Vertx vertx, Path journal) {
+        final FileSystem fs = vertx.fileSystem();
+        return fs.exists(journal.toString())
+                 .flatMap(e -> e ? fs.readFile(journal.toString()) : Future.succeededFuture(Buffer.buffer()));
+    }
+
+    /**
+     * Replace the journal by its next generation
+     *
+     * @param vertx vertx
+     * @param file  document file
+     * @return a future that is completed after the journal is replaced
+     */
+    static Future<Void> promote(Vertx vertx, Path file) {
+        return vertx.fileSystem()
+                    .move(nextPath(file).toString(), path(file).toString(),
+                          new CopyOptions().setReplaceExisting(true).setAtomicMove(true));
+    }
+
+    /**
+     * Append to a journal
+     *
+     * @param vertx    vertx
+     * @param journal  journal file, that is the journal or its next generation
+     * @param option   file option
+     * @param data     the journal data
+     * @param truncate whether the existing journal is truncated
+     * @return a future that is completed after the data is appended
+     */
+    static Future<Void> append(Vertx vertx, Path journal, FileOption option, Buffer data, boolean truncate) {
+        final OpenOptions options = new OpenOptions().setCreate(true)
+                                                     .setWrite(true)
+                                                     .setAppend(!truncate)
+                                                     .setTruncateExisting(truncate)
+                                                     .setPerms(option.getFilePerms());
+        return vertx.fileSystem()
+                    .open(journal.toString(), options)
+                    .flatMap(af -> af.write(data)
+                                     .flatMap(ignore -> option.isFsync() ? af.flush() : Future.succeededFuture())
+                                     .eventually(ignore -> af.close()));
+    }
+
+}
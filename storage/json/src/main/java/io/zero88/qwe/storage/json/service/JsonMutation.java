@@ -0,0 +1,91 @@
+package io.zero88.qwe.storage.json.service;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import io.github.zero88.utils.Functions;
+import io.github.zero88.utils.Strings;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.pointer.JsonPointer;
+import io.zero88.qwe.dto.JsonData;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * A mutation of JSON document, that is also a record of the document journal.
+ * <p>
+ * A mutation is deterministic, then replaying the recorded mutations in order on the same document rebuilds the same
+ * document.
+ *
+ * @see JsonJournal
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JsonMutation implements JsonData {
+
+    @NonNull
+    private final Op op;
+    private final String pointer;
+    /**
+     * The data to write if {@link Op#WRITE}, or the key to remove if {@link Op#REMOVE}
+     */
+    private final Object value;
+
+    public static JsonMutation write(String pointer, Object dataToInsert) {
+        return new JsonMutation(Op.WRITE, pointer, dataToInsert);
+    }
+
+    public static JsonMutation remove(String pointer, @NonNull Object keyToRemove) {
+        return new JsonMutation(Op.REMOVE, pointer, keyToRemove);
+    }
+
+    public static JsonMutation from(@NonNull JsonObject json) {
+        return new JsonMutation(Op.valueOf(json.getString("op")), json.getString("pointer"), json.getValue("value"));
+    }
+
+    public @NonNull JsonPointer pointer() {
+        return Strings.isBlank(pointer) ? JsonPointer.create() : JsonPointer.from(pointer);
+    }
+
+    @Override
+    public JsonObject toJson() {
+        return new JsonObject().put("op", op.name()).put("pointer", pointer).put("value", value);
+    }
+
+    /**
+     * Apply this mutation on given document
+     *
+     * @param root the document
+     * @return the document if {@link Op#WRITE}, or the removed value if {@link Op#REMOVE}
+     */
+    Object apply(@NonNull JsonObject root) {
+        final JsonPointer p = pointer();
+        if (op == Op.WRITE) {
+            final Object o = Objects.requireNonNull(p.writeJson(root, value, true), "Unable to write");
+            if (o != root) {
+                root.clear().getMap().putAll(JsonData.tryParse(o).toJson().getMap());
+            }
+            return root;
+        }
+        final String key = value.toString();
+        final Object o = p.queryJson(root);
+        if (o instanceof JsonObject) {
+            return ((JsonObject) o).remove(key);
+        }
+        if (o instanceof JsonArray) {
+            return Functions.getIfThrow(() -> Integer.parseInt(key))
+                            .flatMap(idx -> Optional.ofNullable(((JsonArray) o).remove((int) idx)))
+                            .orElse(null);
+        }
+        return null;
+    }
+
+    public enum Op {
+        WRITE, REMOVE
+    }
+
+}
@@ -0,0 +1,137 @@
+package io.zero88.qwe.storage.json.service;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.zero88.qwe.file.FileOption;
+import io.zero88.qwe.file.TextFileOperator;
+
+import lombok.NonNull;
+
+/**
+ * Serializes the mutations of {@link JsonStorageService} per file when the documents are not cached.
+ * <p>
+ * The mutations that are pending on the same file are coalesced into one load, then they are applied in order and
+ * the document is written once. A failed mutation only fails itself, the file is not written if no mutation succeeds.
+ */
+final class JsonMutationQueue implements JsonDocumentStore {
+
+    private final Function<Vertx, TextFileOperator> operator;
+    private final Map<Path, List<Mutation<?>>> queues = new HashMap<>();
+
+    JsonMutationQueue(@NonNull Function<Vertx, TextFileOperator> operator) {
+        this.operator = operator;
+    }
+
+    /**
+     * Load the document of given file then read it
+     *
+     * @param vertx  vertx
+     * @param path   resolved file path
+     * @param option file option
+     * @param reader the reader function
+     * @param <R>    Type of result
+     * @return the reader result
+     */
+    @Override
+    public <R> Future<R> read(@NonNull Vertx vertx, @NonNull Path path, @NonNull FileOption option,
+                              @NonNull Function<JsonObject, R> reader) {
+        return operator.apply(vertx).loadJson(path, option).map(reader);
+    }
+
+    /**
+     * Enqueue a mutation of given file
+     *
+     * @param vertx    vertx
+     * @param path     resolved file path
+     * @param option   file option
+     * @param mutation the mutation
+     * @param output   the output function of the document and the mutation result
+     * @param <R>      Type of result
+     * @return the output, that is completed after the mutation is written
+     */
+    @Override
+    public <R> Future<R> mutate(@NonNull Vertx vertx, @NonNull Path path, @NonNull FileOption option,
+                                @NonNull JsonMutation mutation, @NonNull BiFunction<JsonObject, Object, R> output) {
+        final Mutation<R> pending = new Mutation<>(option, mutation, output);
+        final boolean idle;
+        synchronized (this) {
+            idle = !queues.containsKey(path);
+            queues.computeIfAbsent(path, p -> new ArrayList<>()).add(pending);
+        }
+        if (idle) {
+            drain(vertx, path);
+        }
+        return pending.promise.future();
+    }
+
+    private void drain(Vertx vertx, Path path) {
+        final List<Mutation<?>> batch;
+        synchronized (this) {
+            final List<Mutation<?>> queue = queues.get(path);
+            if (queue.isEmpty()) {
+                queues.remove(path);
+                return;
+            }
+            batch = new ArrayList<>(queue);
+            queue.clear();
+        }
+        final TextFileOperator op = operator.apply(vertx);
+        op.loadJson(path, batch.get(0).option).flatMap(json -> {
+            final List<Mutation<?>> applied = new ArrayList<>();
+            batch.stream().filter(m -> m.apply(json)).forEach(applied::add);
+            if (applied.isEmpty()) {
+                return Future.succeededFuture(applied);
+            }
+            return op.write(path, applied.get(applied.size() - 1).option, json.toBuffer()).map(ignore -> applied);
+        }).onComplete(ar -> {
+            batch.forEach(m -> m.complete(ar.mapEmpty()));
+            drain(vertx, path);
+        });
+    }
+
+    private static final class Mutation<R> {
+
+        private final FileOption option;
+        private final JsonMutation mutation;
+        private final BiFunction<JsonObject, Object, R> output;
+        private final Promise<R> promise = Promise.promise();
+        private R result;
+
+        private Mutation(FileOption option, JsonMutation mutation, BiFunction<JsonObject, Object, R> output) {
+            this.option = option;
+            this.mutation = mutation;
+            this.output = output;
+        }
+
+        private boolean apply(JsonObject json) {
+            try {
+                result = output.apply(json, mutation.apply(json));
+                return true;
+            } catch (Exception e) {
+                promise.fail(e);
+                return false;
+            }
+        }
+
+        private void complete(AsyncResult<Void> ar) {
+            if (ar.succeeded()) {
+                promise.tryComplete(result);
+            } else {
+                promise.tryFail(ar.cause());
+            }
+        }
+
+    }
+
+}
@@ -3,10 +3,11 @@ package io.zero88.qwe.storage.json.service;
 import java.nio.file.Path;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import io.github.zero88.repl.Arguments;
 import io.github.zero88.repl.ReflectionClass;
-import io.github.zero88.utils.Functions;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonArray;
@@ -17,6 +18,7 @@ import io.zero88.qwe.dto.msg.RequestData;
 import io.zero88.qwe.event.EBContext;
 import io.zero88.qwe.event.EBContract;
 import io.zero88.qwe.event.EventListener;
+import io.zero88.qwe.file.FileOption;
 import io.zero88.qwe.file.TextFileOperator;
 import io.zero88.qwe.file.TextFileOperatorImpl;
 import io.zero88.qwe.file.converter.BufferConverter;
@@ -25,14 +27,19 @@ import io.zero88.qwe.storage.json.JsonStorageConfig;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.experimental.Accessors;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * The JSON file storage service.
+ * <p>
+ * A subclass that is plugged by {@link JsonStorageConfig#getServiceHandlerClass()} customizes how a file is read and
+ * mutated by overriding {@link #read(Vertx, JsonInput, Function)} and {@link #mutate(Vertx, JsonInput, JsonMutation,
+ * BiFunction)}.
+ */
 @Slf4j
 @Getter
 @Accessors(fluent = true)
-@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public class JsonStorageService implements EventListener {
 
     public static <T extends JsonStorageService> T create(@NonNull Path rootDir, @NonNull JsonStorageConfig config,
@@ -43,14 +50,29 @@ public class JsonStorageService implements EventListener {
 
     private final Path rootDir;
     private final JsonStorageConfig config;
+    @Getter(AccessLevel.NONE)
+    private final JsonDocumentCache documents;
+    @Getter(AccessLevel.NONE)
+    private final JsonMutationQueue mutations;
+    @Getter(AccessLevel.NONE)
+    private final JsonChunks chunks;
+
+    protected JsonStorageService(@NonNull Path rootDir, @NonNull JsonStorageConfig config) {
+        this.rootDir = rootDir;
+        this.config = config;
+        this.documents = config.isCacheEnabled() || config.isJournal()
+                         ? new JsonDocumentCache(config, this::operator)
+                         : null;
+        this.mutations = new JsonMutationQueue(this::operator);
+        this.chunks = config.isChunk() ? new JsonChunks(config.getChunkDepth(), store()) : null;
+    }
 
     @EBContract(action = "CREATE_OR_UPDATE")
     public Future<JsonObject> createOrUpdate(@EBContext Vertx vertx, RequestData requestData) {
         final JsonInput ji = parse(requestData);
         final JsonPointer p = ji.pointer();
-        return this.loadJson(vertx, ji)
-                   .map(j -> Objects.requireNonNull(p.writeJson(j, ji.getDataToInsert(), true), "Unable to write"))
-                   .flatMap(o -> writeJson(vertx, ji, o).map(ignore -> p.isRootPointer() ? o : p.queryJson(o)))
+        return this.mutate(vertx, ji, JsonMutation.write(ji.getPointer(), ji.getDataToInsert()),
+                           (json, ignore) -> copy(p.isRootPointer() ? json : p.queryJson(json)))
                    .map(o -> new JsonObject().put(ji.getOutputKey(), o));
     }
 
@@ -60,10 +82,8 @@ public class JsonStorageService implements EventListener {
         if (Objects.isNull(ji.getKeyToRemove())) {
             throw new IllegalArgumentException("Key to remove is mandatory");
         }
-        final JsonPointer pointer = ji.pointer();
-        return this.loadJson(vertx, ji)
-                   .flatMap(json -> this.remove(pointer, ji, json)
-                                        .flatMap(o -> this.writeJson(vertx, ji, json).map(ignore -> o)))
+        final JsonMutation mutation = JsonMutation.remove(ji.getPointer(), ji.getKeyToRemove());
+        return this.mutate(vertx, ji, mutation, (json, removed) -> removed(ji, mutation, json, removed))
                    .map(o -> new JsonObject().put(ji.getOutputKey(), o))
                    .otherwise(new JsonObject());
     }
@@ -71,56 +91,148 @@ public class JsonStorageService implements EventListener {
     @EBContract(action = "QUERY")
     public Future<JsonObject> query(@EBContext Vertx vertx, RequestData requestData) {
         final JsonInput ji = parse(requestData);
-        return loadJson(vertx, ji).map(json -> new JsonObject().put(ji.getOutputKey(), ji.pointer().queryJson(json)));
+        return this.read(vertx, ji, json -> copy(ji.pointer().queryJson(json)))
+                   .map(o -> new JsonObject().put(ji.getOutputKey(), o));
     }
 
     @EBContract(action = "HAS")
     public Future<JsonObject> has(@EBContext Vertx vertx, RequestData requestData) {
         final JsonInput ji = parse(requestData);
-        return this.loadJson(vertx, ji)
-                   .map(json -> new JsonObject().put(ji.getOutputKey(), Objects.nonNull(ji.pointer().queryJson(json))));
+        return this.read(vertx, ji, json -> Objects.nonNull(ji.pointer().queryJson(json)))
+                   .map(b -> new JsonObject().put(ji.getOutputKey(), b));
     }
 
-    protected Future<?> remove(JsonPointer pointer, JsonInput ji, JsonObject json) {
-        final String keyToRemove = ji.getKeyToRemove().toString();
-        final Object o = pointer.queryJson(json);
-        if (o instanceof JsonObject) {
-            return Optional.ofNullable(((JsonObject) o).remove(keyToRemove))
-                           .map(v -> ji.isSkipRemovedKeyInOutput() ? v : new JsonObject().put(keyToRemove, v))
-                           .map(Future::succeededFuture)
-                           .orElseGet(Future::succeededFuture);
+    /**
+     * Flush all unflushed mutations to files
+     *
+     * @return a future that is completed when all files are flushed
+     */
+    public Future<Void> flush() {
+        return Objects.isNull(documents) ? Future.succeededFuture() : documents.flush();
+    }
+
+    /**
+     * Read the json document of given input
+     * <p>
+     * If {@link JsonStorageConfig#isChunk()}, the document only contains the chunks that are owned by the pointer.
+     *
+     * @param vertx  vertx
+     * @param ji     json input
+     * @param reader the reader function, the result must not refer to the document
+     * @param <R>    Type of result
+     * @return the reader result
+     */
+    protected <R> Future<R> read(Vertx vertx, @NonNull JsonInput ji, @NonNull Function<JsonObject, R> reader) {
+        final Path path = rootDir.resolve(ji.getFile());
+        if (Objects.nonNull(chunks)) {
+            return chunks.read(vertx, path, fileOption(ji), ji.getPointer(), reader);
         }
-        if (o instanceof JsonArray) {
-            return Functions.getIfThrow(() -> Integer.parseInt(keyToRemove))
-                            .flatMap(idx -> Optional.ofNullable(((JsonArray) o).remove((int) idx)))
-                            .map(Future::succeededFuture)
-                            .orElseGet(Future::succeededFuture);
+        return store().read(vertx, path, fileOption(ji), reader);
+    }
+
+    /**
+     * Mutate the json document of given input then write it
+     * <p>
+     * The mutations on the same file are serialized, then concurrent mutations never lose updates of each other. If
+     * {@link JsonStorageConfig#isChunk()}, the mutation is applied on the chunks that are owned by its pointer, and the
+     * document of output only contains these chunks.
+     *
+     * @param vertx    vertx
+     * @param ji       json input
+     * @param mutation the mutation
+     * @param output   the output function of the document and the mutation result, the output must not refer to the
+     *                 document
+     * @param <R>      Type of result
+     * @return the output
+     * @see JsonMutation#apply(JsonObject)
+     */
+    protected <R> Future<R> mutate(Vertx vertx, @NonNull JsonInput ji, @NonNull JsonMutation mutation,
+                                   @NonNull BiFunction<JsonObject, Object, R> output) {
+        final Path path = rootDir.resolve(ji.getFile());
+        if (Objects.nonNull(chunks)) {
+            return chunks.mutate(vertx, path, fileOption(ji), mutation, output);
         }
-        return Future.succeededFuture();
+        return store().mutate(vertx, path, fileOption(ji), mutation, output);
+    }
+
+    /**
+     * Remove the key of given input from the json node that is pointed by given pointer
+     *
+     * @param pointer the json pointer
+     * @param ji      json input
+     * @param json    the json document
+     * @return a future of the removed value
+     * @deprecated The {@code REMOVE} action does not call this hook anymore, it applies a {@link JsonMutation} by
+     *     {@link #mutate(Vertx, JsonInput, JsonMutation, BiFunction)} instead, that is the hook to override. This
+     *     method is only kept for source compatibility of subclasses
+     */
+    @Deprecated
+    protected Future<?> remove(JsonPointer pointer, JsonInput ji, JsonObject json) {
+        final JsonMutation mutation = JsonMutation.remove(pointer.toString(), ji.getKeyToRemove());
+        return Future.succeededFuture(removed(ji, mutation, json, mutation.apply(json)));
     }
 
     protected JsonInput parse(RequestData requestData) {
         return JsonData.from(requestData.body(), JsonInput.class);
     }
 
+    /**
+     * @deprecated No action calls this hook anymore, the files are read by {@link #read(Vertx, JsonInput, Function)}
+     *     instead, that is the hook to override. This method is only kept for source compatibility of subclasses
+     */
+    @Deprecated
     protected Future<JsonArray> loadArray(Vertx vertx, @NonNull JsonInput ji) {
-        return operator(vertx).loadArray(rootDir.resolve(ji.getFile()),
-                                         Optional.ofNullable(ji.getFileOption()).orElse(config.getOption()));
+        return operator(vertx).loadArray(rootDir.resolve(ji.getFile()), fileOption(ji));
     }
 
+    /**
+     * @deprecated No action calls this hook anymore, the files are read by {@link #read(Vertx, JsonInput, Function)}
+     *     instead, that is the hook to override. This method is only kept for source compatibility of subclasses
+     */
+    @Deprecated
     protected Future<JsonObject> loadJson(Vertx vertx, @NonNull JsonInput ji) {
-        return operator(vertx).loadJson(rootDir.resolve(ji.getFile()),
-                                        Optional.ofNullable(ji.getFileOption()).orElse(config.getOption()));
+        return operator(vertx).loadJson(rootDir.resolve(ji.getFile()), fileOption(ji));
     }
 
+    /**
+     * @deprecated No action calls this hook anymore, the files are written by {@link #mutate(Vertx, JsonInput,
+     *     JsonMutation, BiFunction)} instead, that is the hook to override. This method is only kept for source
+     *     compatibility of subclasses
+     */
+    @Deprecated
     protected Future<Path> writeJson(Vertx vertx, @NonNull JsonInput ji, Object data) {
-        return operator(vertx).write(rootDir.resolve(ji.getFile()),
-                                     Optional.ofNullable(ji.getFileOption()).orElse(config.getOption()),
-                                     JsonData.tryParse(data).toJson(), BufferConverter.JSON_OBJECT_CONVERTER);
+        return operator(vertx).write(rootDir.resolve(ji.getFile()), fileOption(ji), JsonData.tryParse(data).toJson(),
+                                     BufferConverter.JSON_OBJECT_CONVERTER);
+    }
+
+    private JsonDocumentStore store() {
+        return Objects.isNull(documents) ? mutations : documents;
+    }
+
+    private FileOption fileOption(JsonInput ji) {
+        return Optional.ofNullable(ji.getFileOption()).orElse(config.getOption()).defaultAtomicWrite(true);
     }
 
     private TextFileOperator operator(Vertx vertx) {
         return TextFileOperatorImpl.builder().vertx(vertx).maxSize(config.getMaxSizeInMB()).build();
     }
 
+    private static Object removed(JsonInput ji, JsonMutation mutation, JsonObject json, Object removed) {
+        if (Objects.isNull(removed) || ji.isSkipRemovedKeyInOutput() ||
+            !(mutation.pointer().queryJson(json) instanceof JsonObject)) {
+            return removed;
+        }
+        return new JsonObject().put(mutation.getValue().toString(), removed);
+    }
+
+    private static Object copy(Object value) {
+        if (value instanceof JsonObject) {
+            return ((JsonObject) value).copy();
+        }
+        if (value instanceof JsonArray) {
+            return ((JsonArray) value).copy();
+        }
+        return value;
+    }
+
 }
@@ -1,7 +1,12 @@
 package io.zero88.qwe.storage.json.service;
 
 import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,7 +15,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
 
 import io.github.zero88.utils.FileUtils;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
@@ -170,4 +179,279 @@ class JsonStorageServiceTest implements PluginTestHelper {
                             })));
     }
 
+    @Test
+    void test_write_behind(Vertx vertx, VertxTestContext context) {
+        final JsonStorageConfig cfg = JsonStorageConfig.builder()
+                                                        .cacheEnabled(true)
+                                                        .flushDelay(60000)
+                                                        .maxFlushDelay(60000)
+                                                        .build();
+        final JsonStorageService service = JsonStorageService.create(tmp, cfg, JsonStorageService.class);
+        final Path file = tmp.resolve("cached");
+        final JsonInput toInsert = JsonInput.builder()
+                                            .file("cached")
+                                            .pointer("/a")
+                                            .dataToInsert("b")
+                                            .fileOption(FileOption.builder().strict(false).build())
+                                            .build();
+        final JsonInput toQuery = JsonInput.builder().file("cached").pointer("/a").build();
+        service.createOrUpdate(vertx, RequestData.builder().body(toInsert.toJson()).build())
+               .flatMap(r -> service.query(vertx, RequestData.builder().body(toQuery.toJson()).build()))
+               .onSuccess(r -> context.verify(() -> {
+                   Assertions.assertEquals("b", r.getString("data"));
+                   Assertions.assertEquals(0, file.toFile().length());
+               }))
+               .flatMap(r -> service.flush())
+               .onComplete(context.succeeding(r -> context.verify(() -> {
+                   final JsonObject json = JsonUtils.readAsJson(new FileInputStream(file.toString()));
+                   Assertions.assertEquals(new JsonObject().put("a", "b"), json);
+                   context.completeNow();
+               })));
+    }
+
+    @Test
+    void test_write_behind_retry(Vertx vertx, VertxTestContext context) throws IOException {
+        final JsonStorageConfig cfg = JsonStorageConfig.builder()
+                                                        .cacheEnabled(true)
+                                                        .flushDelay(20)
+                                                        .maxFlushDelay(200)
+                                                        .build();
+        final JsonStorageService service = JsonStorageService.create(tmp, cfg, JsonStorageService.class);
+        final Path file = tmp.resolve("retried");
+        Files.write(file, new JsonObject().toBuffer().getBytes());
+        final JsonInput toInsert = JsonInput.builder().file("retried").pointer("/a").dataToInsert("b").build();
+        final JsonInput toQuery = JsonInput.builder().file("retried").build();
+        final String path = file.toString();
+        service.query(vertx, RequestData.builder().body(toQuery.toJson()).build())
+               // The file cannot be written while it is a non-empty directory
+               .flatMap(r -> vertx.fileSystem().delete(path))
+               .flatMap(r -> vertx.fileSystem().mkdir(path))
+               .flatMap(r -> vertx.fileSystem().writeFile(file.resolve("x").toString(), Buffer.buffer("x")))
+               .flatMap(r -> service.createOrUpdate(vertx, RequestData.builder().body(toInsert.toJson()).build()))
+               .onComplete(context.succeeding(
+                   r -> vertx.setTimer(150, t -> vertx.fileSystem().deleteRecursive(path, true))));
+        vertx.setPeriodic(50, id -> {
+            if (!file.toFile().isFile() || file.toFile().length() == 0) {
+                return;
+            }
+            vertx.cancelTimer(id);
+            context.verify(() -> {
+                final JsonObject json = JsonUtils.readAsJson(new FileInputStream(file.toString()));
+                Assertions.assertEquals(new JsonObject().put("a", "b"), json);
+                context.completeNow();
+            });
+        });
+    }
+
+    @Test
+    void test_concurrent_update_without_cache(Vertx vertx, VertxTestContext context) {
+        final JsonStorageConfig cfg = JsonStorageConfig.builder().cacheEnabled(false).build();
+        final JsonStorageService service = JsonStorageService.create(tmp, cfg, JsonStorageService.class);
+        final Path file = tmp.resolve("concurrent");
+        final FileOption option = FileOption.builder().strict(false).build();
+        @SuppressWarnings("rawtypes")
+        final List<Future> futures = IntStream.range(0, 20).mapToObj(i -> {
+            final JsonInput ji = JsonInput.builder()
+                                          .file("concurrent")
+                                          .pointer("/k" + i)
+                                          .dataToInsert(i)
+                                          .fileOption(option)
+                                          .build();
+            return service.createOrUpdate(vertx, RequestData.builder().body(ji.toJson()).build());
+        }).collect(Collectors.toList());
+        CompositeFuture.all(futures).onComplete(context.succeeding(r -> context.verify(() -> {
+            final JsonObject json = JsonUtils.readAsJson(new FileInputStream(file.toString()));
+            Assertions.assertEquals(20, json.size());
+            IntStream.range(0, 20).forEach(i -> Assertions.assertEquals(i, json.getInteger("k" + i)));
+            context.completeNow();
+        })));
+    }
+
+    @Test
+    void test_failed_write_through_is_not_kept(Vertx vertx, VertxTestContext context) throws IOException {
+        final JsonStorageConfig cfg = JsonStorageConfig.builder().journal(true).build();
+        final JsonStorageService service = JsonStorageService.create(tmp, cfg, JsonStorageService.class);
+        final Path file = tmp.resolve("unwritable");
+        final JsonObject origin = new JsonObject().put("a", 1);
+        Files.write(file, origin.toBuffer().getBytes());
+        final JsonInput toInsert = JsonInput.builder()
+                                            .file("unwritable")
+                                            .pointer("/b")
+                                            .dataToInsert(2)
+                                            .fileOption(FileOption.builder().strict(false).build())
+                                            .build();
+        final JsonInput toQuery = JsonInput.builder().file("unwritable").build();
+        final String journal = JsonJournal.path(file).toString();
+        service.query(vertx, RequestData.builder().body(toQuery.toJson()).build())
+               // The journal cannot be opened for writing
+               .flatMap(r -> vertx.fileSystem().mkdir(journal))
+               .flatMap(r -> service.createOrUpdate(vertx, RequestData.builder().body(toInsert.toJson()).build()))
+               .compose(r -> Future.<Void>failedFuture("Must be failed"),
+                        t -> vertx.fileSystem().deleteRecursive(journal, true))
+               .flatMap(r -> service.query(vertx, RequestData.builder().body(toQuery.toJson()).build()))
+               .onComplete(context.succeeding(r -> context.verify(() -> {
+                   Assertions.assertEquals(origin, r.getJsonObject("data"));
+                   context.completeNow();
+               })));
+    }
+
+    @Test
+    void test_journal_replay(Vertx vertx, VertxTestContext context) {
+        final JsonStorageConfig cfg = JsonStorageConfig.builder().journal(true).build();
+        final JsonStorageService service = JsonStorageService.create(tmp, cfg, JsonStorageService.class);
+        final Path file = tmp.resolve("journal");
+        final FileOption option = FileOption.builder().strict(false).build();
+        final JsonInput toRemove = JsonInput.builder().file("journal").keyToRemove("k0").build();
+        final JsonInput toQuery = JsonInput.builder().file("journal").build();
+        updateSequentially(vertx, service, "journal", option, 2)
+            .flatMap(r -> service.remove(vertx, RequestData.builder().body(toRemove.toJson()).build()))
+            .onSuccess(r -> context.verify(() -> {
+                Assertions.assertEquals(0, file.toFile().length());
+                Assertions.assertTrue(JsonJournal.path(file).toFile().exists());
+            }))
+            .flatMap(r -> JsonStorageService.create(tmp, cfg, JsonStorageService.class)
+                                            .query(vertx, RequestData.builder().body(toQuery.toJson()).build()))
+            .onComplete(context.succeeding(r -> context.verify(() -> {
+                Assertions.assertEquals(new JsonObject().put("k1", 1), r.getJsonObject("data"));
+                context.completeNow();
+            })));
+    }
+
+    @Test
+    void test_journal_compaction(Vertx vertx, VertxTestContext context) {
+        final JsonStorageConfig cfg = JsonStorageConfig.builder().journal(true).journalCompactSizeInKB(1).build();
+        final JsonStorageService service = JsonStorageService.create(tmp, cfg, JsonStorageService.class);
+        final Path file = tmp.resolve("compact");
+        final FileOption option = FileOption.builder().strict(false).build();
+        final JsonInput toQuery = JsonInput.builder().file("compact").build();
+        updateSequentially(vertx, service, "compact", option, 50)
+            .flatMap(r -> service.flush())
+            .onSuccess(r -> context.verify(() -> {
+                final JsonObject json = JsonUtils.readAsJson(new FileInputStream(file.toString()));
+                Assertions.assertTrue(json.size() > 0);
+                Assertions.assertTrue(JsonJournal.path(file).toFile().length() <= 1024);
+                Assertions.assertFalse(JsonJournal.nextPath(file).toFile().exists());
+            }))
+            .flatMap(r -> JsonStorageService.create(tmp, cfg, JsonStorageService.class)
+                                            .query(vertx, RequestData.builder().body(toQuery.toJson()).build()))
+            .onComplete(context.succeeding(r -> context.verify(() -> {
+                final JsonObject json = r.getJsonObject("data");
+                Assertions.assertEquals(50, json.size());
+                IntStream.range(0, 50).forEach(i -> Assertions.assertEquals(i, json.getInteger("k" + i)));
+                context.completeNow();
+            })));
+    }
+
+    @Test
+    void test_journal_crash_between_compaction_and_journal_delete(Vertx vertx, VertxTestContext context)
+        throws IOException {
+        final JsonStorageConfig cfg = JsonStorageConfig.builder().journal(true).build();
+        final Path file = tmp.resolve("crashed");
+        final Buffer base = new JsonObject().put("arr", new JsonArray().add(1)).toBuffer();
+        final Buffer journal = JsonJournal.header(JsonJournal.checksum(base))
+                                          .appendBuffer(JsonJournal.record(JsonMutation.write("/arr/-", 2)));
+        final JsonObject compacted = new JsonObject().put("arr", new JsonArray().add(1).add(2));
+        Files.write(file, compacted.toBuffer().getBytes());
+        Files.write(JsonJournal.path(file), journal.getBytes());
+        final JsonInput toQuery = JsonInput.builder().file("crashed").build();
+        JsonStorageService.create(tmp, cfg, JsonStorageService.class)
+                          .query(vertx, RequestData.builder().body(toQuery.toJson()).build())
+                          .onComplete(context.succeeding(r -> context.verify(() -> {
+                              Assertions.assertEquals(compacted, r.getJsonObject("data"));
+                              context.completeNow();
+                          })));
+    }
+
+    @Test
+    void test_journal_crash_between_compaction_and_journal_switch(Vertx vertx, VertxTestContext context)
+        throws IOException {
+        final JsonStorageConfig cfg = JsonStorageConfig.builder().journal(true).build();
+        final Path file = tmp.resolve("switched");
+        final Buffer base = new JsonObject().put("arr", new JsonArray().add(1)).toBuffer();
+        final Buffer compacted = new JsonObject().put("arr", new JsonArray().add(1).add(2)).toBuffer();
+        final Buffer journal = JsonJournal.header(JsonJournal.checksum(base))
+                                          .appendBuffer(JsonJournal.record(JsonMutation.write("/arr/-", 2)))
+                                          .appendBuffer(JsonJournal.record(JsonMutation.write("/arr/-", 3)));
+        // The record that comes while the snapshot is written is in both generations
+        final Buffer next = JsonJournal.header(JsonJournal.checksum(compacted))
+                                       .appendBuffer(JsonJournal.record(JsonMutation.write("/arr/-", 3)));
+        Files.write(file, compacted.getBytes());
+        Files.write(JsonJournal.path(file), journal.getBytes());
+        Files.write(JsonJournal.nextPath(file), next.getBytes());
+        final JsonInput toQuery = JsonInput.builder().file("switched").build();
+        JsonStorageService.create(tmp, cfg, JsonStorageService.class)
+                          .query(vertx, RequestData.builder().body(toQuery.toJson()).build())
+                          .onComplete(context.succeeding(r -> context.verify(() -> {
+                              Assertions.assertEquals(new JsonObject().put("arr", new JsonArray().add(1).add(2).add(3)),
+                                                      r.getJsonObject("data"));
+                              Assertions.assertFalse(JsonJournal.nextPath(file).toFile().exists());
+                              Assertions.assertEquals(next.length(), JsonJournal.path(file).toFile().length());
+                              context.completeNow();
+                          })));
+    }
+
+    @Test
+    void test_chunk(Vertx vertx, VertxTestContext context) {
+        final JsonStorageConfig cfg = JsonStorageConfig.builder().chunk(true).build();
+        final JsonStorageService service = JsonStorageService.create(tmp, cfg, JsonStorageService.class);
+        final Path dir = tmp.resolve("chunked");
+        final FileOption option = FileOption.builder().strict(false).build();
+        final JsonObject users = new JsonObject().put("u1", new JsonObject().put("name", "x"));
+        final JsonArray groups = new JsonArray().add("g1");
+        final JsonInput toInsertUser = JsonInput.builder()
+                                                .file("chunked")
+                                                .pointer("/users/u1")
+                                                .dataToInsert(users.getJsonObject("u1"))
+                                                .fileOption(option)
+                                                .build();
+        final JsonInput toInsertGroups = JsonInput.builder()
+                                                  .file("chunked")
+                                                  .pointer("/groups")
+                                                  .dataToInsert(groups)
+                                                  .fileOption(option)
+                                                  .build();
+        final JsonInput toQuery = JsonInput.builder().file("chunked").pointer("/users/u1/name").build();
+        final JsonInput toQueryAll = JsonInput.builder().file("chunked").build();
+        final JsonInput toRemove = JsonInput.builder().file("chunked").keyToRemove("groups").build();
+        service.createOrUpdate(vertx, RequestData.builder().body(toInsertUser.toJson()).build())
+               .flatMap(r -> service.createOrUpdate(vertx, RequestData.builder().body(toInsertGroups.toJson()).build()))
+               .flatMap(r -> service.query(vertx, RequestData.builder().body(toQuery.toJson()).build()))
+               .onSuccess(r -> context.verify(() -> {
+                   Assertions.assertEquals("x", r.getString("data"));
+                   final JsonObject manifest = JsonUtils.readAsJson(
+                       new FileInputStream(dir.resolve(JsonChunks.MANIFEST).toString()));
+                   Assertions.assertEquals(2, manifest.getJsonObject("chunks").size());
+                   final JsonObject chunk = JsonUtils.readAsJson(
+                       new FileInputStream(dir.resolve(JsonChunks.fileName("/users")).toString()));
+                   Assertions.assertEquals(new JsonObject().put("value", users), chunk);
+               }))
+               .flatMap(r -> service.query(vertx, RequestData.builder().body(toQueryAll.toJson()).build()))
+               .onSuccess(r -> context.verify(() -> Assertions.assertEquals(
+                   new JsonObject().put("users", users).put("groups", groups), r.getJsonObject("data"))))
+               .flatMap(r -> service.remove(vertx, RequestData.builder().body(toRemove.toJson()).build()))
+               .onSuccess(r -> context.verify(
+                   () -> Assertions.assertEquals(new JsonObject().put("groups", groups), r.getJsonObject("data"))))
+               .flatMap(r -> service.query(vertx, RequestData.builder().body(toQueryAll.toJson()).build()))
+               .onComplete(context.succeeding(r -> context.verify(() -> {
+                   Assertions.assertEquals(new JsonObject().put("users", users), r.getJsonObject("data"));
+                   context.completeNow();
+               })));
+    }
+
+    private Future<JsonObject> updateSequentially(Vertx vertx, JsonStorageService service, String file,
+                                                  FileOption option, int count) {
+        Future<JsonObject> future = Future.succeededFuture();
+        for (int i = 0; i < count; i++) {
+            final JsonInput ji = JsonInput.builder()
+                                          .file(file)
+                                          .pointer("/k" + i)
+                                          .dataToInsert(i)
+                                          .fileOption(option)
+                                          .build();
+            final RequestData req = RequestData.builder().body(ji.toJson()).build();
+            future = future.flatMap(r -> service.createOrUpdate(vertx, req));
+        }
+        return future;
+    }
+
 }